@@ -0,0 +1,60 @@
+package io.arrogantprogrammer.agenda;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AgendaService#groupByTimeSlot} over a three-day, five-track agenda.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AgendaServiceBenchmark {
+
+    AgendaService agendaService;
+    List<AgendaItem> items;
+
+    @Setup
+    public void setUp() {
+        agendaService = new AgendaService(null);
+        items = new ArrayList<>();
+        LocalDateTime firstSlot = LocalDateTime.of(2025, 5, 14, 9, 0);
+        long id = 0;
+        for (int day = 0; day < 3; day++) {
+            for (int slot = 0; slot < 8; slot++) {
+                for (int track = 1; track <= 5; track++) {
+                    AgendaItem item = new AgendaItem();
+                    item.sessionId = ++id;
+                    item.title = "Session " + id;
+                    item.startTime = firstSlot.plusDays(day).plusHours(slot);
+                    item.endTime = item.startTime.plusMinutes(45);
+                    item.room = "Track " + track;
+                    item.speakers = List.of();
+                    items.add(item);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public Map<LocalDateTime, List<AgendaItem>> groupByTimeSlot() {
+        return agendaService.groupByTimeSlot(items);
+    }
+}
@@ -0,0 +1,60 @@
+package io.arrogantprogrammer.cfp.domain.valueobjects;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation on construction and {@link SessionAbstract#getPreview()} for a summary short enough to
+ * be returned whole and one that gets truncated.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SessionAbstractBenchmark {
+
+    String shortSummary;
+    String longSummary;
+    SessionAbstract shortAbstract;
+    SessionAbstract longAbstract;
+
+    @Setup
+    public void setUp() {
+        shortSummary = "A tour of the Kafka producer settings that matter.";
+        longSummary = "Most services never look past the defaults. ".repeat(20);
+        shortAbstract = create(shortSummary);
+        longAbstract = create(longSummary);
+    }
+
+    @Benchmark
+    public SessionAbstract validate() {
+        return create(longSummary);
+    }
+
+    @Benchmark
+    public String previewShort() {
+        return shortAbstract.getPreview();
+    }
+
+    @Benchmark
+    public String previewLong() {
+        return longAbstract.getPreview();
+    }
+
+    private static SessionAbstract create(String summary) {
+        return new SessionAbstract("Tuning Kafka Producers", summary, "Batching; compression; idempotence",
+                "Pick producer settings with evidence", "Backend developers", "None");
+    }
+}
@@ -0,0 +1,66 @@
+package io.arrogantprogrammer.cfp.infrastructure.persistence;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Speaker searches against a {@link SpeakerTermIndex} of generated speakers: a prefix as typed, an
+ * exact two-word name and a misspelt surname.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpeakerTermIndexBenchmark {
+
+    private static final String[] FIRST_NAMES = {"Jane", "John", "Maria", "Ahmed", "Wei", "Olga", "Pedro", "Aisha"};
+    private static final String[] LAST_NAMES = {"Doe", "Smith", "Garcia", "Khan", "Zhang", "Ivanova", "Silva", "Okafor",
+            "Johnson", "Müller", "Rossi", "Kowalski"};
+    private static final String[] COMPANIES = {"Acme Corp", "Red Hat", "Initech", "Globex", "Umbrella", "Hooli"};
+    private static final String[] TITLES = {"Engineer", "Architect", "Developer Advocate", "CTO", "Consultant"};
+
+    @Param({"1000", "10000"})
+    int speakers;
+
+    SpeakerTermIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new SpeakerTermIndex();
+        for (long id = 1; id <= speakers; id++) {
+            index.put(id, FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                    LAST_NAMES[random.nextInt(LAST_NAMES.length)] + (id % 97 == 0 ? "" : "-" + id),
+                    COMPANIES[random.nextInt(COMPANIES.length)], TITLES[random.nextInt(TITLES.length)]);
+        }
+    }
+
+    @Benchmark
+    public long[] prefix() {
+        return index.search("joh", 50);
+    }
+
+    @Benchmark
+    public long[] fullName() {
+        return index.search("jane doe", 50);
+    }
+
+    @Benchmark
+    public long[] typo() {
+        return index.search("kowalsky", 50);
+    }
+}
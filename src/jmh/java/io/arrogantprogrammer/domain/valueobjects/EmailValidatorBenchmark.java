@@ -0,0 +1,55 @@
+package io.arrogantprogrammer.domain.valueobjects;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * {@link EmailValidator} against the regex it replaced, on a typical address, one with a bad top-level
+ * domain and a long run of dotted local-part segments that makes the regex backtrack.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailValidatorBenchmark {
+
+    @Param({"typical", "badTopLevelDomain", "longLocalPart"})
+    String input;
+
+    Pattern regex;
+    String email;
+
+    @Setup
+    public void setUp() {
+        regex = Pattern.compile(EmailValidator.REFERENCE_PATTERN);
+        email = switch (input) {
+            case "typical" -> "jane.attendee+conference@mail.example.com";
+            case "badTopLevelDomain" -> "jane.attendee+conference@mail.example.c0m";
+            default -> "a.".repeat(120) + "a@example";
+        };
+    }
+
+    @Benchmark
+    public boolean regex() {
+        return regex.matcher(email).matches();
+    }
+
+    @Benchmark
+    public boolean validator() {
+        return EmailValidator.isValid(email);
+    }
+}
@@ -0,0 +1,57 @@
+package io.arrogantprogrammer.domain.valueobjects;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construction cost of the shared value objects, including {@link Email} validation and the rejection
+ * path, which pays for building an exception. See {@link EmailValidatorBenchmark} for the validation alone.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValueObjectBenchmark {
+
+    String validEmail;
+    String invalidEmail;
+    String fullName;
+
+    @Setup
+    public void setUp() {
+        validEmail = "jane.attendee+conference@mail.example.com";
+        invalidEmail = "jane.attendee@example";
+        fullName = "  Jane   van der Attendee ";
+    }
+
+    @Benchmark
+    public Email emailValid() {
+        return new Email(validEmail);
+    }
+
+    @Benchmark
+    public Object emailInvalid() {
+        try {
+            return new Email(invalidEmail);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Name nameFromFullName() {
+        return Name.fromFullName(fullName);
+    }
+}
@@ -0,0 +1,72 @@
+package io.arrogantprogrammer.events;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode/decode cost of an {@link AttendeeRegistered} in the String-based JSON path the consumers
+ * used to take, the byte-based JSON format and the binary format. Bytes per event are printed once
+ * per fork.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventFormatBenchmark {
+
+    AttendeeRegistered event;
+    byte[] json;
+    byte[] binary;
+
+    @Setup
+    public void setUp() {
+        event = new AttendeeRegistered(48213L, "Jane Attendee", "jane.attendee@example.com", "Acme Corp",
+                "M", "Vegetarian", "@jane_attends");
+        json = JsonEventFormat.INSTANCE.encode(event);
+        binary = BinaryEventFormat.INSTANCE.encode(event);
+        System.out.printf("%nbytes per event: json=%d binary=%d%n", json.length, binary.length);
+    }
+
+    @Benchmark
+    public byte[] encodeJsonString() {
+        return EventSerializer.serialize(event).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() {
+        return JsonEventFormat.INSTANCE.encode(event);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return BinaryEventFormat.INSTANCE.encode(event);
+    }
+
+    @Benchmark
+    public AttendeeRegistered decodeJsonString() {
+        return EventSerializer.deserialize(new String(json, StandardCharsets.UTF_8), AttendeeRegistered.class);
+    }
+
+    @Benchmark
+    public AttendeeRegistered decodeJson() {
+        return JsonEventFormat.INSTANCE.decode(json, AttendeeRegistered.class);
+    }
+
+    @Benchmark
+    public AttendeeRegistered decodeBinary() {
+        return BinaryEventFormat.INSTANCE.decode(binary, AttendeeRegistered.class);
+    }
+}
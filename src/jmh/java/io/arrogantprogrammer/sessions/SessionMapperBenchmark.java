@@ -0,0 +1,63 @@
+package io.arrogantprogrammer.sessions;
+
+import io.arrogantprogrammer.speakers.SocialMedia;
+import io.arrogantprogrammer.speakers.Speaker;
+import io.arrogantprogrammer.speakers.SpeakerMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SessionMapper#toDTO} for a session with two speakers, each with social media.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SessionMapperBenchmark {
+
+    SessionMapper mapper;
+    Session session;
+
+    @Setup
+    public void setUp() {
+        mapper = new SessionMapper();
+        mapper.speakerMapper = new SpeakerMapper();
+        session = new Session();
+        session.id = 1L;
+        session.title = "Tuning Kafka Producers";
+        session.description = "Batching, compression and idempotence, measured.";
+        session.startTime = LocalDateTime.of(2025, 5, 14, 10, 0);
+        session.endTime = session.startTime.plusMinutes(45);
+        session.room = "Track 1";
+        for (long id = 1; id <= 2; id++) {
+            Speaker speaker = new Speaker();
+            speaker.id = id;
+            speaker.name = "Speaker " + id;
+            speaker.company = "Acme Corp";
+            SocialMedia socialMedia = new SocialMedia();
+            socialMedia.id = id;
+            socialMedia.platform = "github";
+            socialMedia.handle = "speaker" + id;
+            speaker.socialMedia.add(socialMedia);
+            session.speakerEntities.add(speaker);
+        }
+    }
+
+    @Benchmark
+    public SessionDTO toDTO() {
+        return mapper.toDTO(session);
+    }
+}
@@ -0,0 +1,59 @@
+package io.arrogantprogrammer.social;
+
+import io.arrogantprogrammer.events.AttendeeRegistered;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering the default welcome post with a compiled {@link WelcomeTemplate}, into a fresh or a
+ * reused buffer, against the {@code String.format} it replaced.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WelcomeTemplateBenchmark {
+
+    WelcomeTemplate template;
+    AttendeeRegistered event;
+    StringBuilder buffer;
+
+    @Setup
+    public void setUp() {
+        template = WelcomeTemplate.compile(WelcomeTemplates.DEFAULT_TEMPLATE);
+        event = new AttendeeRegistered(1L, "Jane Doe", "jane@example.com", "Acme Corp", "M", "Vegan", "@janedoe");
+        buffer = new StringBuilder(template.capacityHint());
+    }
+
+    @Benchmark
+    public String stringFormat() {
+        return String.format(
+                "Welcome %s to our conference! We're excited to have you join us. " +
+                "Don't forget to follow us for updates and connect with other attendees at %s",
+                event.getName(), event.getSocialMedia());
+    }
+
+    @Benchmark
+    public String render() {
+        return template.render(event);
+    }
+
+    @Benchmark
+    public String renderIntoReusedBuffer() {
+        buffer.setLength(0);
+        template.renderTo(buffer, event);
+        return buffer.toString();
+    }
+}
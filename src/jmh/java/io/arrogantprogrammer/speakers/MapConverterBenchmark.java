@@ -0,0 +1,53 @@
+package io.arrogantprogrammer.speakers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MapConverter} to and from the JSON column, for a typical map of social links.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapConverterBenchmark {
+
+    MapConverter converter;
+    Map<String, String> map;
+    String json;
+
+    @Setup
+    public void setUp() {
+        converter = new MapConverter();
+        map = Map.of("twitter", "@speaker", "linkedin", "in/speaker", "github", "speaker", "mastodon", "@speaker@fosstodon.org");
+        json = converter.convertToDatabaseColumn(map);
+    }
+
+    @Benchmark
+    public String toDatabaseColumn() {
+        return converter.convertToDatabaseColumn(map);
+    }
+
+    @Benchmark
+    public Map<String, String> toEntityAttribute() {
+        return converter.convertToEntityAttribute(json);
+    }
+
+    @Benchmark
+    public Map<String, String> roundTrip() {
+        return converter.convertToEntityAttribute(converter.convertToDatabaseColumn(map));
+    }
+}
@@ -0,0 +1,59 @@
+package io.arrogantprogrammer.speakers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SpeakerMapper#toDTO} for a speaker with three social media accounts.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpeakerMapperBenchmark {
+
+    SpeakerMapper mapper;
+    Speaker speaker;
+
+    @Setup
+    public void setUp() {
+        mapper = new SpeakerMapper();
+        speaker = speaker(1L);
+    }
+
+    @Benchmark
+    public SpeakerDTO toDTO() {
+        return mapper.toDTO(speaker);
+    }
+
+    private static Speaker speaker(Long id) {
+        Speaker speaker = new Speaker();
+        speaker.id = id;
+        speaker.name = "Speaker " + id;
+        speaker.title = "Principal Engineer";
+        speaker.company = "Acme Corp";
+        speaker.bio = "Builds event-driven systems and writes about the trade-offs.";
+        speaker.headshot = "https://example.com/headshots/" + id + ".jpg";
+        for (String platform : new String[]{"twitter", "linkedin", "github"}) {
+            SocialMedia socialMedia = new SocialMedia();
+            socialMedia.id = id * 10 + speaker.socialMedia.size();
+            socialMedia.platform = platform;
+            socialMedia.handle = "speaker" + id;
+            socialMedia.speaker = speaker;
+            speaker.socialMedia.add(socialMedia);
+        }
+        return speaker;
+    }
+}
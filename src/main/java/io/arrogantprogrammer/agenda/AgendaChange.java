@@ -0,0 +1,22 @@
+package io.arrogantprogrammer.agenda;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.LocalDateTime;
+
+/**
+ * Compact delta pushed to agenda stream subscribers. {@code sequence} increases by one per change
+ * so clients can spot gaps (e.g. after a dropped event) and fall back to a full {@code GET /api/agenda}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AgendaChange(long sequence, Type type, Long sessionId, Long speakerId,
+                           LocalDateTime startTime, LocalDateTime endTime, String room) {
+
+    public enum Type {
+        SESSION_ADDED,
+        SESSION_REMOVED,
+        SESSION_MOVED,
+        ROOM_CHANGED,
+        SPEAKER_ADDED,
+        SPEAKER_REMOVED
+    }
+}
@@ -0,0 +1,92 @@
+package io.arrogantprogrammer.agenda;
+
+import io.arrogantprogrammer.sessions.SessionChangedEvent;
+import io.quarkus.logging.Log;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
+import io.smallrye.mutiny.operators.multi.processors.SerializedProcessor;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Single shared fan-out point for committed agenda changes. Every subscriber gets its own bounded
+ * buffer; when a slow client fills it the configured policy either drops the newest events for that
+ * client or terminates its stream so the client reconnects and refetches the agenda.
+ * <p>
+ * Transactions commit on many threads. Changes are numbered and emitted under one lock, so every
+ * subscriber sees them one at a time and in sequence order.
+ */
+@ApplicationScoped
+public class AgendaChangeBroadcaster {
+
+    public enum OverflowPolicy {
+        DROP,
+        DISCONNECT
+    }
+
+    private final SerializedProcessor<AgendaChange, AgendaChange> processor = BroadcastProcessor.<AgendaChange>create().serialized();
+    private final Object emitLock = new Object();
+    private long sequence;
+    private final AtomicInteger subscribers = new AtomicInteger();
+
+    @ConfigProperty(name = "conference.agenda.stream.buffer-size", defaultValue = "256")
+    int bufferSize;
+
+    @ConfigProperty(name = "conference.agenda.stream.overflow-policy", defaultValue = "DISCONNECT")
+    OverflowPolicy overflowPolicy;
+
+    public Multi<AgendaChange> subscribe() {
+        // DROP: the emitOn queue holds up to bufferSize events, anything arriving while it is full is discarded.
+        // DISCONNECT: the overflow buffer fails with a BackPressureFailure once full, ending the SSE response;
+        // emitOn takes one event at a time from it, so it alone bounds what a slow client holds.
+        Multi<AgendaChange> bounded = overflowPolicy == OverflowPolicy.DROP
+                ? processor.onOverflow().drop().emitOn(Infrastructure.getDefaultWorkerPool(), bufferSize)
+                : processor.onOverflow().buffer(bufferSize).emitOn(Infrastructure.getDefaultWorkerPool(), 1);
+        return bounded
+                .onSubscription().invoke(() -> Log.debugf("Agenda stream subscriber connected (%d active)", subscribers.incrementAndGet()))
+                .onTermination().invoke(() -> Log.debugf("Agenda stream subscriber gone (%d active)", subscribers.decrementAndGet()));
+    }
+
+    public int subscriberCount() {
+        return subscribers.get();
+    }
+
+    void onSessionChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) SessionChangedEvent event) {
+        synchronized (emitLock) {
+            for (AgendaChange change : toChanges(event)) {
+                processor.onNext(change);
+            }
+        }
+    }
+
+    private List<AgendaChange> toChanges(SessionChangedEvent event) {
+        List<AgendaChange> changes = new ArrayList<>(2);
+        switch (event.kind()) {
+            case CREATED -> changes.add(change(AgendaChange.Type.SESSION_ADDED, event));
+            case DELETED -> changes.add(change(AgendaChange.Type.SESSION_REMOVED, event));
+            case SPEAKER_ADDED -> changes.add(change(AgendaChange.Type.SPEAKER_ADDED, event));
+            case SPEAKER_REMOVED -> changes.add(change(AgendaChange.Type.SPEAKER_REMOVED, event));
+            case UPDATED -> {
+                if (event.timeChanged()) {
+                    changes.add(change(AgendaChange.Type.SESSION_MOVED, event));
+                }
+                if (event.roomChanged()) {
+                    changes.add(change(AgendaChange.Type.ROOM_CHANGED, event));
+                }
+            }
+        }
+        return changes;
+    }
+
+    // called with emitLock held
+    private AgendaChange change(AgendaChange.Type type, SessionChangedEvent event) {
+        return new AgendaChange(++sequence, type, event.sessionId(), event.speakerId(),
+                event.startTime(), event.endTime(), event.room());
+    }
+}
@@ -1,10 +1,15 @@
 package io.arrogantprogrammer.agenda;
 
+import io.arrogantprogrammer.sharedkernel.http.ConditionalGet;
+import io.smallrye.mutiny.Multi;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
 import java.time.LocalDate;
-import java.util.List;
+import org.jboss.resteasy.reactive.RestStreamElementType;
 
 @Path("/api/agenda")
 @Produces(MediaType.APPLICATION_JSON)
@@ -12,21 +17,40 @@ public class AgendaResource {
     @Inject
     AgendaService agendaService;
 
+    @Inject
+    ConditionalGet conditionalGet;
+
+    @Inject
+    AgendaChangeBroadcaster agendaChangeBroadcaster;
+
+    // ETags come from the snapshot version, so the tag always describes exactly the data served
+
     @GET
-    public List<AgendaItem> getFullAgenda() {
-        return agendaService.getFullAgenda();
+    public Response getFullAgenda(@Context Request request) {
+        AgendaSnapshot snapshot = agendaService.currentSnapshot();
+        return conditionalGet.respond(request, "agenda", snapshot.getVersion(), snapshot::getItems);
     }
 
     @GET
     @Path("/day/{date}")
-    public List<AgendaItem> getAgendaForDay(@PathParam("date") String date) {
+    public Response getAgendaForDay(@PathParam("date") String date, @Context Request request) {
         LocalDate localDate = LocalDate.parse(date);
-        return agendaService.getAgendaForDay(localDate);
+        AgendaSnapshot snapshot = agendaService.currentSnapshot();
+        return conditionalGet.respond(request, "agenda", snapshot.getVersion(), () -> snapshot.forDay(localDate));
     }
 
     @GET
     @Path("/track/{track}")
-    public List<AgendaItem> getAgendaForTrack(@PathParam("track") String track) {
-        return agendaService.getAgendaForTrack(track);
+    public Response getAgendaForTrack(@PathParam("track") String track, @Context Request request) {
+        AgendaSnapshot snapshot = agendaService.currentSnapshot();
+        return conditionalGet.respond(request, "agenda", snapshot.getVersion(), () -> snapshot.forRoom(track));
+    }
+
+    @GET
+    @Path("/stream")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    public Multi<AgendaChange> streamChanges() {
+        return agendaChangeBroadcaster.subscribe();
     }
-} 
\ No newline at end of file
+}
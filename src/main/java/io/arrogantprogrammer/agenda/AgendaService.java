@@ -1,58 +1,141 @@
 package io.arrogantprogrammer.agenda;
 
-import io.arrogantprogrammer.sessions.Session;
+import io.arrogantprogrammer.sessions.SessionChangedEvent;
+import io.arrogantprogrammer.sessions.SessionDTO;
 import io.arrogantprogrammer.sessions.SessionRepository;
-import io.arrogantprogrammer.speakers.Speaker;
+import io.arrogantprogrammer.sharedkernel.http.CollectionChangedEvent;
+import io.arrogantprogrammer.sharedkernel.http.CollectionVersions;
+import io.arrogantprogrammer.speakers.SpeakerDTO;
+import io.quarkus.logging.Log;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
 import jakarta.inject.Inject;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 @ApplicationScoped
 public class AgendaService {
     SessionRepository sessionRepository;
 
+    private final AtomicReference<AgendaSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong snapshotVersions = new AtomicLong();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private final Object rebuildLock = new Object();
+    private ExecutorService rebuildExecutor;
+
     @Inject
     public AgendaService(SessionRepository sessionRepository) {
         this.sessionRepository = sessionRepository;
     }
 
+    @PostConstruct
+    void startRebuildExecutor() {
+        rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "agenda-snapshot-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stopRebuildExecutor() {
+        rebuildExecutor.shutdownNow();
+    }
+
     public List<AgendaItem> getFullAgenda() {
-        List<Session> sessions = sessionRepository.find("ORDER BY startTime").list();
-        return sessions.stream().map(this::toAgendaItem).collect(Collectors.toList());
+        return currentSnapshot().getItems();
     }
 
     public List<AgendaItem> getAgendaForDay(LocalDate date) {
-        List<Session> sessions = sessionRepository.find("startTime >= ?1 AND startTime < ?2 ORDER BY startTime",
-                date.atStartOfDay(), date.plusDays(1).atStartOfDay()).list();
-        return sessions.stream().map(this::toAgendaItem).collect(Collectors.toList());
+        return currentSnapshot().forDay(date);
     }
 
     public List<AgendaItem> getAgendaForTrack(String track) {
-        List<Session> sessions = sessionRepository.find("room = ?1 ORDER BY startTime", track).list();
-        return sessions.stream().map(this::toAgendaItem).collect(Collectors.toList());
+        return currentSnapshot().forRoom(track);
     }
 
     public Map<LocalDateTime, List<AgendaItem>> groupByTimeSlot(List<AgendaItem> items) {
         return items.stream().collect(Collectors.groupingBy(item -> item.startTime));
     }
 
-    private AgendaItem toAgendaItem(Session session) {
+    /**
+     * Returns the current agenda snapshot, building it on first access.
+     */
+    public AgendaSnapshot currentSnapshot() {
+        AgendaSnapshot current = snapshot.get();
+        return current != null ? current : rebuildSnapshot();
+    }
+
+    /**
+     * Loads all sessions and atomically replaces the current snapshot.
+     * Rebuilds are serialized so an older build can never overwrite a newer one.
+     */
+    public AgendaSnapshot rebuildSnapshot() {
+        synchronized (rebuildLock) {
+            List<AgendaItem> items = QuarkusTransaction.joiningExisting().call(() ->
+                    sessionRepository.listAllWithSpeakers().stream()
+                            .map(this::toAgendaItem)
+                            .collect(Collectors.toList()));
+            AgendaSnapshot rebuilt = new AgendaSnapshot(snapshotVersions.incrementAndGet(), items);
+            snapshot.set(rebuilt);
+            Log.debugf("Rebuilt agenda snapshot version %d with %d items", rebuilt.getVersion(), items.size());
+            return rebuilt;
+        }
+    }
+
+    void onSessionChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) SessionChangedEvent event) {
+        scheduleRebuild();
+    }
+
+    // agenda items embed speaker names, so committed speaker edits also invalidate the snapshot
+    void onCollectionChanged(@Observes CollectionChangedEvent event) {
+        if (CollectionVersions.SPEAKERS.equals(event.collection())) {
+            scheduleRebuild();
+        }
+    }
+
+    /**
+     * Queues a background rebuild. Bursts of changes collapse into a single rebuild; a change that
+     * arrives while a rebuild is running schedules exactly one more.
+     */
+    void scheduleRebuild() {
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                rebuildScheduled.set(false);
+                try {
+                    rebuildSnapshot();
+                } catch (Exception e) {
+                    Log.error("Failed to rebuild agenda snapshot", e);
+                }
+            });
+        }
+    }
+
+    private AgendaItem toAgendaItem(SessionDTO session) {
         AgendaItem item = new AgendaItem();
         item.sessionId = session.id;
         item.title = session.title;
         item.startTime = session.startTime;
         item.endTime = session.endTime;
         item.room = session.room;
-        item.speakers = session.speakerEntities == null ? List.of() : session.speakerEntities.stream().map(this::toSpeakerDTO).collect(Collectors.toList());
+        item.speakers = session.speakers == null ? List.of() : session.speakers.stream().map(this::toSpeakerDTO).collect(Collectors.toList());
         item.keynote = isKeynote(session);
         item.isBreak = isBreak(session);
         return item;
     }
 
-    private AgendaSpeakerDTO toSpeakerDTO(Speaker speaker) {
+    private AgendaSpeakerDTO toSpeakerDTO(SpeakerDTO speaker) {
         AgendaSpeakerDTO dto = new AgendaSpeakerDTO();
         dto.name = speaker.name;
         dto.title = speaker.title;
@@ -60,15 +143,15 @@ public class AgendaService {
         return dto;
     }
 
-    private boolean isKeynote(Session session) {
+    private boolean isKeynote(SessionDTO session) {
         return session.title != null && session.title.toLowerCase().contains("keynote");
     }
 
-    private boolean isBreak(Session session) {
+    private boolean isBreak(SessionDTO session) {
         return session.title != null && (
             session.title.toLowerCase().contains("break") ||
             session.title.toLowerCase().contains("lunch") ||
             session.title.toLowerCase().contains("coffee")
         );
     }
-} 
\ No newline at end of file
+}
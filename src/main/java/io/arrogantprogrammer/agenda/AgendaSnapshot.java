@@ -0,0 +1,55 @@
+package io.arrogantprogrammer.agenda;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Immutable, versioned copy of the full agenda with prebuilt per-day and per-room views.
+ * A new snapshot is built whenever sessions change; readers never touch the database.
+ */
+public final class AgendaSnapshot {
+
+    private final long version;
+    private final List<AgendaItem> items;
+    private final Map<LocalDate, List<AgendaItem>> byDay;
+    private final Map<String, List<AgendaItem>> byRoom;
+
+    AgendaSnapshot(long version, List<AgendaItem> items) {
+        this.version = version;
+        this.items = List.copyOf(items);
+        this.byDay = index(this.items, item -> item.startTime == null ? null : item.startTime.toLocalDate());
+        this.byRoom = index(this.items, item -> item.room);
+    }
+
+    private static <K> Map<K, List<AgendaItem>> index(List<AgendaItem> items, Function<AgendaItem, K> keyFunction) {
+        Map<K, List<AgendaItem>> grouped = new HashMap<>();
+        for (AgendaItem item : items) {
+            K key = keyFunction.apply(item);
+            if (key != null) {
+                grouped.computeIfAbsent(key, k -> new ArrayList<>()).add(item);
+            }
+        }
+        grouped.replaceAll((key, list) -> List.copyOf(list));
+        return Map.copyOf(grouped);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<AgendaItem> getItems() {
+        return items;
+    }
+
+    public List<AgendaItem> forDay(LocalDate day) {
+        return byDay.getOrDefault(day, List.of());
+    }
+
+    public List<AgendaItem> forRoom(String room) {
+        return byRoom.getOrDefault(room, List.of());
+    }
+}
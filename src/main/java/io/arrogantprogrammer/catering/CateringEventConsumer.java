@@ -1,39 +1,66 @@
 package io.arrogantprogrammer.catering;
 
+import io.arrogantprogrammer.events.AttendeeRegistered;
+import io.arrogantprogrammer.events.BatchMetrics;
+import io.arrogantprogrammer.events.RegistrationBatch;
 import io.quarkus.logging.Log;
-import io.smallrye.mutiny.Uni;
 import io.smallrye.reactive.messaging.annotations.Blocking;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.eclipse.microprofile.reactive.messaging.Incoming;
 import org.eclipse.microprofile.reactive.messaging.Message;
 
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
 @ApplicationScoped
 public class CateringEventConsumer {
 
     @Inject
     CateringService cateringService;
 
+    @Inject
+    BatchMetrics batchMetrics;
+
     @Incoming("attendee-registrations-catering")
     @Blocking
-    public Uni<Void> consume(Message<String> message) {
+    public CompletionStage<Void> consume(Message<AttendeeRegistered> message) {
+        AttendeeRegistered event = message.getPayload();
+        if (event == null) {
+            // undeserializable record, the failure strategy moves it to the dead-letter topic
+            return message.nack(new IllegalArgumentException("Malformed attendee registration event"));
+        }
         try {
-            String eventJson = message.getPayload();
-            Log.info("Received attendee registration event: " + eventJson);
-            
-            // Parse the event and create dietary requirement
-            // This is a simplified example - you'll need to implement proper JSON parsing
-            String preference = "Standard"; // Default preference
-            String specialRequests = null;
-            
-            // Create dietary requirement
-            cateringService.createDietaryRequirement(1L, preference, specialRequests);
-            
-            message.ack();
+            String preference = event.getDietaryPreference() != null ? event.getDietaryPreference() : "Standard";
+            cateringService.createDietaryRequirement(event.getAttendeeId(), preference, null);
+            Log.debugf("Created dietary requirement for attendee %d", event.getAttendeeId());
+            return message.ack();
         } catch (Exception e) {
             Log.error("Error processing attendee registration event", e);
-            message.nack(e);
+            return message.nack(e);
+        }
+    }
+
+    /**
+     * Batch mode, enabled through the {@code attendee-registrations-catering-batch} channel. The whole
+     * poll is inserted in one transaction and acknowledged together once this returns. Records that
+     * could not be deserialized are nacked one by one on the way, which moves them to the dead-letter
+     * topic; if the insert fails, the whole poll goes there.
+     */
+    @Incoming("attendee-registrations-catering-batch")
+    @Blocking
+    public CompletionStage<Void> consumeBatch(Message<List<AttendeeRegistered>> message) {
+        RegistrationBatch batch = RegistrationBatch.of(message);
+        long start = System.nanoTime();
+        int created;
+        try {
+            created = cateringService.createDietaryRequirements(batch.registrations());
+        } catch (Exception e) {
+            Log.error("Error processing batch of attendee registration events", e);
+            return batch.nack(e);
         }
-        return null;
+        batchMetrics.record("catering", batch, System.nanoTime() - start);
+        Log.debugf("Processed batch of %d attendee registration events (%d persisted)", batch.size(), created);
+        return batch.ack();
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,72 @@
+package io.arrogantprogrammer.catering;
+
+import io.arrogantprogrammer.sharedkernel.transactions.TransactionCallbacks;
+import io.quarkus.logging.Log;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.interceptor.Interceptor;
+import jakarta.persistence.EntityManager;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Number of meals per dietary preference, kept in memory so the kitchen summary never scans
+ * {@code dietary_requirements}. The counters are rebuilt from the table once at startup, before the
+ * Kafka consumers start, and from then on only move when a transaction that inserted requirements
+ * commits. Each preference has its own {@link LongAdder}, so concurrent consumers do not contend on
+ * a single counter.
+ */
+@ApplicationScoped
+public class CateringHeadcount {
+
+    private final Map<String, LongAdder> meals = new ConcurrentHashMap<>();
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    TransactionCallbacks transactionCallbacks;
+
+    void rebuild(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEvent event) {
+        Map<String, Long> counts = QuarkusTransaction.requiringNew().call(() -> {
+            Map<String, Long> result = new TreeMap<>();
+            entityManager.createQuery(
+                            "SELECT d.preference, COUNT(d) FROM DietaryRequirement d GROUP BY d.preference", Object[].class)
+                    .getResultList()
+                    .forEach(row -> result.put((String) row[0], (Long) row[1]));
+            return result;
+        });
+        meals.clear();
+        counts.forEach((preference, count) -> counter(preference).add(count));
+        Log.debugf("Rebuilt catering headcount: %s", counts);
+    }
+
+    /**
+     * Counts the given preferences once the current transaction commits; nothing is counted if it
+     * rolls back.
+     */
+    public void recorded(Collection<String> preferences) {
+        transactionCallbacks.afterCommit(() -> preferences.forEach(preference -> counter(preference).increment()));
+    }
+
+    /**
+     * Meals per preference, sorted by preference. Reads the counters only; the cost depends on the
+     * number of distinct preferences, not the number of attendees.
+     */
+    public Map<String, Long> summary() {
+        Map<String, Long> summary = new TreeMap<>();
+        meals.forEach((preference, count) -> summary.put(preference, count.sum()));
+        return summary;
+    }
+
+    private LongAdder counter(String preference) {
+        return meals.computeIfAbsent(preference, p -> new LongAdder());
+    }
+}
@@ -1,23 +1,54 @@
 package io.arrogantprogrammer.catering;
 
+import io.arrogantprogrammer.sharedkernel.export.ExportColumn;
+import io.arrogantprogrammer.sharedkernel.export.StreamingExport;
+import io.arrogantprogrammer.sharedkernel.pagination.PageLinks;
+import io.arrogantprogrammer.sharedkernel.pagination.PageParams;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
 import java.util.List;
+import java.util.Map;
 
 @Path("/api/catering")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 public class CateringResource {
 
+    private static final List<ExportColumn<DietaryRequirement>> DIETARY_REQUIREMENT_COLUMNS = List.of(
+            ExportColumn.of("id", DietaryRequirement::getId),
+            ExportColumn.of("attendee_id", DietaryRequirement::getAttendeeId),
+            ExportColumn.of("preference", DietaryRequirement::getPreference),
+            ExportColumn.of("special_requests", DietaryRequirement::getSpecialRequests),
+            ExportColumn.of("created_at", DietaryRequirement::getCreatedAt));
+
     @Inject
     CateringService cateringService;
 
+    @Inject
+    StreamingExport streamingExport;
+
     @GET
     @Path("/dietary")
-    public List<DietaryRequirement> getAllDietaryRequirements() {
-        return cateringService.getAllDietaryRequirements();
+    public Response getAllDietaryRequirements(@Context UriInfo uriInfo, @BeanParam PageParams page) {
+        return PageLinks.ok(cateringService.getDietaryRequirements(page.toRequest()), uriInfo);
+    }
+
+    @GET
+    @Path("/dietary/export")
+    @Produces({"application/x-ndjson", "text/csv"})
+    public Response exportDietaryRequirements(@QueryParam("format") String format) {
+        return streamingExport.export("dietary-requirements", StreamingExport.format(format),
+                cateringService::streamDietaryRequirements, DIETARY_REQUIREMENT_COLUMNS);
+    }
+
+    @GET
+    @Path("/summary")
+    public Map<String, Long> getSummary() {
+        return cateringService.getSummary();
     }
 
     @GET
@@ -1,13 +1,28 @@
 package io.arrogantprogrammer.catering;
 
+import io.arrogantprogrammer.events.AttendeeRegistered;
+import io.arrogantprogrammer.sharedkernel.pagination.Cursor;
+import io.arrogantprogrammer.sharedkernel.pagination.CursorPage;
+import io.arrogantprogrammer.sharedkernel.pagination.PageRequest;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import io.quarkus.panache.common.Sort;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import java.sql.PreparedStatement;
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
 
 @ApplicationScoped
 public class CateringService implements PanacheRepository<DietaryRequirement> {
 
+    @Inject
+    CateringHeadcount headcount;
+
     @Transactional
     public DietaryRequirement createDietaryRequirement(Long attendeeId, String preference, String specialRequests) {
         DietaryRequirement requirement = new DietaryRequirement();
@@ -15,11 +30,64 @@ public class CateringService implements PanacheRepository<DietaryRequirement> {
         requirement.setPreference(preference);
         requirement.setSpecialRequests(specialRequests);
         persist(requirement);
+        headcount.recorded(List.of(preference));
         return requirement;
     }
 
-    public List<DietaryRequirement> getAllDietaryRequirements() {
-        return listAll();
+    /**
+     * Inserts one dietary requirement per registration as a single JDBC batch. IDENTITY ids rule out
+     * Hibernate's own insert batching, so this bypasses the persistence context.
+     */
+    @Transactional
+    public int createDietaryRequirements(List<AttendeeRegistered> registrations) {
+        if (registrations.isEmpty()) {
+            return 0;
+        }
+        List<String> preferences = registrations.stream()
+                .map(registration -> registration.getDietaryPreference() != null ? registration.getDietaryPreference() : "Standard")
+                .toList();
+        int created = getEntityManager().unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO dietary_requirements (attendee_id, preference, special_requests, created_at) VALUES (?, ?, ?, ?)")) {
+                OffsetDateTime now = OffsetDateTime.now();
+                for (int i = 0; i < registrations.size(); i++) {
+                    insert.setObject(1, registrations.get(i).getAttendeeId());
+                    insert.setString(2, preferences.get(i));
+                    insert.setString(3, null);
+                    insert.setObject(4, now);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+                return registrations.size();
+            }
+        });
+        headcount.recorded(preferences);
+        return created;
+    }
+
+    public CursorPage<DietaryRequirement> getDietaryRequirements(PageRequest page) {
+        return CursorPage.of(find(page.seek("") + page.orderBy(""), page.parameters())
+                        .page(0, page.fetchSize())
+                        .list(),
+                page, row -> Cursor.of(row.getCreatedAt(), row.getId()));
+    }
+
+    /**
+     * Every requirement in id order, read forward-only {@code fetchSize} rows at a time. The stream
+     * must be consumed inside a transaction and closed.
+     */
+    public Stream<DietaryRequirement> streamDietaryRequirements(int fetchSize) {
+        return findAll(Sort.by("id"))
+                .withHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .withHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    /**
+     * Meals needed per dietary preference, read from the in-memory {@link CateringHeadcount}.
+     */
+    public Map<String, Long> getSummary() {
+        return headcount.summary();
     }
 
     public List<DietaryRequirement> getDietaryRequirementsByAttendee(Long attendeeId) {
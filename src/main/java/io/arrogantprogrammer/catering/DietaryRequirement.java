@@ -4,7 +4,7 @@ import jakarta.persistence.*;
 import java.time.ZonedDateTime;
 
 @Entity
-@Table(name = "dietary_requirements")
+@Table(name = "dietary_requirements", indexes = @Index(name = "idx_dietary_requirements_created_at_id", columnList = "created_at, id"))
 public class DietaryRequirement {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -19,7 +19,7 @@ public class DietaryRequirement {
     @Column(name = "special_requests")
     private String specialRequests;
 
-    @Column(name = "created_at")
+    @Column(name = "created_at", nullable = false, updatable = false)
     private ZonedDateTime createdAt;
 
     public DietaryRequirement() {
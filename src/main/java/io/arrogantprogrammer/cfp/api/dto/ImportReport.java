@@ -0,0 +1,23 @@
+package io.arrogantprogrammer.cfp.api.dto;
+
+import java.util.List;
+
+/**
+ * The outcome of a bulk import: how many rows were read, imported and rejected, and why rows were
+ * rejected. Only the first errors are listed; {@code errorsTruncated} says whether there were more.
+ */
+public record ImportReport(
+        long rows,
+        long imported,
+        long rejected,
+        long durationMillis,
+        List<RowError> errors,
+        boolean errorsTruncated
+) {
+
+    /**
+     * A rejected row, by its number in the file.
+     */
+    public record RowError(long row, String message) {
+    }
+}
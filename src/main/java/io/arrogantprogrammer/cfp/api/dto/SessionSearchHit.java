@@ -0,0 +1,19 @@
+package io.arrogantprogrammer.cfp.api.dto;
+
+import io.arrogantprogrammer.cfp.domain.aggregates.ConferenceSession;
+
+/**
+ * One session matching a committee search. The highlights wrap matched words in {@code <mark>} tags;
+ * the surrounding abstract text is returned as submitted, not HTML-escaped.
+ */
+public record SessionSearchHit(
+        Long id,
+        String title,
+        String titleHighlight,
+        String abstractHighlight,
+        ConferenceSession.SessionType sessionType,
+        ConferenceSession.SessionLevel sessionLevel,
+        String status,
+        double rank
+) {
+}
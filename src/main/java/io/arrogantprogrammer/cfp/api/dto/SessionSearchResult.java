@@ -0,0 +1,16 @@
+package io.arrogantprogrammer.cfp.api.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A page of session search hits, best match first, with the number of matching sessions in total
+ * and per {@code sessionType}, {@code sessionLevel} and {@code status}.
+ */
+public record SessionSearchResult(
+        String query,
+        long total,
+        List<SessionSearchHit> hits,
+        Map<String, Map<String, Long>> facets
+) {
+}
@@ -0,0 +1,400 @@
+package io.arrogantprogrammer.cfp.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.arrogantprogrammer.cfp.api.dto.ImportReport;
+import io.arrogantprogrammer.cfp.domain.aggregates.ConferenceSession;
+import io.arrogantprogrammer.cfp.domain.valueobjects.SessionAbstract;
+import io.arrogantprogrammer.cfp.infrastructure.persistence.SpeakerEntity;
+import io.arrogantprogrammer.cfp.infrastructure.persistence.SpeakerRepository;
+import io.arrogantprogrammer.cfp.infrastructure.persistence.SpeakerSearchIndex;
+import io.arrogantprogrammer.domain.valueobjects.Email;
+import io.arrogantprogrammer.domain.valueobjects.Name;
+import io.arrogantprogrammer.sharedkernel.export.ExportFormat;
+import io.arrogantprogrammer.sharedkernel.imports.ImportRow;
+import io.arrogantprogrammer.sharedkernel.imports.RowReader;
+import io.quarkus.logging.Log;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.Session;
+
+/**
+ * Bulk import of speakers and sessions from the CSV or NDJSON files of a CFP export.
+ * <p>
+ * Files are read a row at a time. Each row is validated through the same value objects the API uses
+ * ({@link Name}, {@link Email}, {@link SessionAbstract}) and valid rows are written
+ * {@code conference.import.chunk-size} at a time, each chunk in its own transaction as one JDBC batch,
+ * so a large file neither holds a long transaction nor goes through the persistence context row by
+ * row. A chunk that fails in the database is retried a row at a time, so every rejected row is
+ * reported with its own reason and the other rows still go in.
+ * <p>
+ * Speakers are de-duplicated by email, against earlier rows of the file and, one query per chunk,
+ * against registered speakers. Sessions name their speakers by email in {@code speakerEmails},
+ * separated by {@code ;}, which are resolved against a map of every registered speaker's email loaded
+ * once per import; import the speakers first.
+ */
+@ApplicationScoped
+public class CfpImportService {
+
+    static final String INSERT_SPEAKER =
+            "INSERT INTO cfp_speakers (first_name, last_name, value, bio, company, title, photo_url, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    static final String INSERT_SESSION =
+            "INSERT INTO cfp_sessions (id, title, summary, outline, learning_objectives, target_audience, prerequisites, " +
+            "session_type, session_level, duration, status, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, make_interval(mins => ?), ?, ?)";
+
+    static final String INSERT_SESSION_SPEAKER =
+            "INSERT INTO cfp_session_speakers (session_id, speaker_id) VALUES (?, ?)";
+
+    // session ids are taken from the identity sequence up front, so the join rows can be batched too
+    static final String NEXT_SESSION_IDS =
+            "SELECT nextval(pg_get_serial_sequence('cfp_sessions', 'id')) FROM generate_series(1, ?)";
+
+    @ConfigProperty(name = "conference.import.chunk-size", defaultValue = "500")
+    int chunkSize;
+
+    @ConfigProperty(name = "conference.import.max-reported-errors", defaultValue = "1000")
+    int maxReportedErrors;
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    SpeakerRepository speakerRepository;
+
+    @Inject
+    SpeakerSearchIndex speakerSearchIndex;
+
+    /**
+     * Imports speakers from columns {@code firstName}, {@code lastName}, {@code email}, {@code bio},
+     * {@code company}, {@code title} and {@code photoUrl}.
+     */
+    public ImportReport importSpeakers(InputStream in, ExportFormat format) throws IOException {
+        Tally tally = new Tally();
+        Set<String> emailsInFile = new HashSet<>();
+        Chunk<SpeakerEntity> chunk = new Chunk<>(tally, this::insertSpeakers);
+        RowReader.read(in, format, objectMapper, new Rows(tally) {
+            @Override
+            void accept(ImportRow row) {
+                SpeakerEntity speaker = new SpeakerEntity(new Name(row.get("firstName"), row.get("lastName")),
+                        new Email(row.get("email")), row.get("bio"), row.get("company"), row.get("title"),
+                        row.get("photoUrl"));
+                if (!emailsInFile.add(speaker.getEmail().getCanonicalValue())) {
+                    throw new IllegalArgumentException("Email appears on an earlier row");
+                }
+                chunk.add(row.number(), speaker);
+            }
+        });
+        chunk.flush();
+        if (tally.imported > 0) {
+            speakerSearchIndex.rebuild();
+        }
+        return tally.report("speakers");
+    }
+
+    /**
+     * Imports sessions, all {@code SUBMITTED}, from columns {@code title}, {@code summary},
+     * {@code outline}, {@code learningObjectives}, {@code targetAudience}, {@code prerequisites},
+     * {@code sessionType}, {@code sessionLevel}, {@code durationMinutes} and {@code speakerEmails}.
+     */
+    public ImportReport importSessions(InputStream in, ExportFormat format) throws IOException {
+        Tally tally = new Tally();
+        Map<String, Long> speakerIds = speakerIdsByEmail();
+        Chunk<SessionRow> chunk = new Chunk<>(tally, this::insertSessions);
+        RowReader.read(in, format, objectMapper, new Rows(tally) {
+            @Override
+            void accept(ImportRow row) {
+                SessionAbstract sessionAbstract = new SessionAbstract(row.get("title"), row.get("summary"),
+                        row.get("outline"), row.get("learningObjectives"), row.get("targetAudience"),
+                        row.get("prerequisites") == null ? "" : row.get("prerequisites"));
+                chunk.add(row.number(), new SessionRow(sessionAbstract,
+                        parse(ConferenceSession.SessionType.class, "session type", row.get("sessionType")),
+                        parse(ConferenceSession.SessionLevel.class, "session level", row.get("sessionLevel")),
+                        durationMinutes(row.get("durationMinutes")),
+                        speakers(row.get("speakerEmails"), speakerIds)));
+            }
+        });
+        chunk.flush();
+        return tally.report("sessions");
+    }
+
+    private Map<String, Long> speakerIdsByEmail() {
+        List<Object[]> rows = QuarkusTransaction.requiringNew().call(() -> entityManager
+                .createQuery("SELECT lower(s.email.value), s.id FROM SpeakerEntity s", Object[].class)
+                .getResultList());
+        Map<String, Long> speakerIds = HashMap.newHashMap(rows.size());
+        rows.forEach(row -> speakerIds.put((String) row[0], (Long) row[1]));
+        return speakerIds;
+    }
+
+    private List<ImportReport.RowError> insertSpeakers(List<Pending<SpeakerEntity>> rows) {
+        List<Email> emails = new ArrayList<>(rows.size());
+        rows.forEach(row -> emails.add(row.value().getEmail()));
+        Set<String> registered = speakerRepository.findRegisteredEmails(emails);
+        List<ImportReport.RowError> rejected = new ArrayList<>();
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_SPEAKER)) {
+                for (Pending<SpeakerEntity> row : rows) {
+                    SpeakerEntity speaker = row.value();
+                    if (registered.contains(speaker.getEmail().getCanonicalValue())) {
+                        rejected.add(new ImportReport.RowError(row.number(), "A speaker with this email is already registered"));
+                        continue;
+                    }
+                    insert.setString(1, speaker.getName().getFirstName());
+                    insert.setString(2, speaker.getName().getLastName());
+                    insert.setString(3, speaker.getEmail().getValue());
+                    insert.setString(4, speaker.getBio());
+                    insert.setString(5, speaker.getCompany());
+                    insert.setString(6, speaker.getTitle());
+                    insert.setString(7, speaker.getPhotoUrl());
+                    insert.setObject(8, speaker.getCreatedAt().toOffsetDateTime());
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        });
+        return rejected;
+    }
+
+    private List<ImportReport.RowError> insertSessions(List<Pending<SessionRow>> rows) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            long[] ids = new long[rows.size()];
+            try (PreparedStatement nextIds = connection.prepareStatement(NEXT_SESSION_IDS)) {
+                nextIds.setInt(1, rows.size());
+                try (ResultSet resultSet = nextIds.executeQuery()) {
+                    for (int i = 0; resultSet.next(); i++) {
+                        ids[i] = resultSet.getLong(1);
+                    }
+                }
+            }
+            OffsetDateTime now = OffsetDateTime.now();
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_SESSION);
+                 PreparedStatement link = connection.prepareStatement(INSERT_SESSION_SPEAKER)) {
+                for (int i = 0; i < rows.size(); i++) {
+                    SessionRow session = rows.get(i).value();
+                    SessionAbstract sessionAbstract = session.sessionAbstract();
+                    insert.setLong(1, ids[i]);
+                    insert.setString(2, sessionAbstract.title());
+                    insert.setString(3, sessionAbstract.summary());
+                    insert.setString(4, sessionAbstract.outline());
+                    insert.setString(5, sessionAbstract.learningObjectives());
+                    insert.setString(6, sessionAbstract.targetAudience());
+                    insert.setString(7, sessionAbstract.prerequisites());
+                    insert.setString(8, session.sessionType().name());
+                    insert.setString(9, session.sessionLevel().name());
+                    insert.setInt(10, session.durationMinutes());
+                    insert.setString(11, ConferenceSession.SessionStatus.SUBMITTED.name());
+                    insert.setObject(12, now);
+                    insert.addBatch();
+                    for (long speakerId : session.speakerIds()) {
+                        link.setLong(1, ids[i]);
+                        link.setLong(2, speakerId);
+                        link.addBatch();
+                    }
+                }
+                insert.executeBatch();
+                link.executeBatch();
+            }
+        });
+        return List.of();
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String description, String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Missing " + description);
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT).replace(' ', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown " + description + " " + value);
+        }
+    }
+
+    private static int durationMinutes(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Missing durationMinutes");
+        }
+        try {
+            int minutes = Integer.parseInt(value);
+            if (minutes > 0 && minutes <= 24 * 60) {
+                return minutes;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException("durationMinutes must be a whole number of minutes between 1 and 1440");
+    }
+
+    private static long[] speakers(String emails, Map<String, Long> speakerIds) {
+        if (emails == null) {
+            return new long[0];
+        }
+        String[] parts = emails.split(";");
+        long[] ids = new long[parts.length];
+        int count = 0;
+        for (String part : parts) {
+            if (part.isBlank()) {
+                continue;
+            }
+            Long id = speakerIds.get(Email.canonicalize(part.trim()));
+            if (id == null) {
+                throw new IllegalArgumentException("No registered speaker with email " + part.trim());
+            }
+            boolean duplicate = false;
+            for (int i = 0; i < count && !duplicate; i++) {
+                duplicate = ids[i] == id;
+            }
+            if (!duplicate) {
+                ids[count++] = id;
+            }
+        }
+        return count == ids.length ? ids : Arrays.copyOf(ids, count);
+    }
+
+    private record SessionRow(SessionAbstract sessionAbstract, ConferenceSession.SessionType sessionType,
+                              ConferenceSession.SessionLevel sessionLevel, int durationMinutes, long[] speakerIds) {
+    }
+
+    private record Pending<T>(long number, T value) {
+    }
+
+    private interface ChunkWriter<T> {
+
+        /**
+         * Writes the rows inside the current transaction.
+         *
+         * @return the rows that were skipped, with the reason
+         */
+        List<ImportReport.RowError> write(List<Pending<T>> rows);
+    }
+
+    /**
+     * Counts rows and collects the first {@code conference.import.max-reported-errors} errors.
+     */
+    private final class Tally {
+
+        private final long started = System.nanoTime();
+        private final List<ImportReport.RowError> errors = new ArrayList<>();
+        private long rows;
+        private long imported;
+        private long rejected;
+
+        void reject(long row, String message) {
+            rejected++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportReport.RowError(row, message));
+            }
+        }
+
+        ImportReport report(String what) {
+            long millis = (System.nanoTime() - started) / 1_000_000;
+            Log.infof("Imported %d of %d %s in %d ms, %d rows rejected", imported, rows, what, millis, rejected);
+            return new ImportReport(rows, imported, rejected, millis, List.copyOf(errors), rejected > errors.size());
+        }
+    }
+
+    /**
+     * Counts every row read and rejects the ones {@link #accept} throws on, with the exception's message.
+     */
+    private abstract static class Rows implements RowReader.RowHandler {
+
+        private final Tally tally;
+
+        Rows(Tally tally) {
+            this.tally = tally;
+        }
+
+        abstract void accept(ImportRow row);
+
+        @Override
+        public void row(ImportRow row) {
+            tally.rows++;
+            try {
+                accept(row);
+            } catch (IllegalArgumentException | NullPointerException e) {
+                tally.reject(row.number(), e.getMessage());
+            }
+        }
+
+        @Override
+        public void malformed(long number, String message) {
+            tally.rows++;
+            tally.reject(number, message);
+        }
+    }
+
+    /**
+     * Buffers valid rows and writes them {@code chunkSize} at a time, each chunk in a new transaction.
+     */
+    private final class Chunk<T> {
+
+        private final Tally tally;
+        private final ChunkWriter<T> writer;
+        private final List<Pending<T>> rows = new ArrayList<>();
+
+        Chunk(Tally tally, ChunkWriter<T> writer) {
+            this.tally = tally;
+            this.writer = writer;
+        }
+
+        void add(long number, T value) {
+            rows.add(new Pending<>(number, value));
+            if (rows.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            try {
+                write(rows);
+            } catch (RuntimeException e) {
+                Log.debugf(e, "Import chunk of %d rows failed, retrying row by row", rows.size());
+                for (Pending<T> row : rows) {
+                    try {
+                        write(List.of(row));
+                    } catch (RuntimeException rowFailure) {
+                        tally.reject(row.number(), "Could not be stored: " + rootCause(rowFailure).getMessage());
+                    }
+                }
+            }
+            rows.clear();
+        }
+
+        private void write(List<Pending<T>> chunk) {
+            List<ImportReport.RowError> skipped = QuarkusTransaction.requiringNew().call(() -> writer.write(chunk));
+            tally.imported += chunk.size() - skipped.size();
+            skipped.forEach(error -> tally.reject(error.row(), error.message()));
+        }
+    }
+
+    private static Throwable rootCause(Throwable e) {
+        Throwable cause = e;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
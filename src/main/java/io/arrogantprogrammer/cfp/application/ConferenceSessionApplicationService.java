@@ -12,12 +12,12 @@ import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 
 import java.time.Duration;
-import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
- * Application service for conference session management.
+ * Application service for conference session management. Handles the command side; listings are
+ * served by {@link ConferenceSessionQueryService} without going through the aggregate.
  */
 @ApplicationScoped
 public class ConferenceSessionApplicationService {
@@ -28,17 +28,6 @@ public class ConferenceSessionApplicationService {
     @Inject
     SpeakerRepository speakerRepository;
     
-    /**
-     * Gets all conference sessions.
-     * 
-     * @return a list of all conference sessions
-     */
-    public List<ConferenceSessionDTO> getAllSessions() {
-        return conferenceSessionRepository.findAll().stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
-    }
-    
     /**
      * Gets a conference session by ID.
      * 
@@ -212,30 +201,6 @@ public class ConferenceSessionApplicationService {
         });
     }
     
-    /**
-     * Finds sessions by speaker ID.
-     * 
-     * @param speakerId the ID of the speaker
-     * @return a list of sessions for the speaker
-     */
-    public List<ConferenceSessionDTO> findSessionsBySpeaker(Long speakerId) {
-        return conferenceSessionRepository.findBySpeakerId(speakerId).stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
-    }
-    
-    /**
-     * Finds sessions by status.
-     * 
-     * @param status the session status
-     * @return a list of sessions with the given status
-     */
-    public List<ConferenceSessionDTO> findSessionsByStatus(ConferenceSession.SessionStatus status) {
-        return conferenceSessionRepository.findByStatus(status).stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
-    }
-    
     /**
      * Maps a ConferenceSession domain object to a ConferenceSessionDTO.
      * 
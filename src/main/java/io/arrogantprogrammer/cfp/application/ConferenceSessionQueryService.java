@@ -0,0 +1,104 @@
+package io.arrogantprogrammer.cfp.application;
+
+import io.arrogantprogrammer.cfp.api.dto.ConferenceSessionDTO;
+import io.arrogantprogrammer.cfp.api.dto.SpeakerDTO;
+import io.arrogantprogrammer.cfp.domain.aggregates.ConferenceSession;
+import io.arrogantprogrammer.domain.valueobjects.Email;
+import io.arrogantprogrammer.domain.valueobjects.Name;
+import io.arrogantprogrammer.sharedkernel.pagination.Cursor;
+import io.arrogantprogrammer.sharedkernel.pagination.CursorPage;
+import io.arrogantprogrammer.sharedkernel.pagination.PageRequest;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read side of the CFP: lists conference sessions straight into {@link ConferenceSessionDTO}s with
+ * JPQL projections, without loading entities or mapping through the {@link ConferenceSession}
+ * aggregate. The aggregate is only used by the command paths in {@link ConferenceSessionApplicationService}.
+ * <p>
+ * Every listing costs two queries: a keyset seek for the requested page of sessions and one for the
+ * speakers of exactly those sessions, so the work done scales with the page size, not the table size.
+ */
+@ApplicationScoped
+public class ConferenceSessionQueryService {
+
+    private static final String SELECT_SESSIONS =
+            "SELECT s.id, s.createdAt, s.sessionAbstract.title, s.sessionAbstract.summary, s.sessionAbstract.outline, " +
+            "s.sessionAbstract.learningObjectives, s.sessionAbstract.targetAudience, s.sessionAbstract.prerequisites, " +
+            "s.sessionType, s.sessionLevel, s.duration, s.status FROM ConferenceSessionEntity s WHERE ";
+
+    public record SessionRow(Long id, ZonedDateTime createdAt, String title, String summary, String outline,
+                             String learningObjectives, String targetAudience, String prerequisites, ConferenceSession.SessionType sessionType,
+                             ConferenceSession.SessionLevel sessionLevel, Duration duration,
+                             ConferenceSession.SessionStatus status) {
+    }
+
+    public record SpeakerRow(Long sessionId, Name name, Email email, String bio, String company,
+                             String title, String photoUrl) {
+
+        SpeakerDTO toDTO() {
+            return new SpeakerDTO(name, email, bio, company, title, photoUrl);
+        }
+    }
+
+    @Inject
+    EntityManager entityManager;
+
+    /**
+     * Lists a page of all submitted sessions, e.g. for the review committee.
+     */
+    public CursorPage<ConferenceSessionDTO> findAll(PageRequest page) {
+        return fetchPage("", Map.of(), page);
+    }
+
+    public CursorPage<ConferenceSessionDTO> findByStatus(ConferenceSession.SessionStatus status, PageRequest page) {
+        return fetchPage("s.status = :status AND ", Map.of("status", status), page);
+    }
+
+    public CursorPage<ConferenceSessionDTO> findBySpeaker(Long speakerId, PageRequest page) {
+        return fetchPage("EXISTS (SELECT 1 FROM s.speakers sp WHERE sp.id = :speakerId) AND ",
+                Map.of("speakerId", speakerId), page);
+    }
+
+    private CursorPage<ConferenceSessionDTO> fetchPage(String filter, Map<String, Object> parameters, PageRequest page) {
+        TypedQuery<SessionRow> query = entityManager.createQuery(
+                SELECT_SESSIONS + filter + page.seek("s") + page.orderBy("s"), SessionRow.class);
+        parameters.forEach(query::setParameter);
+        page.parameters().forEach(query::setParameter);
+        CursorPage<SessionRow> rows = CursorPage.of(query.setMaxResults(page.fetchSize()).getResultList(),
+                page, row -> Cursor.of(row.createdAt(), row.id()));
+        return new CursorPage<>(toDTOs(rows.items()), rows.next());
+    }
+
+    private List<ConferenceSessionDTO> toDTOs(List<SessionRow> rows) {
+        Map<Long, List<SpeakerDTO>> speakersBySession = new LinkedHashMap<>();
+        for (SessionRow row : rows) {
+            speakersBySession.put(row.id(), new ArrayList<>());
+        }
+        if (!speakersBySession.isEmpty()) {
+            entityManager.createQuery(
+                            "SELECT s.id, sp.name, sp.email, sp.bio, sp.company, sp.title, sp.photoUrl " +
+                            "FROM ConferenceSessionEntity s JOIN s.speakers sp " +
+                            "WHERE s.id IN :sessionIds ORDER BY sp.id", SpeakerRow.class)
+                    .setParameter("sessionIds", speakersBySession.keySet())
+                    .getResultList()
+                    .forEach(row -> speakersBySession.get(row.sessionId()).add(row.toDTO()));
+        }
+        List<ConferenceSessionDTO> sessions = new ArrayList<>(rows.size());
+        for (SessionRow row : rows) {
+            sessions.add(new ConferenceSessionDTO(row.id(), row.title(), row.summary(), row.outline(),
+                    row.learningObjectives(), row.targetAudience(), row.prerequisites(), row.sessionType(),
+                    row.sessionLevel(), row.duration() == null ? 0 : row.duration().toMinutes(),
+                    row.status() == null ? null : row.status().name(), speakersBySession.get(row.id())));
+        }
+        return sessions;
+    }
+}
@@ -0,0 +1,153 @@
+package io.arrogantprogrammer.cfp.application;
+
+import io.arrogantprogrammer.cfp.api.dto.SessionSearchHit;
+import io.arrogantprogrammer.cfp.api.dto.SessionSearchResult;
+import io.arrogantprogrammer.cfp.domain.aggregates.ConferenceSession;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full-text search over session abstracts for the review committee.
+ * <p>
+ * PostgreSQL keeps a weighted {@code tsvector} of each abstract in {@code cfp_sessions.search_vector}
+ * (title above summary above learning objectives above outline), indexed with GIN, so a search reads
+ * only the matching rows. Queries use web search syntax: words, {@code "quoted phrases"}, {@code or}
+ * and {@code -excluded} words, stemmed as English. A search costs two queries: one for the ranked page,
+ * highlighting only the rows on it, and one counting the matches per session type, level and status
+ * in a single pass with grouping sets.
+ * <p>
+ * Latency is published as {@code cfp.session.search.latency}, the number of matches per search as
+ * {@code cfp.session.search.hits}.
+ */
+@ApplicationScoped
+public class ConferenceSessionSearchService {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private static final String HIGHLIGHT = "StartSel=<mark>, StopSel=</mark>";
+
+    private static final String SEARCH =
+            "SELECT s.id, s.title, s.session_type, s.session_level, s.status, hit.rank, " +
+            "ts_headline('english', coalesce(s.title, ''), hit.tsq, 'HighlightAll=true, " + HIGHLIGHT + "'), " +
+            "ts_headline('english', concat_ws(' ', s.summary, s.learning_objectives, s.outline), hit.tsq, " +
+            "'MaxFragments=2, MinWords=8, MaxWords=20, " + HIGHLIGHT + "') " +
+            "FROM (SELECT s.id, tsq, ts_rank_cd(s.search_vector, tsq) AS rank " +
+            "FROM cfp_sessions s, websearch_to_tsquery('english', :query) tsq " +
+            "WHERE s.search_vector @@ tsq %s " +
+            "ORDER BY rank DESC, s.id LIMIT :limit OFFSET :offset) hit " +
+            "JOIN cfp_sessions s ON s.id = hit.id " +
+            "ORDER BY hit.rank DESC, s.id";
+
+    // GROUPING(...) tells the grouping sets apart: 3 = by type, 5 = by level, 6 = by status, 7 = total
+    private static final String FACETS =
+            "SELECT GROUPING(s.session_type, s.session_level, s.status), s.session_type, s.session_level, s.status, count(*) " +
+            "FROM cfp_sessions s " +
+            "WHERE s.search_vector @@ websearch_to_tsquery('english', :query) %s " +
+            "GROUP BY GROUPING SETS ((s.session_type), (s.session_level), (s.status), ())";
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    /**
+     * Searches the abstracts, optionally narrowed to one session type, level and status.
+     *
+     * @throws WebApplicationException 400 for a blank query or a limit or offset out of range
+     */
+    public SessionSearchResult search(String query, ConferenceSession.SessionType sessionType,
+                                      ConferenceSession.SessionLevel sessionLevel,
+                                      ConferenceSession.SessionStatus status, int limit, int offset) {
+        if (query == null || query.isBlank()) {
+            throw new WebApplicationException("A search query is required", Response.Status.BAD_REQUEST);
+        }
+        if (limit < 1 || limit > MAX_LIMIT || offset < 0) {
+            throw new WebApplicationException("limit must be between 1 and " + MAX_LIMIT + " and offset at least 0",
+                    Response.Status.BAD_REQUEST);
+        }
+        long start = System.nanoTime();
+        Map<String, Object> filters = new LinkedHashMap<>();
+        StringBuilder filter = new StringBuilder();
+        if (sessionType != null) {
+            filter.append("AND s.session_type = :sessionType ");
+            filters.put("sessionType", sessionType.name());
+        }
+        if (sessionLevel != null) {
+            filter.append("AND s.session_level = :sessionLevel ");
+            filters.put("sessionLevel", sessionLevel.name());
+        }
+        if (status != null) {
+            filter.append("AND s.status = :status ");
+            filters.put("status", status.name());
+        }
+
+        Query hitQuery = entityManager.createNativeQuery(SEARCH.formatted(filter))
+                .setParameter("query", query)
+                .setParameter("limit", limit)
+                .setParameter("offset", offset);
+        filters.forEach(hitQuery::setParameter);
+        List<SessionSearchHit> hits = new ArrayList<>();
+        for (Object result : hitQuery.getResultList()) {
+            Object[] row = (Object[]) result;
+            hits.add(new SessionSearchHit(((Number) row[0]).longValue(), (String) row[1], (String) row[6], (String) row[7],
+                    row[2] == null ? null : ConferenceSession.SessionType.valueOf((String) row[2]),
+                    row[3] == null ? null : ConferenceSession.SessionLevel.valueOf((String) row[3]),
+                    (String) row[4], ((Number) row[5]).doubleValue()));
+        }
+
+        Query facetQuery = entityManager.createNativeQuery(FACETS.formatted(filter))
+                .setParameter("query", query);
+        filters.forEach(facetQuery::setParameter);
+        long total = 0;
+        Map<String, Map<String, Long>> facets = new HashMap<>();
+        facets.put("sessionType", new TreeMap<>());
+        facets.put("sessionLevel", new TreeMap<>());
+        facets.put("status", new TreeMap<>());
+        for (Object result : facetQuery.getResultList()) {
+            Object[] row = (Object[]) result;
+            long count = ((Number) row[4]).longValue();
+            switch (((Number) row[0]).intValue()) {
+                case 3 -> count(facets.get("sessionType"), row[1], count);
+                case 5 -> count(facets.get("sessionLevel"), row[2], count);
+                case 6 -> count(facets.get("status"), row[3], count);
+                default -> total = count;
+            }
+        }
+
+        record(System.nanoTime() - start, total);
+        return new SessionSearchResult(query, total, hits, facets);
+    }
+
+    private static void count(Map<String, Long> facet, Object value, long count) {
+        if (value != null) {
+            facet.put((String) value, count);
+        }
+    }
+
+    private void record(long elapsedNanos, long total) {
+        Timer.builder("cfp.session.search.latency")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("cfp.session.search.hits")
+                .baseUnit("sessions")
+                .register(meterRegistry)
+                .record(total);
+    }
+}
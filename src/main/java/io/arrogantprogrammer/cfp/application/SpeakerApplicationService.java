@@ -9,6 +9,8 @@ import io.arrogantprogrammer.cfp.domain.services.SpeakerRegistrationResult;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
 
 import java.util.List;
 import java.util.Optional;
@@ -28,9 +30,14 @@ public class SpeakerApplicationService {
      * 
      * @param speakerDTO the speaker data
      * @return the registered speaker
+     * @throws WebApplicationException 409 if a speaker has already registered with the email, in any case
      */
     @Transactional
     public SpeakerDTO registerSpeaker(SpeakerDTO speakerDTO) {
+        if (speakerDTO.email() != null && speakerRepository.findByEmail(speakerDTO.email()).isPresent()) {
+            throw new WebApplicationException("A speaker is already registered with " + speakerDTO.email(),
+                    Response.Status.CONFLICT);
+        }
         SpeakerRegistrationResult result = Speaker.registerSpeaker(speakerDTO);
         Speaker speaker = speakerRepository.save(result.speaker());
         // Here you would publish the event: result.event()
@@ -13,9 +13,13 @@ public class AbstractSubmittedEvent {
     private final Instant timestamp;
 
     public AbstractSubmittedEvent(Email email, String title) {
+        this(email, title, Instant.now());
+    }
+
+    public AbstractSubmittedEvent(Email email, String title, Instant timestamp) {
         this.email = email;
         this.title = title;
-        this.timestamp = Instant.now();
+        this.timestamp = timestamp;
     }
 
     public Email getEmail() {
@@ -11,9 +11,13 @@ public class SessionRejectedEvent {
     private final Instant timestamp;
 
     public SessionRejectedEvent(Long sessionId, String title) {
+        this(sessionId, title, Instant.now());
+    }
+
+    public SessionRejectedEvent(Long sessionId, String title, Instant timestamp) {
         this.sessionId = sessionId;
         this.title = title;
-        this.timestamp = Instant.now();
+        this.timestamp = timestamp;
     }
 
     public Long getSessionId() {
@@ -18,11 +18,19 @@ public class SessionSubmittedEvent {
                                 ConferenceSession.SessionType sessionType,
                                 ConferenceSession.SessionLevel sessionLevel,
                                 int durationMinutes) {
+        this(title, sessionType, sessionLevel, durationMinutes, Instant.now());
+    }
+
+    public SessionSubmittedEvent(String title,
+                                ConferenceSession.SessionType sessionType,
+                                ConferenceSession.SessionLevel sessionLevel,
+                                int durationMinutes,
+                                Instant timestamp) {
         this.title = title;
         this.sessionType = sessionType;
         this.sessionLevel = sessionLevel;
         this.durationMinutes = durationMinutes;
-        this.timestamp = Instant.now();
+        this.timestamp = timestamp;
     }
 
     public String getTitle() {
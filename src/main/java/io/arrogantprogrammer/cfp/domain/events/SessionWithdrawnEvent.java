@@ -11,9 +11,13 @@ public class SessionWithdrawnEvent {
     private final Instant timestamp;
 
     public SessionWithdrawnEvent(Long sessionId, String title) {
+        this(sessionId, title, Instant.now());
+    }
+
+    public SessionWithdrawnEvent(Long sessionId, String title, Instant timestamp) {
         this.sessionId = sessionId;
         this.title = title;
-        this.timestamp = Instant.now();
+        this.timestamp = timestamp;
     }
 
     public Long getSessionId() {
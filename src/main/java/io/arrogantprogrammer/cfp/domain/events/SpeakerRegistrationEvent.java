@@ -12,8 +12,12 @@ public class SpeakerRegistrationEvent {
     private final Instant timestamp;
 
     public SpeakerRegistrationEvent(Email email) {
+        this(email, Instant.now());
+    }
+
+    public SpeakerRegistrationEvent(Email email, Instant timestamp) {
         this.email = email;
-        this.timestamp = Instant.now();
+        this.timestamp = timestamp;
     }
 
     public Email getEmail() {
@@ -12,8 +12,12 @@ public class SpeakerUpdatedEvent {
     private final Instant timestamp;
 
     public SpeakerUpdatedEvent(Email email) {
+        this(email, Instant.now());
+    }
+
+    public SpeakerUpdatedEvent(Email email, Instant timestamp) {
         this.email = email;
-        this.timestamp = Instant.now();
+        this.timestamp = timestamp;
     }
 
     public Email getEmail() {
@@ -5,9 +5,13 @@ import io.arrogantprogrammer.cfp.SpeakerDTO;
 import io.arrogantprogrammer.cfp.domain.aggregates.Speaker;
 import io.arrogantprogrammer.cfp.infrastructure.persistence.SpeakerRepository;
 import io.arrogantprogrammer.cfp.infrastructure.persistence.SpeakerEntity;
+import io.arrogantprogrammer.sharedkernel.pagination.CursorPage;
+import io.arrogantprogrammer.sharedkernel.pagination.PageRequest;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
 
 import java.util.List;
 import java.util.Optional;
@@ -22,8 +26,17 @@ public class CFPService {
     @Inject
     ConferenceSessionRepository conferenceSessionRepository;
 
+    /**
+     * Registers a new speaker.
+     *
+     * @throws WebApplicationException 409 if a speaker has already registered with the email, in any case
+     */
     @Transactional
     public SpeakerDTO registerSpeaker(SpeakerDTO speakerDTO) {
+        if (speakerDTO.email() != null && speakerRepository.existsByEmail(speakerDTO.email())) {
+            throw new WebApplicationException("A speaker is already registered with " + speakerDTO.email(),
+                    Response.Status.CONFLICT);
+        }
         SpeakerRegistrationResult speakerRegistrationResult = Speaker.registerSpeaker(speakerDTO);
         SpeakerEntity speakerEntity = speakerRegistrationResult.speakerEntity();
         speakerRepository.persist(speakerEntity);
@@ -37,8 +50,15 @@ public class CFPService {
         );
     }
 
-    public List<SpeakerDTO> getAllSpeakers() {
-        return null;
+    public CursorPage<SpeakerDTO> getSpeakers(PageRequest page) {
+        return speakerRepository.findPage(page).map(speaker -> new SpeakerDTO(
+                speaker.getName(),
+                speaker.getEmail(),
+                speaker.getBio(),
+                speaker.getCompany(),
+                speaker.getTitle(),
+                speaker.getPhotoUrl()
+        ));
     }
 
     public Optional<SpeakerDTO> getSpeaker(Long id) {
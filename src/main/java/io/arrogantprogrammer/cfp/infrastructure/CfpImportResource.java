@@ -0,0 +1,63 @@
+package io.arrogantprogrammer.cfp.infrastructure;
+
+import io.arrogantprogrammer.cfp.api.dto.ImportReport;
+import io.arrogantprogrammer.cfp.application.CfpImportService;
+import io.arrogantprogrammer.sharedkernel.export.ExportFormat;
+import io.arrogantprogrammer.sharedkernel.export.StreamingExport;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+
+/**
+ * Bulk import of speakers and sessions. The request body is the file itself, CSV or NDJSON (or a JSON
+ * array), chosen with {@code ?format=} or, without it, by the {@code Content-Type}. The response lists
+ * how many rows went in and why the others did not.
+ */
+@Path("/api/cfp/import")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes({"text/csv", "application/x-ndjson", MediaType.APPLICATION_JSON, MediaType.TEXT_PLAIN,
+        MediaType.APPLICATION_OCTET_STREAM})
+public class CfpImportResource {
+
+    @Inject
+    CfpImportService importService;
+
+    /**
+     * Imports speakers; rows whose email is already registered are rejected.
+     */
+    @POST
+    @Path("/speakers")
+    public ImportReport importSpeakers(@QueryParam("format") String format,
+                                       @HeaderParam(HttpHeaders.CONTENT_TYPE) String contentType,
+                                       InputStream body) throws IOException {
+        return importService.importSpeakers(body, format(format, contentType));
+    }
+
+    /**
+     * Imports sessions as submitted; their speakers must already be registered.
+     */
+    @POST
+    @Path("/sessions")
+    public ImportReport importSessions(@QueryParam("format") String format,
+                                       @HeaderParam(HttpHeaders.CONTENT_TYPE) String contentType,
+                                       InputStream body) throws IOException {
+        return importService.importSessions(body, format(format, contentType));
+    }
+
+    private static ExportFormat format(String format, String contentType) {
+        if ((format == null || format.isBlank()) && contentType != null
+                && contentType.toLowerCase(Locale.ROOT).startsWith(ExportFormat.CSV.mediaType())) {
+            return ExportFormat.CSV;
+        }
+        return StreamingExport.format(format);
+    }
+}
@@ -1,17 +1,23 @@
 package io.arrogantprogrammer.cfp.infrastructure;
 
-import io.arrogantprogrammer.cfp.ConferenceSession;
-import io.arrogantprogrammer.cfp.ConferenceSessionDTO;
+import io.arrogantprogrammer.cfp.api.dto.ConferenceSessionDTO;
+import io.arrogantprogrammer.cfp.api.dto.SessionSearchResult;
+import io.arrogantprogrammer.cfp.application.ConferenceSessionQueryService;
+import io.arrogantprogrammer.cfp.application.ConferenceSessionSearchService;
+import io.arrogantprogrammer.cfp.domain.aggregates.ConferenceSession;
 import io.arrogantprogrammer.cfp.domain.services.CFPService;
 import io.arrogantprogrammer.cfp.domain.services.ConferenceSessionService;
+import io.arrogantprogrammer.sharedkernel.pagination.PageLinks;
+import io.arrogantprogrammer.sharedkernel.pagination.PageParams;
 import io.quarkus.logging.Log;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
-import java.util.List;
+import jakarta.ws.rs.core.UriInfo;
 
 /**
  * REST resource for conference sessions.
@@ -24,14 +30,57 @@ public class ConferenceSessionResource {
     @Inject
     ConferenceSessionService conferenceSessionService;
 
+    @Inject
+    ConferenceSessionQueryService conferenceSessionQueryService;
+
+    @Inject
+    ConferenceSessionSearchService conferenceSessionSearchService;
+
     /**
-     * Gets all conference sessions.
+     * Gets a page of conference sessions, oldest submission first.
      * 
-     * @return a list of all conference sessions
+     * @param page the {@code after} cursor and {@code limit}
+     * @return the requested page of sessions, with a link to the next page
      */
     @GET
-    public List<ConferenceSessionDTO> getAllSessions() {
-        return conferenceSessionService.getAllSessions();
+    public Response getAllSessions(@Context UriInfo uriInfo, @BeanParam PageParams page) {
+        return PageLinks.ok(conferenceSessionQueryService.findAll(page.toRequest()), uriInfo);
+    }
+
+    /**
+     * Searches session abstracts for the review committee.
+     * 
+     * @param query words, "quoted phrases", {@code or} and {@code -excluded} words to find in the title,
+     *              summary, outline and learning objectives
+     * @param sessionType optional session type to narrow the search to
+     * @param sessionLevel optional session level to narrow the search to
+     * @param status optional session status to narrow the search to
+     * @return the requested page of matches, best first, with the match counts per facet
+     */
+    @GET
+    @Path("/search")
+    public SessionSearchResult searchSessions(@QueryParam("q") String query,
+                                              @QueryParam("sessionType") String sessionType,
+                                              @QueryParam("sessionLevel") String sessionLevel,
+                                              @QueryParam("status") String status,
+                                              @QueryParam("limit") Integer limit,
+                                              @QueryParam("offset") @DefaultValue("0") int offset) {
+        return conferenceSessionSearchService.search(query,
+                facet(ConferenceSession.SessionType.class, "session type", sessionType),
+                facet(ConferenceSession.SessionLevel.class, "session level", sessionLevel),
+                facet(ConferenceSession.SessionStatus.class, "session status", status),
+                limit == null ? ConferenceSessionSearchService.DEFAULT_LIMIT : limit, offset);
+    }
+
+    private static <E extends Enum<E>> E facet(Class<E> type, String description, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new WebApplicationException("Unknown " + description + " " + value, Response.Status.BAD_REQUEST);
+        }
     }
 
     /**
@@ -177,24 +226,31 @@ public class ConferenceSessionResource {
      * Gets sessions by status.
      * 
      * @param status the session status
-     * @return a list of sessions with the given status
+     * @return a page of sessions with the given status
      */
     @GET
     @Path("/status/{status}")
-    public List<ConferenceSessionDTO> getSessionsByStatus(@PathParam("status") String status) {
-        ConferenceSession.SessionStatus sessionStatus = ConferenceSession.SessionStatus.valueOf(status.toUpperCase());
-        return conferenceSessionService.findSessionsByStatus(sessionStatus);
+    public Response getSessionsByStatus(@PathParam("status") String status,
+                                        @Context UriInfo uriInfo, @BeanParam PageParams page) {
+        ConferenceSession.SessionStatus sessionStatus;
+        try {
+            sessionStatus = ConferenceSession.SessionStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new WebApplicationException("Unknown session status " + status, Response.Status.BAD_REQUEST);
+        }
+        return PageLinks.ok(conferenceSessionQueryService.findByStatus(sessionStatus, page.toRequest()), uriInfo);
     }
 
     /**
      * Gets sessions by speaker.
      * 
      * @param speakerId the ID of the speaker
-     * @return a list of sessions for the speaker
+     * @return a page of sessions for the speaker
      */
     @GET
     @Path("/speaker/{speakerId}")
-    public List<ConferenceSessionDTO> getSessionsBySpeaker(@PathParam("speakerId") Long speakerId) {
-        return conferenceSessionService.findSessionsBySpeaker(speakerId);
+    public Response getSessionsBySpeaker(@PathParam("speakerId") Long speakerId,
+                                         @Context UriInfo uriInfo, @BeanParam PageParams page) {
+        return PageLinks.ok(conferenceSessionQueryService.findBySpeaker(speakerId, page.toRequest()), uriInfo);
     }
 }
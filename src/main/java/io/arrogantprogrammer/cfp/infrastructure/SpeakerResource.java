@@ -2,12 +2,16 @@ package io.arrogantprogrammer.cfp.infrastructure;
 
 import io.arrogantprogrammer.cfp.SpeakerDTO;
 import io.arrogantprogrammer.cfp.domain.services.CFPService;
+import io.arrogantprogrammer.sharedkernel.pagination.PageLinks;
+import io.arrogantprogrammer.sharedkernel.pagination.PageParams;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
 import java.util.List;
 
 /**
@@ -22,13 +26,14 @@ public class SpeakerResource {
     CFPService cfpService;
 
     /**
-     * Gets all speakers.
+     * Gets a page of speakers in registration order.
      * 
-     * @return a list of all speakers
+     * @param page the {@code after} cursor and {@code limit}
+     * @return the requested page of speakers, with a link to the next page
      */
     @GET
-    public List<SpeakerDTO> getAllSpeakers() {
-        return cfpService.getAllSpeakers();
+    public Response getAllSpeakers(@Context UriInfo uriInfo, @BeanParam PageParams page) {
+        return PageLinks.ok(cfpService.getSpeakers(page.toRequest()), uriInfo);
     }
 
     /**
@@ -3,6 +3,7 @@ package io.arrogantprogrammer.cfp.infrastructure.persistence;
 import io.arrogantprogrammer.cfp.domain.aggregates.ConferenceSession;
 import jakarta.persistence.*;
 import java.time.Duration;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -11,9 +12,19 @@ import java.util.Objects;
  * JPA entity for ConferenceSession persistence.
  */
 @Entity
-@Table(name = "cfp_sessions")
+@Table(name = "cfp_sessions", indexes = @Index(name = "idx_cfp_sessions_created_at_id", columnList = "created_at, id"))
 public class ConferenceSessionEntity {
 
+    /**
+     * Weighted full-text document of the abstract: title, then summary, learning objectives and outline.
+     * Must match the {@code search_vector} column in V13 for the GIN index to be used.
+     */
+    public static final String SEARCH_VECTOR =
+            "setweight(to_tsvector('english', coalesce(title, '')), 'A') || " +
+            "setweight(to_tsvector('english', coalesce(summary, '')), 'B') || " +
+            "setweight(to_tsvector('english', coalesce(learning_objectives, '')), 'C') || " +
+            "setweight(to_tsvector('english', coalesce(outline, '')), 'D')";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -32,6 +43,9 @@ public class ConferenceSessionEntity {
     @Enumerated(EnumType.STRING)
     private ConferenceSession.SessionStatus status;
     
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private ZonedDateTime createdAt;
+    
     @ManyToMany
     @JoinTable(
         name = "cfp_session_speakers",
@@ -39,6 +53,12 @@ public class ConferenceSessionEntity {
         inverseJoinColumns = @JoinColumn(name = "speaker_id")
     )
     private List<SpeakerEntity> speakers = new ArrayList<>();
+
+    // maintained by PostgreSQL and only read by ConferenceSessionSearchService's native queries
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "search_vector", insertable = false, updatable = false,
+            columnDefinition = "tsvector GENERATED ALWAYS AS (" + SEARCH_VECTOR + ") STORED")
+    private String searchVector;
     
     /**
      * Required by JPA
@@ -96,6 +116,14 @@ public class ConferenceSessionEntity {
         this.status = status;
     }
     
+    public ZonedDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(ZonedDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
     public List<SpeakerEntity> getSpeakers() {
         return speakers;
     }
@@ -8,7 +8,9 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -18,43 +20,55 @@ import java.util.stream.Collectors;
 @ApplicationScoped
 public class ConferenceSessionRepository implements PanacheRepositoryBase<ConferenceSessionEntity> {
     
+    // speakers are fetched with their sessions so mapping never triggers a lazy load per session
+    private static final String WITH_SPEAKERS = "SELECT DISTINCT s FROM ConferenceSessionEntity s LEFT JOIN FETCH s.speakers ";
+
     @Inject
     JpaSpeakerRepository speakerRepository;
+
+    @Inject
+    SpeakerIdentityMap speakerIdentityMap;
     
 
     public List<ConferenceSession> findBySpeaker(Speaker speaker) {
-        return find("SELECT s FROM ConferenceSessionEntity s JOIN s.speakers sp WHERE sp.id = ?1", speaker.getId())
-                .stream()
-                .map(this::mapToDomain)
-                .collect(Collectors.toList());
+        return findBySpeakerId(speaker.getId());
     }
     
     public List<ConferenceSession> findBySpeakerId(Long speakerId) {
-        return find("SELECT s FROM ConferenceSessionEntity s JOIN s.speakers sp WHERE sp.id = ?1", speakerId)
-                .stream()
-                .map(this::mapToDomain)
-                .collect(Collectors.toList());
+        return mapAllToDomain(list(WITH_SPEAKERS +
+                "WHERE s.id IN (SELECT s2.id FROM ConferenceSessionEntity s2 JOIN s2.speakers sp WHERE sp.id = ?1)", speakerId));
     }
     
     public List<ConferenceSession> findByStatus(ConferenceSession.SessionStatus status) {
-        return list("status", status)
-                .stream()
-                .map(this::mapToDomain)
-                .collect(Collectors.toList());
+        return mapAllToDomain(list(WITH_SPEAKERS + "WHERE s.status = ?1", status));
     }
     
     public List<ConferenceSession> findByType(ConferenceSession.SessionType type) {
-        return list("sessionType", type)
-                .stream()
-                .map(this::mapToDomain)
-                .collect(Collectors.toList());
+        return mapAllToDomain(list(WITH_SPEAKERS + "WHERE s.sessionType = ?1", type));
     }
     
     public List<ConferenceSession> findByLevel(ConferenceSession.SessionLevel level) {
-        return list("sessionLevel", level)
-                .stream()
-                .map(this::mapToDomain)
-                .collect(Collectors.toList());
+        return mapAllToDomain(list(WITH_SPEAKERS + "WHERE s.sessionLevel = ?1", level));
+    }
+
+    /**
+     * Saves a session and its speaker assignments. Speakers are attached as references by id, so
+     * no speaker row is read, and the speakers of the returned session are the instances passed in.
+     * Those instances replace any mapped earlier in the unit of work, so later reads return them too.
+     */
+    @Transactional
+    public ConferenceSession save(ConferenceSession session) {
+        ConferenceSessionEntity entity = mapToEntity(session);
+        if (entity.getId() == null) {
+            persist(entity);
+        } else {
+            entity = getEntityManager().merge(entity);
+        }
+        Map<Long, Speaker> mappedSpeakers = speakerIdentityMap.current();
+        session.getSpeakers().stream()
+                .filter(speaker -> speaker.getId() != null)
+                .forEach(speaker -> mappedSpeakers.put(speaker.getId(), speaker));
+        return mapToDomain(entity, mappedSpeakers);
     }
     
     @Transactional
@@ -83,24 +97,32 @@ public class ConferenceSessionRepository implements PanacheRepositoryBase<Confer
         entity.setSessionLevel(session.getSessionLevel());
         entity.setDuration(session.getDuration());
         entity.setStatus(session.getStatus());
+        entity.setCreatedAt(session.getCreatedAt().atZone(ZoneOffset.UTC));
         
-        // Map speakers
+        // Speakers are referenced by id without loading them; the foreign key rejects unknown ids on flush
         List<SpeakerEntity> speakerEntities = session.getSpeakers().stream()
-                .map(speaker -> speakerRepository.findByIdOptional(speaker.getId())
-                        .orElseThrow(() -> new IllegalStateException("Speaker not found with ID: " + speaker.getId())))
+                .map(speaker -> getEntityManager().getReference(SpeakerEntity.class, speaker.getId()))
                 .collect(Collectors.toList());
         entity.setSpeakers(speakerEntities);
         
         return entity;
     }
     
+    private List<ConferenceSession> mapAllToDomain(List<ConferenceSessionEntity> entities) {
+        Map<Long, Speaker> mappedSpeakers = speakerIdentityMap.current();
+        return entities.stream()
+                .map(entity -> mapToDomain(entity, mappedSpeakers))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Maps a ConferenceSessionEntity to a ConferenceSession domain object.
      * 
      * @param entity the entity to map
+     * @param mappedSpeakers speakers already mapped in this unit of work, reused and added to
      * @return the session domain object
      */
-    private ConferenceSession mapToDomain(ConferenceSessionEntity entity) {
+    private ConferenceSession mapToDomain(ConferenceSessionEntity entity, Map<Long, Speaker> mappedSpeakers) {
         SessionAbstract sessionAbstract = new SessionAbstract(
                 entity.getTitle(),
                 entity.getSessionAbstract().getSummary(),
@@ -119,10 +141,8 @@ public class ConferenceSessionRepository implements PanacheRepositoryBase<Confer
         session.setId(entity.getId());
         
         // Map speakers
-        entity.getSpeakers().forEach(speakerEntity -> {
-            Speaker speaker = speakerRepository.mapToDomain(speakerEntity);
-            session.addSpeaker(speaker);
-        });
+        entity.getSpeakers().forEach(speakerEntity -> session.addSpeaker(
+                SpeakerIdentityMap.resolve(mappedSpeakers, speakerEntity, speakerRepository::mapToDomain)));
         
         return session;
     }
@@ -20,6 +20,12 @@ public class JpaSpeakerRepository implements SpeakerRepository, PanacheRepositor
     
     @Inject
     EntityManager entityManager;
+
+    @Inject
+    SpeakerIdentityMap speakerIdentityMap;
+
+    @Inject
+    SpeakerSearchIndex searchIndex;
     
     @Override
     public Speaker save(Speaker speaker) {
@@ -29,40 +35,63 @@ public class JpaSpeakerRepository implements SpeakerRepository, PanacheRepositor
         } else {
             entity = getEntityManager().merge(entity);
         }
-        return mapToDomain(entity);
+        searchIndex.saved(entity);
+        Speaker saved = mapToDomain(entity);
+        speakerIdentityMap.current().put(saved.getId(), saved);
+        return saved;
     }
     
     @Override
     public Optional<Speaker> findById(Long id) {
-        return findByIdOptional(id).map(this::mapToDomain);
+        return findByIdOptional(id).map(this::toDomain);
     }
     
     @Override
     public Optional<Speaker> findByEmail(Email email) {
-        return find("email.address", email.value()).firstResultOptional().map(this::mapToDomain);
+        return find("lower(email.value) = ?1", email.getCanonicalValue()).firstResultOptional().map(this::toDomain);
     }
     
     @Override
     public List<Speaker> findByCompany(String company) {
         return find("company", company).list().stream()
-                .map(this::mapToDomain)
+                .map(this::toDomain)
                 .collect(Collectors.toList());
     }
     
+    @Override
+    public boolean deleteById(Long id) {
+        return findByIdOptional(id).map(entity -> {
+            delete(entity);
+            searchIndex.deleted(id);
+            return true;
+        }).orElse(false);
+    }
+    
+    /**
+     * Ranked prefix and typo-tolerant search over names, companies and titles, see
+     * {@link SpeakerSearchIndex}; falls back to a {@code LIKE} query on names when the index is off.
+     */
     @Override
     public List<Speaker> searchByName(String nameQuery) {
-        return find("name.firstName LIKE ?1 OR name.lastName LIKE ?1", "%" + nameQuery + "%").list().stream()
-                .map(this::mapToDomain)
+        List<SpeakerEntity> speakers = searchIndex.search(nameQuery)
+                .map(ids -> searchIndex.inRankOrder(ids, this::findByIds, SpeakerEntity::getId))
+                .orElseGet(() -> find("name.firstName LIKE ?1 OR name.lastName LIKE ?1", "%" + nameQuery + "%").list());
+        return speakers.stream()
+                .map(this::toDomain)
                 .collect(Collectors.toList());
     }
     
     @Override
     public List<Speaker> findAll() {
         return listAll().stream()
-                .map(this::mapToDomain)
+                .map(this::toDomain)
                 .collect(Collectors.toList());
     }
     
+    private List<SpeakerEntity> findByIds(List<Long> ids) {
+        return list("id IN ?1", ids);
+    }
+    
     /**
      * Maps a Speaker domain object to a SpeakerEntity.
      * 
@@ -81,6 +110,11 @@ public class JpaSpeakerRepository implements SpeakerRepository, PanacheRepositor
         return entity;
     }
     
+    // one Speaker instance per id within a unit of work, see SpeakerIdentityMap
+    private Speaker toDomain(SpeakerEntity entity) {
+        return speakerIdentityMap.resolve(entity, this::mapToDomain);
+    }
+    
     /**
      * Maps a SpeakerEntity to a Speaker domain object.
      * 
@@ -4,6 +4,7 @@ import io.arrogantprogrammer.domain.valueobjects.Email;
 import io.arrogantprogrammer.domain.valueobjects.Name;
 import jakarta.persistence.*;
 
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -13,7 +14,7 @@ import java.util.Objects;
  * This is a Domain-Driven Design entity.
  */
 @Entity
-@Table(name = "cfp_speakers")
+@Table(name = "cfp_speakers", indexes = @Index(name = "idx_cfp_speakers_created_at_id", columnList = "created_at, id"))
 public class SpeakerEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -33,6 +34,9 @@ public class SpeakerEntity {
     
     private String photoUrl;
 
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private ZonedDateTime createdAt = ZonedDateTime.now();
+
     @OneToMany(mappedBy = "speaker", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<io.arrogantprogrammer.cfp.persistence.SessionAbstractEntity> sessionAbstracts = new ArrayList<>();
     /**
@@ -102,6 +106,15 @@ public class SpeakerEntity {
         return id;
     }
     
+    /**
+     * Gets when the speaker registered.
+     * 
+     * @return the registration time
+     */
+    public ZonedDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
     /**
      * Gets the speaker's name.
      * 
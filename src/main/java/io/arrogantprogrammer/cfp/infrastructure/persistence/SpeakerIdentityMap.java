@@ -0,0 +1,52 @@
+package io.arrogantprogrammer.cfp.infrastructure.persistence;
+
+import io.arrogantprogrammer.cfp.domain.aggregates.Speaker;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Domain {@link Speaker}s already mapped in the current unit of work, keyed by id. A speaker shared
+ * by many sessions, or read back right after a save, is mapped once per transaction and the same
+ * instance is handed out every time. Saving a session replaces the mapped speakers with the instances
+ * it was saved with. Outside a transaction the map only lives for one repository call.
+ */
+@ApplicationScoped
+public class SpeakerIdentityMap {
+
+    private static final Object RESOURCE_KEY = SpeakerIdentityMap.class;
+
+    @Inject
+    TransactionSynchronizationRegistry registry;
+
+    /**
+     * The map for the current transaction, or a fresh one the caller keeps for a single operation.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Long, Speaker> current() {
+        if (registry.getTransactionKey() == null) {
+            return new HashMap<>();
+        }
+        Map<Long, Speaker> speakers = (Map<Long, Speaker>) registry.getResource(RESOURCE_KEY);
+        if (speakers == null) {
+            speakers = new HashMap<>();
+            registry.putResource(RESOURCE_KEY, speakers);
+        }
+        return speakers;
+    }
+
+    public Speaker resolve(SpeakerEntity entity, Function<SpeakerEntity, Speaker> mapper) {
+        return resolve(current(), entity, mapper);
+    }
+
+    static Speaker resolve(Map<Long, Speaker> speakers, SpeakerEntity entity, Function<SpeakerEntity, Speaker> mapper) {
+        if (entity.getId() == null) {
+            return mapper.apply(entity);
+        }
+        return speakers.computeIfAbsent(entity.getId(), id -> mapper.apply(entity));
+    }
+}
@@ -1,24 +1,94 @@
 package io.arrogantprogrammer.cfp.infrastructure.persistence;
 
+import io.arrogantprogrammer.domain.valueobjects.Email;
+import io.arrogantprogrammer.sharedkernel.pagination.Cursor;
+import io.arrogantprogrammer.sharedkernel.pagination.CursorPage;
+import io.arrogantprogrammer.sharedkernel.pagination.PageRequest;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository for Speaker entities.
  */
 @ApplicationScoped
 public class SpeakerRepository implements PanacheRepository<SpeakerEntity> {
+
+    @Inject
+    SpeakerSearchIndex searchIndex;
+    
+    /**
+     * Persists a new speaker, or keeps the changes to a managed one, and reindexes it for search.
+     */
+    @Override
+    public void persist(SpeakerEntity speaker) {
+        PanacheRepository.super.persist(speaker);
+        searchIndex.saved(speaker);
+    }
+    
+    @Override
+    public boolean deleteById(Long id) {
+        return findByIdOptional(id).map(speaker -> {
+            delete(speaker);
+            searchIndex.deleted(id);
+            return true;
+        }).orElse(false);
+    }
+    
+    /**
+     * Finds one keyset page of speakers in registration order.
+     * 
+     * @param page the cursor and limit
+     * @return the page of speakers
+     */
+    public CursorPage<SpeakerEntity> findPage(PageRequest page) {
+        return CursorPage.of(find(page.seek("") + page.orderBy(""), page.parameters())
+                        .page(0, page.fetchSize())
+                        .list(),
+                page, speaker -> Cursor.of(speaker.getCreatedAt(), speaker.getId()));
+    }
     
     /**
-     * Finds a speaker by email.
+     * Finds a speaker by email, ignoring case, through the unique {@code lower(value)} index.
      * 
      * @param email the email to search for
      * @return an optional containing the speaker if found
      */
     public Optional<SpeakerEntity> findByEmail(String email) {
-        return find("email.address", email).firstResultOptional();
+        return find("lower(email.value) = ?1", Email.canonicalize(email)).firstResultOptional();
+    }
+    
+    /**
+     * Checks whether a speaker has already registered with the email, ignoring case.
+     * 
+     * @param email the email to check
+     * @return true if a speaker with the email exists
+     */
+    public boolean existsByEmail(Email email) {
+        return count("lower(email.value) = ?1", email.getCanonicalValue()) > 0;
+    }
+    
+    /**
+     * Finds which of the emails are already registered, in one query, e.g. to de-duplicate an import.
+     * 
+     * @param emails the emails to check
+     * @return the canonical forms of the emails that are taken
+     */
+    public Set<String> findRegisteredEmails(Collection<Email> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> canonical = new HashSet<>();
+        emails.forEach(email -> canonical.add(email.getCanonicalValue()));
+        return new HashSet<>(getEntityManager()
+                .createQuery("SELECT lower(s.email.value) FROM SpeakerEntity s WHERE lower(s.email.value) IN :emails", String.class)
+                .setParameter("emails", canonical)
+                .getResultList());
     }
     
     /**
@@ -32,12 +102,15 @@ public class SpeakerRepository implements PanacheRepository<SpeakerEntity> {
     }
     
     /**
-     * Searches for speakers by name.
+     * Searches for speakers by name, company or title, best match first, see {@link SpeakerSearchIndex}.
+     * Falls back to a {@code LIKE} query on names when the in-memory index is switched off.
      * 
      * @param nameQuery the name query to search for
      * @return a list of speakers matching the name query
      */
     public List<SpeakerEntity> searchByName(String nameQuery) {
-        return find("name.firstName LIKE ?1 OR name.lastName LIKE ?1", "%" + nameQuery + "%").list();
+        return searchIndex.search(nameQuery)
+                .map(ids -> searchIndex.inRankOrder(ids, matches -> list("id IN ?1", matches), SpeakerEntity::getId))
+                .orElseGet(() -> find("name.firstName LIKE ?1 OR name.lastName LIKE ?1", "%" + nameQuery + "%").list());
     }
 }
\ No newline at end of file
@@ -0,0 +1,153 @@
+package io.arrogantprogrammer.cfp.infrastructure.persistence;
+
+import io.arrogantprogrammer.sharedkernel.transactions.TransactionCallbacks;
+import io.quarkus.logging.Log;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.interceptor.Interceptor;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * In-memory speaker search for {@code /api/cfp/speakers/search}, replacing the
+ * {@code LIKE '%query%'} scan over {@code cfp_speakers}.
+ * <p>
+ * Speaker names, companies and titles are loaded into a {@link SpeakerTermIndex} at startup, and the
+ * speaker repositories report every saved or deleted speaker, which is applied once the transaction
+ * commits. A search yields the ids of the best matches, which the repositories load by primary key.
+ * <p>
+ * With {@code conference.cfp.speaker-search.in-memory=false}, or inside a transaction that has
+ * written speakers and so must see its own uncommitted changes, {@link #search} returns empty and the
+ * repositories query the database instead.
+ */
+@ApplicationScoped
+public class SpeakerSearchIndex {
+
+    private static final String WRITTEN = SpeakerSearchIndex.class.getName() + ".written";
+
+    public record SpeakerTerms(Long id, String firstName, String lastName, String company, String title) {
+    }
+
+    @ConfigProperty(name = "conference.cfp.speaker-search.in-memory", defaultValue = "true")
+    boolean inMemory;
+
+    @ConfigProperty(name = "conference.cfp.speaker-search.max-results", defaultValue = "50")
+    int maxResults;
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    TransactionCallbacks transactionCallbacks;
+
+    @Inject
+    TransactionSynchronizationRegistry transactionRegistry;
+
+    private volatile SpeakerTermIndex index = new SpeakerTermIndex();
+
+    void load(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEvent event) {
+        if (inMemory) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Replaces the index with the speakers currently in the table.
+     */
+    public synchronized void rebuild() {
+        List<SpeakerTerms> speakers = QuarkusTransaction.requiringNew().call(() -> entityManager.createQuery(
+                        "SELECT s.id, s.name.firstName, s.name.lastName, s.company, s.title FROM SpeakerEntity s",
+                        SpeakerTerms.class)
+                .getResultList());
+        SpeakerTermIndex rebuilt = new SpeakerTermIndex();
+        speakers.forEach(speaker -> rebuilt.put(speaker.id(), speaker.firstName(), speaker.lastName(),
+                speaker.company(), speaker.title()));
+        index = rebuilt;
+        Log.debugf("Indexed %d speakers for search", speakers.size());
+    }
+
+    /**
+     * Ids of the best matching speakers, best first, or empty if the database has to be queried.
+     */
+    public Optional<List<Long>> search(String query) {
+        if (!inMemory || writtenInThisTransaction()) {
+            return Optional.empty();
+        }
+        long[] ids = index.search(query, maxResults);
+        List<Long> ranked = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            ranked.add(id);
+        }
+        return Optional.of(ranked);
+    }
+
+    /**
+     * Loads the speakers behind {@code ids} with {@code loader} and returns them in the order of
+     * {@code ids}, skipping any that were deleted in the meantime.
+     */
+    public <T> List<T> inRankOrder(List<Long> ids, Function<List<Long>, List<T>> loader, Function<T, Long> id) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, T> byId = new HashMap<>();
+        for (T speaker : loader.apply(ids)) {
+            byId.put(id.apply(speaker), speaker);
+        }
+        List<T> ranked = new ArrayList<>(ids.size());
+        for (Long speakerId : ids) {
+            T speaker = byId.get(speakerId);
+            if (speaker != null) {
+                ranked.add(speaker);
+            }
+        }
+        return ranked;
+    }
+
+    /**
+     * Indexes {@code speaker} as it is when the current transaction commits.
+     */
+    public void saved(SpeakerEntity speaker) {
+        markWritten();
+        transactionCallbacks.afterCommit(() -> put(speaker));
+    }
+
+    /**
+     * Drops the speaker from the index once the current transaction commits.
+     */
+    public void deleted(Long speakerId) {
+        markWritten();
+        transactionCallbacks.afterCommit(() -> remove(speakerId));
+    }
+
+    private synchronized void put(SpeakerEntity speaker) {
+        index.put(speaker.getId(),
+                speaker.getName() == null ? null : speaker.getName().getFirstName(),
+                speaker.getName() == null ? null : speaker.getName().getLastName(),
+                speaker.getCompany(), speaker.getTitle());
+    }
+
+    private synchronized void remove(Long speakerId) {
+        index.remove(speakerId);
+    }
+
+    private void markWritten() {
+        if (transactionRegistry.getTransactionKey() != null) {
+            transactionRegistry.putResource(WRITTEN, Boolean.TRUE);
+        }
+    }
+
+    private boolean writtenInThisTransaction() {
+        return transactionRegistry.getTransactionKey() != null && transactionRegistry.getResource(WRITTEN) != null;
+    }
+}
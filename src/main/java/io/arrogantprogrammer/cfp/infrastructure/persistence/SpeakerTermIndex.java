@@ -0,0 +1,353 @@
+package io.arrogantprogrammer.cfp.infrastructure.persistence;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index over speaker first and last names, companies and titles.
+ * <p>
+ * Values are split into lower-case, accent-free terms. Each term has a sorted {@code int[]} posting
+ * list of internal document numbers, and the terms are kept in a sorted map, so a prefix lookup is a
+ * range scan. Typos are found through a second index from the padded trigrams of each term to the
+ * terms containing them: terms that share enough trigrams with a query token are checked with a
+ * bounded edit distance.
+ * <p>
+ * Every query token has to match, as an exact term, a term prefix or a term within one edit (two for
+ * tokens of eight or more characters). Hits are ranked by the summed score of the best match per
+ * token, where name matches outrank company and title matches and exact matches outrank prefixes,
+ * which outrank typos.
+ * <p>
+ * Instances are thread-safe; searches run concurrently and block only while a speaker is written.
+ */
+final class SpeakerTermIndex {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final String[] NO_TERMS = new String[0];
+
+    private final Field names = new Field(100, 60, 40);
+    private final Field details = new Field(30, 20, 10);
+    private final Map<Long, Integer> docsBySpeaker = new HashMap<>();
+    private long[] speakerIds = new long[64];
+    private int docCount;
+    private final Postings freeDocs = new Postings();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Indexes a speaker, replacing what was indexed for it before.
+     */
+    void put(long speakerId, String firstName, String lastName, String company, String title) {
+        String[] nameTerms = terms(firstName, lastName);
+        String[] detailTerms = terms(company, title);
+        lock.writeLock().lock();
+        try {
+            Integer doc = docsBySpeaker.get(speakerId);
+            if (doc == null) {
+                doc = newDoc();
+                docsBySpeaker.put(speakerId, doc);
+                speakerIds[doc] = speakerId;
+            } else {
+                names.remove(doc);
+                details.remove(doc);
+            }
+            names.add(doc, nameTerms);
+            details.add(doc, detailTerms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    boolean remove(long speakerId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docsBySpeaker.remove(speakerId);
+            if (doc == null) {
+                return false;
+            }
+            names.remove(doc);
+            details.remove(doc);
+            freeDocs.add(doc);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return docsBySpeaker.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the best matching speakers, best first; equal scores keep indexing order.
+     */
+    long[] search(String query, int limit) {
+        String[] tokens = terms(query);
+        if (tokens.length == 0 || limit <= 0) {
+            return new long[0];
+        }
+        lock.readLock().lock();
+        try {
+            int[] total = new int[docCount];
+            int[] best = new int[docCount];
+            for (int i = 0; i < tokens.length; i++) {
+                Arrays.fill(best, 0);
+                names.score(tokens[i], best);
+                details.score(tokens[i], best);
+                for (int doc = 0; doc < docCount; doc++) {
+                    // a zero total means an earlier token did not match
+                    total[doc] = best[doc] == 0 || (i > 0 && total[doc] == 0) ? 0 : total[doc] + best[doc];
+                }
+            }
+            return rank(total, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long[] rank(int[] total, int limit) {
+        int hits = 0;
+        for (int score : total) {
+            if (score > 0) {
+                hits++;
+            }
+        }
+        // score descending, then document number ascending, packed so a primitive sort orders them
+        long[] keys = new long[hits];
+        int next = 0;
+        for (int doc = 0; doc < total.length; doc++) {
+            if (total[doc] > 0) {
+                keys[next++] = ((long) (Integer.MAX_VALUE - total[doc]) << 32) | doc;
+            }
+        }
+        Arrays.sort(keys);
+        long[] ids = new long[Math.min(limit, hits)];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = speakerIds[(int) keys[i]];
+        }
+        return ids;
+    }
+
+    private int newDoc() {
+        if (freeDocs.size > 0) {
+            return freeDocs.docs[--freeDocs.size];
+        }
+        if (docCount == speakerIds.length) {
+            speakerIds = Arrays.copyOf(speakerIds, docCount * 2);
+        }
+        return docCount++;
+    }
+
+    /**
+     * Lower-case, accent-free terms of {@code values}, without duplicates; null values are skipped.
+     */
+    static String[] terms(String... values) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String value : values) {
+            if (value == null) {
+                continue;
+            }
+            String folded = MARKS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("")
+                    .toLowerCase(Locale.ROOT);
+            for (String term : SEPARATORS.split(folded)) {
+                if (!term.isEmpty()) {
+                    terms.add(term);
+                }
+            }
+        }
+        return terms.toArray(NO_TERMS);
+    }
+
+    static int maxEdits(String token) {
+        return token.length() < 4 ? 0 : token.length() < 8 ? 1 : 2;
+    }
+
+    /**
+     * Optimal string alignment distance between {@code a} and {@code b}, or {@code max + 1} once it
+     * is known to exceed {@code max}.
+     */
+    static int distance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int d = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    d = Math.min(d, previous2[j - 2] + 1);
+                }
+                current[j] = d;
+                rowMin = Math.min(rowMin, d);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[b.length()], max + 1);
+    }
+
+    static String[] trigrams(String term) {
+        String padded = "$" + term + "$";
+        String[] grams = new String[padded.length() - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = padded.substring(i, i + 3);
+        }
+        return grams;
+    }
+
+    /**
+     * The terms of one group of speaker values, with the scores their matches are worth.
+     */
+    private static final class Field {
+
+        private final int exactScore;
+        private final int prefixScore;
+        private final int typoScore;
+
+        private final NavigableMap<String, Integer> ordinals = new TreeMap<>();
+        private final List<String> terms = new ArrayList<>();
+        private final List<Postings> postings = new ArrayList<>();
+        private final Map<String, Postings> termsByTrigram = new HashMap<>();
+        private String[][] termsByDoc = new String[64][];
+
+        Field(int exactScore, int prefixScore, int typoScore) {
+            this.exactScore = exactScore;
+            this.prefixScore = prefixScore;
+            this.typoScore = typoScore;
+        }
+
+        void add(int doc, String[] docTerms) {
+            if (doc >= termsByDoc.length) {
+                termsByDoc = Arrays.copyOf(termsByDoc, Math.max(doc + 1, termsByDoc.length * 2));
+            }
+            termsByDoc[doc] = docTerms;
+            for (String term : docTerms) {
+                postings.get(ordinal(term)).add(doc);
+            }
+        }
+
+        void remove(int doc) {
+            if (doc < termsByDoc.length && termsByDoc[doc] != null) {
+                for (String term : termsByDoc[doc]) {
+                    postings.get(ordinals.get(term)).remove(doc);
+                }
+                termsByDoc[doc] = null;
+            }
+        }
+
+        /**
+         * Raises {@code best[doc]} to the score of the best match of {@code token} in each document.
+         */
+        void score(String token, int[] best) {
+            for (Map.Entry<String, Integer> term : ordinals.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+                postings.get(term.getValue()).raise(best, term.getKey().length() == token.length() ? exactScore : prefixScore);
+            }
+            int maxEdits = maxEdits(token);
+            if (maxEdits == 0) {
+                return;
+            }
+            String[] grams = trigrams(token);
+            int[] shared = new int[terms.size()];
+            for (String gram : grams) {
+                Postings containing = termsByTrigram.get(gram);
+                if (containing != null) {
+                    for (int i = 0; i < containing.size; i++) {
+                        shared[containing.docs[i]]++;
+                    }
+                }
+            }
+            // an edit changes at most three trigrams, a transposition four
+            int required = Math.max(1, grams.length - 4 * maxEdits);
+            for (int ordinal = 0; ordinal < shared.length; ordinal++) {
+                if (shared[ordinal] >= required && postings.get(ordinal).size > 0) {
+                    int edits = distance(token, terms.get(ordinal), maxEdits);
+                    if (edits > 0 && edits <= maxEdits) {
+                        postings.get(ordinal).raise(best, typoScore / edits);
+                    }
+                }
+            }
+        }
+
+        private int ordinal(String term) {
+            Integer ordinal = ordinals.get(term);
+            if (ordinal == null) {
+                ordinal = terms.size();
+                ordinals.put(term, ordinal);
+                terms.add(term);
+                postings.add(new Postings());
+                for (String gram : trigrams(term)) {
+                    termsByTrigram.computeIfAbsent(gram, g -> new Postings()).add(ordinal);
+                }
+            }
+            return ordinal;
+        }
+    }
+
+    /**
+     * Sorted set of ints, used both for the documents of a term and the terms of a trigram.
+     */
+    private static final class Postings {
+
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int doc) {
+            int index = Arrays.binarySearch(docs, 0, size, doc);
+            if (index >= 0) {
+                return;
+            }
+            index = -index - 1;
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            System.arraycopy(docs, index, docs, index + 1, size - index);
+            docs[index] = doc;
+            size++;
+        }
+
+        void remove(int doc) {
+            int index = Arrays.binarySearch(docs, 0, size, doc);
+            if (index >= 0) {
+                System.arraycopy(docs, index + 1, docs, index, size - index - 1);
+                size--;
+            }
+        }
+
+        void raise(int[] best, int score) {
+            for (int i = 0; i < size; i++) {
+                if (best[docs[i]] < score) {
+                    best[docs[i]] = score;
+                }
+            }
+        }
+    }
+}
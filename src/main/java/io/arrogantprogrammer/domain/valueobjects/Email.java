@@ -1,20 +1,24 @@
 package io.arrogantprogrammer.domain.valueobjects;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Embeddable;
-import java.util.Objects;
-import java.util.regex.Pattern;
+import jakarta.persistence.Transient;
+import java.util.Locale;
 
 /**
  * Email value object that encapsulates email validation and behavior.
  * This is an example of a Domain-Driven Design value object.
+ * <p>
+ * Emails are compared case-insensitively through their {@linkplain #getCanonicalValue() canonical}
+ * lower-case form, which is computed once per instance, so using emails as map keys or comparing them
+ * does not allocate.
  */
 @Embeddable
 public class Email {
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(
-            "^[a-zA-Z0-9_+&*-]+(?:\\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,7}$"
-    );
-    
     private String value;
+
+    @Transient
+    private String canonicalValue;
     
     /**
      * Required by JPA
@@ -31,6 +35,18 @@ public class Email {
     public Email(String email) {
         validate(email);
         this.value = email;
+        this.canonicalValue = canonicalize(email);
+    }
+
+    /**
+     * Returns the lower-case form of an email address, as stored in the unique
+     * {@code lower(value)} index and used to look emails up.
+     * 
+     * @param email the email address
+     * @return the canonical email address
+     */
+    public static String canonicalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
     }
     
     /**
@@ -44,13 +60,13 @@ public class Email {
             throw new IllegalArgumentException("Email cannot be empty");
         }
         
-        if (!EMAIL_PATTERN.matcher(email).matches()) {
-            throw new IllegalArgumentException("Invalid email format: " + email);
-        }
-        
         if (email.length() > 255) {
             throw new IllegalArgumentException("Email is too long (max 255 characters)");
         }
+        
+        if (!EmailValidator.isValid(email)) {
+            throw new IllegalArgumentException("Invalid email format: " + email);
+        }
     }
     
     /**
@@ -62,6 +78,22 @@ public class Email {
         return value;
     }
     
+    /**
+     * Returns the lower-case form of the email address that equality and lookups use.
+     * 
+     * @return the canonical email address
+     */
+    @JsonIgnore
+    public String getCanonicalValue() {
+        // instances loaded by JPA bypass the constructor
+        String canonical = canonicalValue;
+        if (canonical == null) {
+            canonical = canonicalize(value);
+            canonicalValue = canonical;
+        }
+        return canonical;
+    }
+    
     /**
      * Returns the domain part of the email address.
      * 
@@ -85,12 +117,13 @@ public class Email {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Email email = (Email) o;
-        return Objects.equals(value.toLowerCase(), email.value.toLowerCase());
+        return getCanonicalValue().equals(email.getCanonicalValue());
     }
     
     @Override
     public int hashCode() {
-        return Objects.hash(value.toLowerCase());
+        // String caches its hash, so only the first call hashes the characters
+        return getCanonicalValue().hashCode();
     }
     
     @Override
@@ -0,0 +1,94 @@
+package io.arrogantprogrammer.domain.valueobjects;
+
+/**
+ * Checks email syntax in a single pass over the characters, without a regex or any allocation.
+ * <p>
+ * Accepts exactly the strings matched by {@link #REFERENCE_PATTERN}, which {@link Email} used to
+ * run on every construction: a local part of dot-separated runs of letters, digits and
+ * {@code _ + & * -}, an {@code @}, then one or more dot-terminated labels of letters, digits and
+ * hyphens, and a top-level domain of 2 to 7 ASCII letters. {@code EmailValidatorTest} checks the two
+ * agree on millions of generated inputs.
+ */
+public final class EmailValidator {
+
+    /**
+     * The regex this validator replaces and must agree with.
+     */
+    static final String REFERENCE_PATTERN =
+            "^[a-zA-Z0-9_+&*-]+(?:\\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,7}$";
+
+    private static final byte LOCAL = 1;
+    private static final byte DOMAIN = 2;
+    private static final byte LETTER = 4;
+
+    /** Character classes of the ASCII characters; any other character is invalid everywhere. */
+    private static final byte[] CLASSES = new byte[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            CLASSES[c] = LOCAL | DOMAIN | LETTER;
+            CLASSES[Character.toUpperCase(c)] = LOCAL | DOMAIN | LETTER;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            CLASSES[c] = LOCAL | DOMAIN;
+        }
+        CLASSES['-'] = LOCAL | DOMAIN;
+        for (char c : new char[]{'_', '+', '&', '*'}) {
+            CLASSES[c] = LOCAL;
+        }
+    }
+
+    private EmailValidator() {
+    }
+
+    public static boolean isValid(CharSequence email) {
+        int length = email.length();
+        int i = 0;
+        // local part: non-empty runs separated by single dots
+        boolean runEmpty = true;
+        for (; i < length; i++) {
+            char c = email.charAt(i);
+            if (c == '@') {
+                break;
+            }
+            if (c == '.') {
+                if (runEmpty) {
+                    return false;
+                }
+                runEmpty = true;
+            } else if (is(c, LOCAL)) {
+                runEmpty = false;
+            } else {
+                return false;
+            }
+        }
+        if (i == length || runEmpty) {
+            return false;
+        }
+        // domain: non-empty labels separated by single dots, the last one 2 to 7 letters
+        int labelLength = 0;
+        boolean lettersOnly = true;
+        boolean dotted = false;
+        for (i++; i < length; i++) {
+            char c = email.charAt(i);
+            if (c == '.') {
+                if (labelLength == 0) {
+                    return false;
+                }
+                dotted = true;
+                labelLength = 0;
+                lettersOnly = true;
+            } else if (is(c, DOMAIN)) {
+                labelLength++;
+                lettersOnly &= is(c, LETTER);
+            } else {
+                return false;
+            }
+        }
+        return dotted && lettersOnly && labelLength >= 2 && labelLength <= 7;
+    }
+
+    private static boolean is(char c, byte characterClass) {
+        return c < 128 && (CLASSES[c] & characterClass) != 0;
+    }
+}
@@ -0,0 +1,51 @@
+package io.arrogantprogrammer.events;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+
+/**
+ * Kafka value deserializer for {@link AttendeeRegistered}, shared by every consumer of the
+ * {@code attendee-registered} topic. The record's {@link EventFormat} headers select JSON or the
+ * binary encoding; JSON is parsed straight from the bytes with one preconfigured reader, so no
+ * intermediate String or per-record reader is allocated.
+ * <p>
+ * Unknown properties are ignored so producers can add fields without breaking consumers. A malformed
+ * record throws {@link SerializationException}; with {@code fail-on-deserialization-failure=false} the
+ * connector delivers it with a {@code null} payload and the consumer sends it to the dead-letter topic.
+ */
+public class AttendeeRegisteredDeserializer implements Deserializer<AttendeeRegistered> {
+
+    private static final ObjectReader READER = EventSerializer.readerFor(AttendeeRegistered.class);
+
+    @Override
+    public AttendeeRegistered deserialize(String topic, byte[] data) {
+        if (data == null || data.length == 0) {
+            return null;
+        }
+        try {
+            return READER.readValue(data);
+        } catch (IOException e) {
+            throw new SerializationException("Malformed AttendeeRegistered record on " + topic, e);
+        }
+    }
+
+    @Override
+    public AttendeeRegistered deserialize(String topic, Headers headers, byte[] data) {
+        EventFormat format = EventFormatHeaders.formatOf(headers);
+        if (format == JsonEventFormat.INSTANCE) {
+            return deserialize(topic, data);
+        }
+        if (data == null || data.length == 0) {
+            return null;
+        }
+        try {
+            return format.decode(data, AttendeeRegistered.class);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Malformed " + format.name() + " AttendeeRegistered record on " + topic, e);
+        }
+    }
+}
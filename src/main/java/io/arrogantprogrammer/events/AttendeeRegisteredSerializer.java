@@ -0,0 +1,50 @@
+package io.arrogantprogrammer.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.smallrye.reactive.messaging.kafka.DeserializationFailureHandler;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Counterpart of {@link AttendeeRegisteredDeserializer}, used to write rejected records to the
+ * {@code attendee-registered-dlq} topic. Always writes JSON and replaces any format headers copied
+ * from the original record to say so.
+ * <p>
+ * A record that failed to deserialize has no payload to write; its original bytes, which the
+ * connector keeps in the {@code deserialization-failure-data} header, become the dead letter's value
+ * unchanged, along with the original format headers, so it can be inspected and replayed.
+ */
+public class AttendeeRegisteredSerializer implements Serializer<AttendeeRegistered> {
+
+    private static final ObjectWriter WRITER = EventSerializer.writerFor(AttendeeRegistered.class);
+
+    @Override
+    public byte[] serialize(String topic, AttendeeRegistered data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return WRITER.writeValueAsBytes(data);
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("Failed to serialize AttendeeRegistered for " + topic, e);
+        }
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, AttendeeRegistered data) {
+        if (data == null && headers != null) {
+            Header original = headers.lastHeader(DeserializationFailureHandler.DESERIALIZATION_FAILURE_DATA);
+            if (original != null) {
+                headers.remove(DeserializationFailureHandler.DESERIALIZATION_FAILURE_DATA);
+                return original.value();
+            }
+        }
+        if (headers != null) {
+            EventFormatHeaders.write(headers, JsonEventFormat.NAME, JsonEventFormat.INSTANCE.version());
+        }
+        return serialize(topic, data);
+    }
+}
@@ -0,0 +1,42 @@
+package io.arrogantprogrammer.events;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.logging.Log;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-consumer latency and size of batches received from Kafka, and how many of their records could
+ * not be deserialized, tagged with the consumer name.
+ */
+@ApplicationScoped
+public class BatchMetrics {
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    public void record(String consumer, RegistrationBatch batch, long elapsedNanos) {
+        Timer.builder("attendee.consumer.batch.latency")
+                .tag("consumer", consumer)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("attendee.consumer.batch.size")
+                .tag("consumer", consumer)
+                .baseUnit("records")
+                .register(meterRegistry)
+                .record(batch.size());
+        if (batch.malformed() > 0) {
+            Log.warnf("%s: %d of %d records in a batch could not be deserialized", consumer, batch.malformed(), batch.size());
+            Counter.builder("attendee.consumer.batch.malformed")
+                    .tag("consumer", consumer)
+                    .baseUnit("records")
+                    .register(meterRegistry)
+                    .increment(batch.malformed());
+        }
+    }
+}
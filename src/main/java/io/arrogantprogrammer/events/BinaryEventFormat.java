@@ -0,0 +1,153 @@
+package io.arrogantprogrammer.events;
+
+import io.arrogantprogrammer.cfp.domain.aggregates.ConferenceSession;
+import io.arrogantprogrammer.cfp.domain.events.AbstractSubmittedEvent;
+import io.arrogantprogrammer.cfp.domain.events.SessionAcceptedEvent;
+import io.arrogantprogrammer.cfp.domain.events.SessionRejectedEvent;
+import io.arrogantprogrammer.cfp.domain.events.SessionSubmittedEvent;
+import io.arrogantprogrammer.cfp.domain.events.SessionWithdrawnEvent;
+import io.arrogantprogrammer.cfp.domain.events.SpeakerRegistrationEvent;
+import io.arrogantprogrammer.cfp.domain.events.SpeakerUpdatedEvent;
+import io.arrogantprogrammer.domain.valueobjects.Email;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Compact, schema-versioned binary encoding for {@link AttendeeRegistered} and the CFP domain events.
+ * Fields are written positionally with no names or delimiters, so a typical registration takes less
+ * than half the bytes of its JSON form and needs no parsing or reflection to read back.
+ * <p>
+ * The field layout of each event is fixed for a {@link #version()}; adding, removing or reordering
+ * fields, or reordering the constants of an encoded enum, requires a new version that still decodes
+ * the old one.
+ */
+public final class BinaryEventFormat implements EventFormat {
+
+    public static final String NAME = "binary";
+    public static final BinaryEventFormat INSTANCE = new BinaryEventFormat();
+
+    record Codec<T>(BiConsumer<T, BinaryEventWriter> writer, Function<BinaryEventReader, T> reader) {
+    }
+
+    private static final Map<Class<?>, Codec<?>> CODECS = Map.of(
+            AttendeeRegistered.class, new Codec<AttendeeRegistered>(
+                    (event, out) -> {
+                        out.writeNullableLong(event.getAttendeeId());
+                        out.writeString(event.getName());
+                        out.writeString(event.getEmail());
+                        out.writeString(event.getCompany());
+                        out.writeString(event.getTshirtSize());
+                        out.writeString(event.getDietaryPreference());
+                        out.writeString(event.getSocialMedia());
+                        out.writeInstant(event.getTimestamp());
+                    },
+                    in -> {
+                        AttendeeRegistered event = new AttendeeRegistered();
+                        event.setAttendeeId(in.readNullableLong());
+                        event.setName(in.readString());
+                        event.setEmail(in.readString());
+                        event.setCompany(in.readString());
+                        event.setTshirtSize(in.readString());
+                        event.setDietaryPreference(in.readString());
+                        event.setSocialMedia(in.readString());
+                        event.setTimestamp(in.readInstant());
+                        return event;
+                    }),
+            SessionSubmittedEvent.class, new Codec<SessionSubmittedEvent>(
+                    (event, out) -> {
+                        out.writeString(event.getTitle());
+                        out.writeEnum(event.getSessionType());
+                        out.writeEnum(event.getSessionLevel());
+                        out.writeInt(event.getDurationMinutes());
+                        out.writeInstant(event.getTimestamp());
+                    },
+                    in -> new SessionSubmittedEvent(in.readString(),
+                            in.readEnum(ConferenceSession.SessionType.values()),
+                            in.readEnum(ConferenceSession.SessionLevel.values()),
+                            in.readInt(), in.readInstant())),
+            SessionAcceptedEvent.class, new Codec<SessionAcceptedEvent>(
+                    (event, out) -> writeSessionDecision(event.getSessionId(), event.getTitle(), event.getTimestamp(), out),
+                    in -> new SessionAcceptedEvent(in.readNullableLong(), in.readString(), in.readInstant())),
+            SessionRejectedEvent.class, new Codec<SessionRejectedEvent>(
+                    (event, out) -> writeSessionDecision(event.getSessionId(), event.getTitle(), event.getTimestamp(), out),
+                    in -> new SessionRejectedEvent(in.readNullableLong(), in.readString(), in.readInstant())),
+            SessionWithdrawnEvent.class, new Codec<SessionWithdrawnEvent>(
+                    (event, out) -> writeSessionDecision(event.getSessionId(), event.getTitle(), event.getTimestamp(), out),
+                    in -> new SessionWithdrawnEvent(in.readNullableLong(), in.readString(), in.readInstant())),
+            SpeakerRegistrationEvent.class, new Codec<SpeakerRegistrationEvent>(
+                    (event, out) -> {
+                        writeEmail(event.getEmail(), out);
+                        out.writeInstant(event.getTimestamp());
+                    },
+                    in -> new SpeakerRegistrationEvent(readEmail(in), in.readInstant())),
+            SpeakerUpdatedEvent.class, new Codec<SpeakerUpdatedEvent>(
+                    (event, out) -> {
+                        writeEmail(event.getEmail(), out);
+                        out.writeInstant(event.getTimestamp());
+                    },
+                    in -> new SpeakerUpdatedEvent(readEmail(in), in.readInstant())),
+            AbstractSubmittedEvent.class, new Codec<AbstractSubmittedEvent>(
+                    (event, out) -> {
+                        writeEmail(event.getEmail(), out);
+                        out.writeString(event.getTitle());
+                        out.writeInstant(event.getTimestamp());
+                    },
+                    in -> new AbstractSubmittedEvent(readEmail(in), in.readString(), in.readInstant())));
+
+    private BinaryEventFormat() {
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public boolean supports(Class<?> type) {
+        return CODECS.containsKey(type);
+    }
+
+    @Override
+    public byte[] encode(Object event) {
+        BinaryEventWriter out = new BinaryEventWriter(128);
+        codecFor(event.getClass()).writer().accept(event, out);
+        return out.toByteArray();
+    }
+
+    @Override
+    public <T> T decode(byte[] data, Class<T> type) {
+        return type.cast(codecFor(type).reader().apply(new BinaryEventReader(data)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Codec<Object> codecFor(Class<?> type) {
+        Codec<?> codec = CODECS.get(type);
+        if (codec == null) {
+            throw new IllegalArgumentException("No binary encoding for " + type.getName());
+        }
+        return (Codec<Object>) codec;
+    }
+
+    private static void writeSessionDecision(Long sessionId, String title, Instant timestamp, BinaryEventWriter out) {
+        out.writeNullableLong(sessionId);
+        out.writeString(title);
+        out.writeInstant(timestamp);
+    }
+
+    private static void writeEmail(Email email, BinaryEventWriter out) {
+        out.writeString(email == null ? null : email.getValue());
+    }
+
+    private static Email readEmail(BinaryEventReader in) {
+        String value = in.readString();
+        return value == null ? null : new Email(value);
+    }
+}
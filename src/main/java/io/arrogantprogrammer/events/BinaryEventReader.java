@@ -0,0 +1,95 @@
+package io.arrogantprogrammer.events;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Reads what {@link BinaryEventWriter} wrote. Truncated or corrupt input raises
+ * {@link IllegalArgumentException}.
+ */
+final class BinaryEventReader {
+
+    private final byte[] data;
+    private int position;
+
+    BinaryEventReader(byte[] data) {
+        this.data = data;
+    }
+
+    int readVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = next();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint at offset " + position);
+    }
+
+    long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = next();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint at offset " + position);
+    }
+
+    int readInt() {
+        int value = readVarInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    long readLong() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    Long readNullableLong() {
+        return readVarInt() == 0 ? null : readLong();
+    }
+
+    String readString() {
+        int length = readVarInt() - 1;
+        if (length < 0) {
+            return null;
+        }
+        if (length > data.length - position) {
+            throw new IllegalArgumentException("String of " + length + " bytes exceeds the event at offset " + position);
+        }
+        String value = new String(data, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    Instant readInstant() {
+        int nanos = readVarInt() - 1;
+        if (nanos < 0) {
+            return null;
+        }
+        return Instant.ofEpochSecond(readLong(), nanos);
+    }
+
+    <E extends Enum<E>> E readEnum(E[] values) {
+        int ordinal = readVarInt() - 1;
+        if (ordinal < 0) {
+            return null;
+        }
+        if (ordinal >= values.length) {
+            throw new IllegalArgumentException("Unknown enum ordinal " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+    private byte next() {
+        if (position >= data.length) {
+            throw new IllegalArgumentException("Truncated binary event");
+        }
+        return data[position++];
+    }
+}
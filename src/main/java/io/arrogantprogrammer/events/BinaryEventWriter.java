@@ -0,0 +1,141 @@
+package io.arrogantprogrammer.events;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Growable buffer for {@link BinaryEventFormat}. Integers are varints (zig-zag for signed values),
+ * strings are UTF-8 prefixed with their byte length, and every nullable value spends its null marker
+ * in the length or presence varint rather than in a separate byte.
+ */
+final class BinaryEventWriter {
+
+    private byte[] buffer;
+    private int position;
+
+    BinaryEventWriter(int initialCapacity) {
+        buffer = new byte[initialCapacity];
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    void writeVarInt(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    void writeInt(int value) {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    void writeLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    void writeNullableLong(Long value) {
+        if (value == null) {
+            writeVarInt(0);
+        } else {
+            writeVarInt(1);
+            writeLong(value);
+        }
+    }
+
+    /**
+     * Writes the byte length plus one, so zero means null, followed by the UTF-8 bytes. ASCII, which
+     * is nearly all of our data, is copied without an intermediate byte array.
+     */
+    void writeString(String value) {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        int length = value.length();
+        int utf8Length = utf8Length(value);
+        writeVarInt(utf8Length + 1);
+        ensureCapacity(utf8Length);
+        int i = 0;
+        for (char c; i < length && (c = value.charAt(i)) < 0x80; i++) {
+            buffer[position++] = (byte) c;
+        }
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer[position++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xC0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogate, encoded as '?' like String.getBytes(UTF_8) does
+                buffer[position++] = '?';
+            } else {
+                buffer[position++] = (byte) (0xE0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    /**
+     * Writes nanos plus one, so zero means null, followed by the zig-zag epoch seconds.
+     */
+    void writeInstant(Instant value) {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        writeVarInt(value.getNano() + 1);
+        writeLong(value.getEpochSecond());
+    }
+
+    void writeEnum(Enum<?> value) {
+        writeVarInt(value == null ? 0 : value.ordinal() + 1);
+    }
+
+    private static int utf8Length(String value) {
+        int length = value.length();
+        int utf8Length = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x800) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    // four bytes for the pair of chars
+                    utf8Length += 2;
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    utf8Length += 2;
+                }
+            } else if (c >= 0x80) {
+                utf8Length++;
+            }
+        }
+        return utf8Length;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.arrogantprogrammer.events;
+
+/**
+ * Wire format for domain events. The producer picks one through {@code conference.events.format};
+ * its name and version travel with every record in the {@value #FORMAT_HEADER} and
+ * {@value #VERSION_HEADER} Kafka headers, so consumers decode each record in whatever format it was
+ * written. Records without headers are JSON.
+ */
+public interface EventFormat {
+
+    String FORMAT_HEADER = "event-format";
+    String VERSION_HEADER = "event-format-version";
+
+    String name();
+
+    /**
+     * Schema version written by {@link #encode}. Decoders accept this version and older ones.
+     */
+    int version();
+
+    byte[] encode(Object event);
+
+    <T> T decode(byte[] data, Class<T> type);
+
+    default boolean supports(Class<?> type) {
+        return true;
+    }
+
+    static EventFormat named(String name) {
+        return switch (name) {
+            case JsonEventFormat.NAME -> JsonEventFormat.INSTANCE;
+            case BinaryEventFormat.NAME -> BinaryEventFormat.INSTANCE;
+            default -> throw new IllegalArgumentException("Unknown event format: " + name);
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package io.arrogantprogrammer.events;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads and writes the {@link EventFormat} Kafka headers.
+ */
+final class EventFormatHeaders {
+
+    private static final byte[] JSON = JsonEventFormat.NAME.getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BINARY = BinaryEventFormat.NAME.getBytes(StandardCharsets.US_ASCII);
+
+    private EventFormatHeaders() {
+    }
+
+    static Headers of(String format, int version) {
+        return write(new RecordHeaders(), format, version);
+    }
+
+    static Headers write(Headers headers, String format, int version) {
+        headers.remove(EventFormat.FORMAT_HEADER);
+        headers.remove(EventFormat.VERSION_HEADER);
+        headers.add(EventFormat.FORMAT_HEADER, format.getBytes(StandardCharsets.US_ASCII));
+        headers.add(EventFormat.VERSION_HEADER, Integer.toString(version).getBytes(StandardCharsets.US_ASCII));
+        return headers;
+    }
+
+    /**
+     * The format a record was written in, JSON if it carries no format header.
+     *
+     * @throws SerializationException if the format is unknown or its version newer than this build reads
+     */
+    static EventFormat formatOf(Headers headers) {
+        Header format = headers == null ? null : headers.lastHeader(EventFormat.FORMAT_HEADER);
+        EventFormat eventFormat;
+        if (format == null || Arrays.equals(format.value(), JSON)) {
+            eventFormat = JsonEventFormat.INSTANCE;
+        } else if (Arrays.equals(format.value(), BINARY)) {
+            eventFormat = BinaryEventFormat.INSTANCE;
+        } else {
+            throw new SerializationException("Unknown event format " + new String(format.value(), StandardCharsets.US_ASCII));
+        }
+        Header version = headers == null ? null : headers.lastHeader(EventFormat.VERSION_HEADER);
+        if (version != null && parseVersion(version.value()) > eventFormat.version()) {
+            throw new SerializationException("Unsupported " + eventFormat.name() + " event version "
+                    + new String(version.value(), StandardCharsets.US_ASCII));
+        }
+        return eventFormat;
+    }
+
+    private static int parseVersion(byte[] value) {
+        try {
+            return Integer.parseInt(new String(value, StandardCharsets.US_ASCII));
+        } catch (NumberFormatException e) {
+            throw new SerializationException("Malformed event format version", e);
+        }
+    }
+}
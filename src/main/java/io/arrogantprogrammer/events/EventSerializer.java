@@ -1,6 +1,9 @@
 package io.arrogantprogrammer.events;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -26,4 +29,16 @@ public class EventSerializer {
             throw new RuntimeException("Failed to deserialize event", e);
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * A reader sharing this mapper's configuration that tolerates unknown properties. Readers are
+     * immutable and thread-safe, so callers build one once and keep it.
+     */
+    static ObjectReader readerFor(Class<?> clazz) {
+        return objectMapper.readerFor(clazz).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    static ObjectWriter writerFor(Class<?> clazz) {
+        return objectMapper.writerFor(clazz);
+    }
+}
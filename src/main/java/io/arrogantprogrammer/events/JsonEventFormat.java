@@ -0,0 +1,61 @@
+package io.arrogantprogrammer.events;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+
+/**
+ * The JSON encoding {@link EventSerializer} has always produced: ISO-8601 timestamps, unknown
+ * properties ignored on read. Readers and writers are built once per event type.
+ */
+public final class JsonEventFormat implements EventFormat {
+
+    public static final String NAME = "json";
+    public static final JsonEventFormat INSTANCE = new JsonEventFormat();
+
+    private final ClassValue<ObjectReader> readers = new ClassValue<>() {
+        @Override
+        protected ObjectReader computeValue(Class<?> type) {
+            return EventSerializer.readerFor(type);
+        }
+    };
+
+    private final ClassValue<ObjectWriter> writers = new ClassValue<>() {
+        @Override
+        protected ObjectWriter computeValue(Class<?> type) {
+            return EventSerializer.writerFor(type);
+        }
+    };
+
+    private JsonEventFormat() {
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public byte[] encode(Object event) {
+        try {
+            return writers.get(event.getClass()).writeValueAsBytes(event);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to serialize event", e);
+        }
+    }
+
+    @Override
+    public <T> T decode(byte[] data, Class<T> type) {
+        try {
+            return readers.get(type).readValue(data);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to deserialize event", e);
+        }
+    }
+}
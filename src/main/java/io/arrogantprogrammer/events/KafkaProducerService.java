@@ -1,38 +1,55 @@
 package io.arrogantprogrammer.events;
 
-import io.smallrye.reactive.messaging.kafka.Record;
+import io.quarkus.runtime.Startup;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
-import org.eclipse.microprofile.reactive.messaging.Channel;
-import org.eclipse.microprofile.reactive.messaging.Emitter;
-import org.eclipse.microprofile.reactive.messaging.Message;
+import jakarta.transaction.Transactional;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
-import java.util.concurrent.CompletableFuture;
-
+/**
+ * Publishes events through the transactional outbox: {@link #publishEvent} only inserts a row in the
+ * caller's transaction and {@link OutboxRelay} delivers it to Kafka after commit.
+ * <p>
+ * Events are encoded once, here, in the format named by {@code conference.events.format}. Types the
+ * configured format can't encode fall back to JSON. The format is resolved when the bean is created
+ * at startup, so an unknown name fails the boot. The relay sends each event to the topic it was
+ * published for, overriding the topic configured on the outgoing channel.
+ */
+@Startup
 @ApplicationScoped
 public class KafkaProducerService {
     
     private static final Logger LOG = Logger.getLogger(KafkaProducerService.class);
-    
+
     @Inject
-    @Channel("attendee-registrations-outgoing")
-    Emitter<Record<String, String>> emitter;
+    OutboxRepository outboxRepository;
+
+    @ConfigProperty(name = "conference.events.format", defaultValue = JsonEventFormat.NAME)
+    String formatName;
 
+    private EventFormat configuredFormat;
+
+    @PostConstruct
+    void resolveFormat() {
+        configuredFormat = EventFormat.named(formatName);
+    }
+
+    @Transactional
     public void publishEvent(String topic, String key, Object event) {
+        EventFormat format = configuredFormat;
+        if (!format.supports(event.getClass())) {
+            format = JsonEventFormat.INSTANCE;
+        }
+        byte[] payload;
         try {
-            String eventJson = EventSerializer.serialize(event);
-            emitter.send(Record.of(key, eventJson))
-                .whenComplete((success, failure) -> {
-                    if (failure != null) {
-                        LOG.errorf("Failed to publish event to topic %s: %s", topic, failure.getMessage());
-                    } else {
-                        LOG.infof("Successfully published event to topic %s with key %s", topic, key);
-                    }
-                });
+            payload = format.encode(event);
         } catch (Exception e) {
             LOG.errorf("Error serializing event for topic %s: %s", topic, e.getMessage());
             throw new RuntimeException("Failed to publish event", e);
         }
+        outboxRepository.persist(new OutboxEvent(topic, key, event.getClass().getSimpleName(), format, payload));
+        LOG.debugf("Queued %s for topic %s with key %s", event.getClass().getSimpleName(), topic, key);
     }
-} 
\ No newline at end of file
+}
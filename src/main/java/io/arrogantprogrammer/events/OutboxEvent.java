@@ -0,0 +1,69 @@
+package io.arrogantprogrammer.events;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * An event waiting to be relayed to Kafka. Rows are written in the same transaction as the
+ * domain change that produced them and marked published once the broker acknowledged them.
+ * A failed send is retried from {@code nextAttemptAt} with a growing backoff; after
+ * {@code conference.outbox.max-attempts} the event is parked with its last error and no longer
+ * holds back the events after it.
+ */
+@Entity
+@Table(name = "event_outbox")
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    public Long id;
+
+    public String topic;
+
+    @Column(name = "event_key")
+    public String eventKey;
+
+    @Column(name = "event_type", nullable = false)
+    public String eventType;
+
+    @Column(nullable = false, columnDefinition = "bytea")
+    public byte[] payload;
+
+    @Column(nullable = false, length = 16)
+    public String format;
+
+    @Column(name = "format_version", nullable = false)
+    public int formatVersion;
+
+    @Column(nullable = false)
+    public int attempts;
+
+    @Column(name = "last_error", columnDefinition = "text")
+    public String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    public Instant createdAt;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    public Instant nextAttemptAt;
+
+    @Column(name = "published_at")
+    public Instant publishedAt;
+
+    @Column(name = "parked_at")
+    public Instant parkedAt;
+
+    public OutboxEvent() {
+    }
+
+    public OutboxEvent(String topic, String eventKey, String eventType, EventFormat format, byte[] payload) {
+        this.topic = topic;
+        this.eventKey = eventKey;
+        this.eventType = eventType;
+        this.format = format.name();
+        this.formatVersion = format.version();
+        this.payload = payload;
+        this.createdAt = Instant.now();
+        this.nextAttemptAt = createdAt;
+    }
+}
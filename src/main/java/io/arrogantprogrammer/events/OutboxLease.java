@@ -0,0 +1,24 @@
+package io.arrogantprogrammer.events;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * The lease a relay instance holds while it drains the outbox, so only one instance sends at a time
+ * and events of a key can't be published out of order by two relays. Taken and renewed with an
+ * upsert in {@link OutboxRepository#acquireLease}; it lapses on its own if the holder dies.
+ */
+@Entity
+@Table(name = "event_outbox_lease")
+public class OutboxLease {
+
+    @Id
+    @Column(length = 64)
+    public String name;
+
+    @Column(nullable = false, length = 64)
+    public String owner;
+
+    @Column(name = "expires_at", nullable = false)
+    public Instant expiresAt;
+}
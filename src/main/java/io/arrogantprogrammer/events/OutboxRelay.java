@@ -0,0 +1,302 @@
+package io.arrogantprogrammer.events;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.logging.Log;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.reactive.messaging.kafka.api.OutgoingKafkaRecordMetadata;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Emitter;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.Metadata;
+import org.eclipse.microprofile.reactive.messaging.OnOverflow;
+
+/**
+ * Drains {@code event_outbox} to Kafka in batches, each event to the topic it was published for.
+ * <p>
+ * One instance relays at a time: it holds a lease in {@code event_outbox_lease} for twice the send
+ * timeout, renewed with every batch, and other instances skip their run while it is held. Claiming
+ * a batch and recording its outcome are short transactions; no locks are held while waiting for
+ * Kafka.
+ * <p>
+ * Events of different keys are sent without waiting for each other, so the Kafka producer can batch
+ * them, but each event is only sent once the previous event of its key has been acknowledged. When
+ * a send fails, the rest of that key's events are not sent: the failed event is retried after a
+ * backoff that doubles per attempt up to {@code conference.outbox.max-retry-backoff}, and the
+ * events after it wait for it. After {@code conference.outbox.max-attempts} the event is parked with
+ * its error and its key moves on. Delivery is therefore at-least-once and ordered per key, apart
+ * from parked events.
+ */
+@ApplicationScoped
+public class OutboxRelay {
+
+    @Inject
+    OutboxRepository outboxRepository;
+
+    @Inject
+    @Channel("attendee-registrations-outgoing")
+    @OnOverflow(OnOverflow.Strategy.UNBOUNDED_BUFFER)
+    Emitter<byte[]> emitter;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "conference.outbox.batch-size", defaultValue = "500")
+    int batchSize;
+
+    @ConfigProperty(name = "conference.outbox.linger", defaultValue = "PT0.05S")
+    Duration linger;
+
+    @ConfigProperty(name = "conference.outbox.send-timeout", defaultValue = "PT30S")
+    Duration sendTimeout;
+
+    @ConfigProperty(name = "conference.outbox.retention", defaultValue = "P1D")
+    Duration retention;
+
+    @ConfigProperty(name = "conference.outbox.max-attempts", defaultValue = "20")
+    int maxAttempts;
+
+    @ConfigProperty(name = "conference.outbox.retry-backoff", defaultValue = "PT1S")
+    Duration retryBackoff;
+
+    @ConfigProperty(name = "conference.outbox.max-retry-backoff", defaultValue = "PT5M")
+    Duration maxRetryBackoff;
+
+    private final String owner = UUID.randomUUID().toString();
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong parked = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private Counter published;
+    private Counter failed;
+    private Counter parkedEvents;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("outbox.pending", pending, AtomicLong::get)
+                .description("Events written to the outbox but not yet acknowledged by Kafka")
+                .register(meterRegistry);
+        Gauge.builder("outbox.parked", parked, AtomicLong::get)
+                .description("Events given up on after too many failed sends")
+                .register(meterRegistry);
+        Gauge.builder("outbox.lag", lagMillis, millis -> millis.get() / 1000.0)
+                .description("Age of the oldest unpublished outbox event")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        published = Counter.builder("outbox.published").register(meterRegistry);
+        failed = Counter.builder("outbox.failed").register(meterRegistry);
+        parkedEvents = Counter.builder("outbox.parked.events").register(meterRegistry);
+    }
+
+    @Scheduled(every = "${conference.outbox.poll-interval:1s}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void poll() {
+        drain();
+    }
+
+    @Scheduled(every = "1h", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void purge() {
+        long purged = QuarkusTransaction.requiringNew().call(() ->
+                outboxRepository.purgePublishedBefore(Instant.now().minus(retention)));
+        if (purged > 0) {
+            Log.debugf("Purged %d published outbox events", purged);
+        }
+    }
+
+    /**
+     * Relays full batches until the outbox is drained, only a lingering partial batch is left or a
+     * send failed. Does nothing while another instance holds the relay lease.
+     *
+     * @return the number of events published
+     */
+    public synchronized int drain() {
+        int total = 0;
+        if (renewLease()) {
+            try {
+                int relayed;
+                do {
+                    relayed = relayBatch();
+                    total += relayed;
+                } while (relayed == batchSize && renewLease());
+            } finally {
+                QuarkusTransaction.requiringNew().run(() -> outboxRepository.releaseLease(owner));
+            }
+        }
+        updateBacklog();
+        return total;
+    }
+
+    private boolean renewLease() {
+        return QuarkusTransaction.requiringNew().call(() -> outboxRepository.acquireLease(owner, sendTimeout.multipliedBy(2)));
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> batch = QuarkusTransaction.requiringNew().call(() ->
+                outboxRepository.claimBatch(batchSize, Instant.now()));
+        if (batch.isEmpty() || lingering(batch)) {
+            return 0;
+        }
+
+        Outcome outcome = send(batch);
+        List<Long> publishedIds = outcome.publishedIds();
+        Map<OutboxEvent, String> failures = outcome.failures();
+
+        int parkedCount = QuarkusTransaction.requiringNew().call(() -> {
+            Instant now = Instant.now();
+            outboxRepository.markPublished(publishedIds, now);
+            int parking = 0;
+            for (Map.Entry<OutboxEvent, String> failure : failures.entrySet()) {
+                OutboxEvent event = failure.getKey();
+                if (event.attempts + 1 >= maxAttempts) {
+                    outboxRepository.park(event.id, failure.getValue(), now);
+                    parking++;
+                } else {
+                    outboxRepository.markFailed(event.id, failure.getValue(), now.plus(backoff(event.attempts + 1)));
+                }
+            }
+            return parking;
+        });
+        published.increment(publishedIds.size());
+        failed.increment(failures.size());
+        parkedEvents.increment(parkedCount);
+        if (!failures.isEmpty()) {
+            Log.warnf("Outbox relay: %d of %d events not acknowledged, %d parked after %d attempts; first error: %s",
+                    failures.size(), batch.size(), parkedCount, maxAttempts, failures.values().iterator().next());
+        }
+        // a short batch means the outbox is drained, even if some of it has to be retried
+        return failures.isEmpty() ? publishedIds.size() : 0;
+    }
+
+    /**
+     * Sends the batch, each key's events one after the other, and waits up to the send timeout for
+     * the acknowledgements. Events held back behind a failed one, or not sent before the timeout,
+     * are neither published nor failed.
+     */
+    private Outcome send(List<OutboxEvent> batch) {
+        Map<String, List<OutboxEvent>> byKey = new LinkedHashMap<>();
+        List<List<OutboxEvent>> chains = new ArrayList<>();
+        for (OutboxEvent event : batch) {
+            if (event.eventKey == null) {
+                // Kafka does not order records without a key, so neither does the relay
+                chains.add(List.of(event));
+            } else {
+                byKey.computeIfAbsent(event.eventKey, key -> {
+                    List<OutboxEvent> chain = new ArrayList<>();
+                    chains.add(chain);
+                    return chain;
+                }).add(event);
+            }
+        }
+
+        AtomicBoolean timedOut = new AtomicBoolean();
+        Set<OutboxEvent> sent = ConcurrentHashMap.newKeySet();
+        Set<OutboxEvent> acknowledged = ConcurrentHashMap.newKeySet();
+        Map<OutboxEvent, String> errors = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] done = new CompletableFuture<?>[chains.size()];
+        for (int i = 0; i < chains.size(); i++) {
+            CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+            for (OutboxEvent event : chains.get(i)) {
+                // runs only once the previous event of the key was acknowledged
+                chain = chain.thenCompose(previous -> {
+                    if (timedOut.get()) {
+                        return CompletableFuture.failedFuture(new CancellationException());
+                    }
+                    sent.add(event);
+                    return send(event).whenComplete((ignored, failure) -> {
+                        if (failure == null) {
+                            acknowledged.add(event);
+                        } else {
+                            errors.put(event, String.valueOf(failure.getMessage()));
+                        }
+                    });
+                });
+            }
+            done[i] = chain.exceptionally(failure -> null);
+        }
+
+        try {
+            CompletableFuture.allOf(done).get(sendTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            Log.debugf("Outbox relay: not every event was acknowledged within %s", sendTimeout);
+        }
+        timedOut.set(true);
+
+        // decided once per event; an acknowledgement arriving later is ignored and the event sent again
+        List<Long> publishedIds = new ArrayList<>(batch.size());
+        Map<OutboxEvent, String> failures = new LinkedHashMap<>();
+        for (OutboxEvent event : batch) {
+            String error = errors.get(event);
+            if (error != null) {
+                failures.put(event, error);
+            } else if (acknowledged.contains(event)) {
+                publishedIds.add(event.id);
+            } else if (sent.contains(event)) {
+                failures.put(event, "Not acknowledged within " + sendTimeout);
+            }
+        }
+        return new Outcome(publishedIds, failures);
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return backoff.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : backoff;
+    }
+
+    // the payload is already encoded; its format travels in the headers so consumers can decode it
+    private CompletableFuture<Void> send(OutboxEvent event) {
+        CompletableFuture<Void> ack = new CompletableFuture<>();
+        OutgoingKafkaRecordMetadata<String> metadata = OutgoingKafkaRecordMetadata.<String>builder()
+                .withKey(event.eventKey)
+                .withTopic(event.topic)
+                .withHeaders(EventFormatHeaders.of(event.format, event.formatVersion))
+                .build();
+        emitter.send(Message.of(event.payload, Metadata.of(metadata),
+                () -> {
+                    ack.complete(null);
+                    return CompletableFuture.completedFuture(null);
+                },
+                failure -> {
+                    ack.completeExceptionally(failure);
+                    return CompletableFuture.completedFuture(null);
+                }));
+        return ack;
+    }
+
+    // a partial batch waits up to the linger time for more events, so Kafka sees fewer, larger batches
+    private boolean lingering(List<OutboxEvent> batch) {
+        return batch.size() < batchSize && batch.get(0).createdAt.plus(linger).isAfter(Instant.now());
+    }
+
+    private void updateBacklog() {
+        OutboxRepository.Backlog backlog = QuarkusTransaction.requiringNew().call(outboxRepository::backlog);
+        pending.set(backlog.pending() == null ? 0 : backlog.pending());
+        parked.set(backlog.parked() == null ? 0 : backlog.parked());
+        lagMillis.set(backlog.oldestCreatedAt() == null ? 0
+                : Duration.between(backlog.oldestCreatedAt(), Instant.now()).toMillis());
+    }
+
+    private record Outcome(List<Long> publishedIds, Map<OutboxEvent, String> failures) {
+    }
+}
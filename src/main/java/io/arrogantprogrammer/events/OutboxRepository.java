@@ -0,0 +1,101 @@
+package io.arrogantprogrammer.events;
+
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import io.quarkus.panache.common.Parameters;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@ApplicationScoped
+public class OutboxRepository implements PanacheRepository<OutboxEvent> {
+
+    private static final String RELAY_LEASE = "relay";
+
+    /**
+     * Returns the oldest events that are due to be sent, leaving out every event of a key whose
+     * earlier event is still waiting out a retry backoff, so a key's events go out in order. Parked
+     * events no longer hold back their key. Takes no locks: only the holder of the relay lease
+     * claims events.
+     */
+    public List<OutboxEvent> claimBatch(int size, Instant now) {
+        return find("FROM OutboxEvent o WHERE o.publishedAt IS NULL AND o.parkedAt IS NULL AND o.nextAttemptAt <= :now " +
+                        "AND NOT EXISTS (SELECT 1 FROM OutboxEvent earlier WHERE earlier.eventKey = o.eventKey " +
+                        "AND earlier.id < o.id AND earlier.publishedAt IS NULL AND earlier.parkedAt IS NULL " +
+                        "AND earlier.nextAttemptAt > :now) ORDER BY o.id",
+                Parameters.with("now", now))
+                .page(0, size)
+                .list();
+    }
+
+    public int markPublished(Collection<Long> ids, Instant publishedAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return update("publishedAt = :publishedAt WHERE id IN :ids",
+                Parameters.with("publishedAt", publishedAt).and("ids", ids));
+    }
+
+    /**
+     * Records a failed send, to be retried from {@code nextAttemptAt}.
+     */
+    public int markFailed(Long id, String error, Instant nextAttemptAt) {
+        return update("attempts = attempts + 1, lastError = ?2, nextAttemptAt = ?3 WHERE id = ?1",
+                id, error, nextAttemptAt);
+    }
+
+    /**
+     * Records a failed send and gives up on the event; it stays in the table, with its error, until
+     * someone clears {@code parked_at}.
+     */
+    public int park(Long id, String error, Instant parkedAt) {
+        return update("attempts = attempts + 1, lastError = ?2, parkedAt = ?3 WHERE id = ?1",
+                id, error, parkedAt);
+    }
+
+    /**
+     * Takes or renews the relay lease for {@code owner}, unless another owner holds it and it has
+     * not expired. Timestamps come from the database clock, so instances need not agree on the time.
+     *
+     * @return whether {@code owner} now holds the lease
+     */
+    public boolean acquireLease(String owner, Duration duration) {
+        return getEntityManager().createNativeQuery(
+                        "INSERT INTO event_outbox_lease (name, owner, expires_at) " +
+                        "VALUES (:name, :owner, now() + make_interval(secs => :seconds)) " +
+                        "ON CONFLICT (name) DO UPDATE SET owner = EXCLUDED.owner, expires_at = EXCLUDED.expires_at " +
+                        "WHERE event_outbox_lease.owner = EXCLUDED.owner OR event_outbox_lease.expires_at < now()")
+                .setParameter("name", RELAY_LEASE)
+                .setParameter("owner", owner)
+                .setParameter("seconds", duration.toMillis() / 1000.0)
+                .executeUpdate() == 1;
+    }
+
+    public void releaseLease(String owner) {
+        getEntityManager().createNativeQuery("DELETE FROM event_outbox_lease WHERE name = :name AND owner = :owner")
+                .setParameter("name", RELAY_LEASE)
+                .setParameter("owner", owner)
+                .executeUpdate();
+    }
+
+    public Backlog backlog() {
+        return getEntityManager().createQuery(
+                        "SELECT sum(CASE WHEN o.parkedAt IS NULL THEN 1 ELSE 0 END), " +
+                        "min(CASE WHEN o.parkedAt IS NULL THEN o.createdAt END), " +
+                        "sum(CASE WHEN o.parkedAt IS NOT NULL THEN 1 ELSE 0 END) " +
+                        "FROM OutboxEvent o WHERE o.publishedAt IS NULL", Backlog.class)
+                .getSingleResult();
+    }
+
+    public long purgePublishedBefore(Instant cutoff) {
+        return delete("publishedAt < ?1", cutoff);
+    }
+
+    /**
+     * Unpublished events, without the parked ones, and how many are parked. The sums are null when
+     * nothing is unpublished.
+     */
+    public record Backlog(Long pending, Instant oldestCreatedAt, Long parked) {
+    }
+}
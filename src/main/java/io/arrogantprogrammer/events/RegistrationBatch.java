@@ -0,0 +1,92 @@
+package io.arrogantprogrammer.events;
+
+import io.smallrye.reactive.messaging.kafka.KafkaRecord;
+import io.smallrye.reactive.messaging.kafka.KafkaRecordBatch;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+/**
+ * One poll of a {@code -batch} channel, split into the registrations to process and the records that
+ * could not be deserialized. {@link #ack()} nacks each malformed record, so the channel's
+ * dead-letter-queue strategy moves it to {@code attendee-registered-dlq}, and then acknowledges the
+ * poll. Batches that do not come from Kafka, e.g. from the in-memory connector, have no record per
+ * entry, so their malformed entries are only counted.
+ */
+public final class RegistrationBatch {
+
+    private final Message<List<AttendeeRegistered>> message;
+    private final List<AttendeeRegistered> registrations;
+    private final List<Message<?>> malformedRecords;
+    private final int malformed;
+
+    private RegistrationBatch(Message<List<AttendeeRegistered>> message, List<AttendeeRegistered> registrations,
+                              List<Message<?>> malformedRecords, int malformed) {
+        this.message = message;
+        this.registrations = registrations;
+        this.malformedRecords = malformedRecords;
+        this.malformed = malformed;
+    }
+
+    public static RegistrationBatch of(Message<List<AttendeeRegistered>> message) {
+        List<AttendeeRegistered> registrations = new ArrayList<>();
+        List<Message<?>> malformedRecords = new ArrayList<>();
+        int malformed = 0;
+        if (message instanceof KafkaRecordBatch<?, ?> batch) {
+            for (KafkaRecord<?, ?> record : batch) {
+                if (record.getPayload() instanceof AttendeeRegistered registration) {
+                    registrations.add(registration);
+                } else {
+                    malformedRecords.add(record);
+                    malformed++;
+                }
+            }
+        } else {
+            for (AttendeeRegistered registration : message.getPayload()) {
+                if (registration != null) {
+                    registrations.add(registration);
+                } else {
+                    malformed++;
+                }
+            }
+        }
+        return new RegistrationBatch(message, registrations, malformedRecords, malformed);
+    }
+
+    public List<AttendeeRegistered> registrations() {
+        return registrations;
+    }
+
+    /**
+     * Records in the poll, malformed ones included.
+     */
+    public int size() {
+        return registrations.size() + malformed;
+    }
+
+    public int malformed() {
+        return malformed;
+    }
+
+    /**
+     * Sends the malformed records to the dead-letter topic and acknowledges the poll once they are
+     * there.
+     */
+    public CompletionStage<Void> ack() {
+        CompletableFuture<?>[] nacks = malformedRecords.stream()
+                .map(record -> record.nack(new IllegalArgumentException("Malformed attendee registration event"))
+                        .toCompletableFuture())
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(nacks).thenCompose(ignored -> message.ack());
+    }
+
+    /**
+     * Fails the whole poll; the dead-letter-queue strategy moves every record in it to the
+     * dead-letter topic.
+     */
+    public CompletionStage<Void> nack(Throwable reason) {
+        return message.nack(reason);
+    }
+}
@@ -0,0 +1,81 @@
+package io.arrogantprogrammer.init;
+
+import io.arrogantprogrammer.cfp.api.dto.ImportReport;
+import io.arrogantprogrammer.cfp.application.CfpImportService;
+import io.arrogantprogrammer.sharedkernel.export.ExportFormat;
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.Quarkus;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Optional;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Command-line import: with {@code conference.import.speakers-file} and/or
+ * {@code conference.import.sessions-file} set, imports the files at startup, speakers first, and then
+ * exits with status 1 if any row was rejected, or keeps running with
+ * {@code conference.import.exit=false}. Files ending in {@code .csv} are read as CSV, anything else as
+ * NDJSON or a JSON array.
+ */
+@ApplicationScoped
+public class CfpFileImport {
+
+    @ConfigProperty(name = "conference.import.speakers-file")
+    Optional<Path> speakersFile;
+
+    @ConfigProperty(name = "conference.import.sessions-file")
+    Optional<Path> sessionsFile;
+
+    @ConfigProperty(name = "conference.import.exit", defaultValue = "true")
+    boolean exit;
+
+    @Inject
+    CfpImportService importService;
+
+    void onStart(@Observes StartupEvent event) {
+        if (speakersFile.isEmpty() && sessionsFile.isEmpty()) {
+            return;
+        }
+        boolean clean = true;
+        try {
+            if (speakersFile.isPresent()) {
+                try (InputStream in = Files.newInputStream(speakersFile.get())) {
+                    clean = log(speakersFile.get(), importService.importSpeakers(in, format(speakersFile.get())));
+                }
+            }
+            if (sessionsFile.isPresent()) {
+                try (InputStream in = Files.newInputStream(sessionsFile.get())) {
+                    clean &= log(sessionsFile.get(), importService.importSessions(in, format(sessionsFile.get())));
+                }
+            }
+        } catch (IOException e) {
+            Log.error("Import failed", e);
+            clean = false;
+        }
+        if (exit) {
+            Quarkus.asyncExit(clean ? 0 : 1);
+        }
+    }
+
+    private static boolean log(Path file, ImportReport report) {
+        Log.infof("%s: %d rows, %d imported, %d rejected in %d ms", file, report.rows(), report.imported(),
+                report.rejected(), report.durationMillis());
+        report.errors().forEach(error -> Log.warnf("%s row %d: %s", file, error.row(), error.message()));
+        if (report.errorsTruncated()) {
+            Log.warnf("%s: %d more rejected rows not listed", file, report.rejected() - report.errors().size());
+        }
+        return report.rejected() == 0;
+    }
+
+    private static ExportFormat format(Path file) {
+        return file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith("." + ExportFormat.CSV.extension())
+                ? ExportFormat.CSV : ExportFormat.NDJSON;
+    }
+}
@@ -1,5 +1,6 @@
 package io.arrogantprogrammer.init;
 
+import io.arrogantprogrammer.sessions.ScheduleIndex;
 import io.quarkus.logging.Log;
 import io.quarkus.runtime.Startup;
 import jakarta.annotation.PostConstruct;
@@ -16,6 +17,9 @@ public class StartupInitializer {
     @Inject
     Instance<DataInitializer> initializers;
 
+    @Inject
+    ScheduleIndex scheduleIndex;
+
     @PostConstruct
     void onStart() {
         Log.info("Starting data initialization...");
@@ -32,7 +36,13 @@ public class StartupInitializer {
                 Log.error("Error during initialization: " + initializer.getClass().getSimpleName(), e);
             }
         }
-        
+
+        // the initializers write sessions directly, so the in-memory schedule has to be reloaded
+        try {
+            scheduleIndex.rebuild();
+        } catch (Exception e) {
+            Log.error("Error rebuilding the schedule index", e);
+        }
         Log.info("Data initialization completed.");
     }
 } 
\ No newline at end of file
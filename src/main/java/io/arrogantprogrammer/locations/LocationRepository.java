@@ -2,7 +2,17 @@ package io.arrogantprogrammer.locations;
 
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
 
 @ApplicationScoped
 public class LocationRepository implements PanacheRepository<Location> {
+
+    /**
+     * Served from the query cache, which Hibernate invalidates whenever a location is written.
+     */
+    @Override
+    public List<Location> listAll() {
+        return findAll().withHint(HibernateHints.HINT_CACHEABLE, true).list();
+    }
 } 
\ No newline at end of file
@@ -1,11 +1,14 @@
 package io.arrogantprogrammer.locations;
 
+import io.arrogantprogrammer.sharedkernel.http.CollectionVersions;
+import io.arrogantprogrammer.sharedkernel.http.ConditionalGet;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
-import java.util.List;
 
 @Path("/api/locations")
 @Produces(MediaType.APPLICATION_JSON)
@@ -15,6 +18,9 @@ public class LocationResource {
     @Inject
     LocationService locationService;
 
+    @Inject
+    ConditionalGet conditionalGet;
+
     @POST
     @Transactional
     public Response createLocation(Location location) {
@@ -23,8 +29,8 @@ public class LocationResource {
     }
 
     @GET
-    public List<Location> getAllLocations() {
-        return locationService.getAllLocations();
+    public Response getAllLocations(@Context Request request) {
+        return conditionalGet.respond(request, CollectionVersions.LOCATIONS, locationService::getAllLocations);
     }
 
     @GET
@@ -1,5 +1,6 @@
 package io.arrogantprogrammer.locations;
 
+import io.arrogantprogrammer.sharedkernel.http.CollectionVersions;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
@@ -13,9 +14,13 @@ public class LocationService {
     @Inject
     LocationRepository locationRepository;
 
+    @Inject
+    CollectionVersions collectionVersions;
+
     @Transactional
     public Location createLocation(Location location) {
         locationRepository.persist(location);
+        collectionVersions.bump(CollectionVersions.LOCATIONS);
         return location;
     }
 
@@ -36,6 +41,7 @@ public class LocationService {
         existingLocation.address = location.address;
         existingLocation.description = location.description;
         existingLocation.mapUrl = location.mapUrl;
+        collectionVersions.bump(CollectionVersions.LOCATIONS);
         return existingLocation;
     }
 
@@ -43,5 +49,6 @@ public class LocationService {
     public void deleteLocation(Long id) {
         Location location = getLocationById(id);
         locationRepository.delete(location);
+        collectionVersions.bump(CollectionVersions.LOCATIONS);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,27 @@
+package io.arrogantprogrammer.merchandise;
+
+import java.util.List;
+
+/**
+ * Moves many orders to {@code status} at once. The orders are either listed in {@code orderIds} or
+ * selected by a filter on their {@code currentStatus} and/or {@code size}, e.g. every
+ * {@code PENDING} order of size {@code M}.
+ */
+public record BulkStatusRequest(String status, List<Long> orderIds, String currentStatus, String size) {
+
+    public static BulkStatusRequest forIds(String status, List<Long> orderIds) {
+        return new BulkStatusRequest(status, orderIds, null, null);
+    }
+
+    public static BulkStatusRequest forFilter(String status, String currentStatus, String size) {
+        return new BulkStatusRequest(status, null, currentStatus, size);
+    }
+
+    boolean byIds() {
+        return orderIds != null && !orderIds.isEmpty();
+    }
+
+    boolean byFilter() {
+        return currentStatus != null || size != null;
+    }
+}
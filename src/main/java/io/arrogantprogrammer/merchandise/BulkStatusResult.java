@@ -0,0 +1,24 @@
+package io.arrogantprogrammer.merchandise;
+
+import java.util.List;
+
+/**
+ * Outcome of a {@link BulkStatusRequest}: one entry per requested or matched order, in request order
+ * for id lists and in id order for filters. {@code truncated} means a filter matched more orders than
+ * one request may update; only the lowest ids were updated, and repeating the request moves the next
+ * ones.
+ */
+public record BulkStatusResult(String status, int updated, List<Outcome> outcomes, boolean truncated) {
+
+    public enum Result {
+        UPDATED,
+        /** The order already had the requested status. */
+        UNCHANGED,
+        NOT_FOUND,
+        /** A backordered order could not become pending because its size is sold out. */
+        SOLD_OUT
+    }
+
+    public record Outcome(Long orderId, String previousStatus, Result result) {
+    }
+}
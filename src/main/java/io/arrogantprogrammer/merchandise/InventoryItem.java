@@ -0,0 +1,68 @@
+package io.arrogantprogrammer.merchandise;
+
+import jakarta.persistence.*;
+import java.time.ZonedDateTime;
+
+/**
+ * Durable copy of a {@link StockLevel}. Rows are written by {@link InventoryService#flush()} and only
+ * read back at startup; while the application runs the in-memory counters are authoritative.
+ */
+@Entity
+@Table(name = "merchandise_inventory")
+public class InventoryItem {
+    @Id
+    @Column(length = 64)
+    private String sku;
+
+    @Column(nullable = false)
+    private long available;
+
+    @Column(nullable = false)
+    private long reserved;
+
+    @Column(nullable = false)
+    private long sold;
+
+    @Column(name = "updated_at", nullable = false)
+    private ZonedDateTime updatedAt;
+
+    public String getSku() {
+        return sku;
+    }
+
+    public void setSku(String sku) {
+        this.sku = sku;
+    }
+
+    public long getAvailable() {
+        return available;
+    }
+
+    public void setAvailable(long available) {
+        this.available = available;
+    }
+
+    public long getReserved() {
+        return reserved;
+    }
+
+    public void setReserved(long reserved) {
+        this.reserved = reserved;
+    }
+
+    public long getSold() {
+        return sold;
+    }
+
+    public void setSold(long sold) {
+        this.sold = sold;
+    }
+
+    public ZonedDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(ZonedDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
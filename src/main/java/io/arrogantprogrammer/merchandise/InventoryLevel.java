@@ -0,0 +1,8 @@
+package io.arrogantprogrammer.merchandise;
+
+/**
+ * Point-in-time view of one SKU's stock: units free to reserve, units held by pending orders and
+ * units handed out.
+ */
+public record InventoryLevel(String sku, long available, long reserved, long sold) {
+}
@@ -0,0 +1,218 @@
+package io.arrogantprogrammer.merchandise;
+
+import io.arrogantprogrammer.sharedkernel.transactions.TransactionCallbacks;
+import io.quarkus.logging.Log;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.interceptor.Interceptor;
+import jakarta.persistence.EntityManager;
+import java.sql.PreparedStatement;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.hibernate.Session;
+
+/**
+ * Merchandise stock, held in memory as one {@link StockLevel} per SKU so that reservations during a
+ * registration spike never queue on a row lock. The counters are loaded from
+ * {@code merchandise_inventory} at startup, before the Kafka consumers start, and written back by
+ * {@link #flush()}: every {@code conference.inventory.flush-interval} and at shutdown, how far the
+ * counters of each SKU moved is added to its row in one JDBC batch.
+ * <p>
+ * Reservations are taken immediately and handed back if the surrounding transaction rolls back;
+ * releases and confirmations only apply once it commits. SKUs that were never stocked are not
+ * tracked and always have stock.
+ * <p>
+ * The counters assume a single instance: a second one would hold its own copy and sell the same
+ * units. Because flushes add differences rather than overwrite, a second writer does not erase
+ * this one's counts, but this instance only sees its changes after a restart; restock through
+ * {@link #restock}. Changes not yet flushed when the process dies are recovered at startup from the
+ * reservations recorded on the orders; see {@link #load}.
+ */
+@ApplicationScoped
+public class InventoryService {
+
+    private static final String T_SHIRT_SKU_PREFIX = "T-SHIRT-";
+
+    private final Map<String, StockLevel> levels = new ConcurrentHashMap<>();
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    TransactionCallbacks transactionCallbacks;
+
+    public static String tShirtSku(String size) {
+        return T_SHIRT_SKU_PREFIX + size.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Loads the stored counters, taking {@code reserved} from the orders that hold a reservation
+     * rather than from the row, which may miss changes that were committed but never flushed. The
+     * other counters are corrected conservatively: a reservation the row missed comes out of
+     * {@code available}, but a release it missed is counted as sold, so stock is never oversold.
+     * The corrections are written by the next flush.
+     */
+    void load(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEvent event) {
+        List<InventoryItem> items = QuarkusTransaction.requiringNew().call(() ->
+                entityManager.createQuery("FROM InventoryItem", InventoryItem.class).getResultList());
+        Map<String, Long> reservedBySku = QuarkusTransaction.requiringNew().call(() -> entityManager.createQuery(
+                        "SELECT upper(trim(o.tShirtSize)), count(o) FROM MerchandiseOrder o " +
+                        "WHERE o.stockReserved = true GROUP BY upper(trim(o.tShirtSize))", ReservedOrders.class)
+                .getResultStream()
+                .collect(Collectors.toMap(row -> T_SHIRT_SKU_PREFIX + row.size(), ReservedOrders::orders)));
+        levels.clear();
+        int corrected = 0;
+        for (InventoryItem item : items) {
+            InventoryLevel stored = new InventoryLevel(item.getSku(), item.getAvailable(), item.getReserved(), item.getSold());
+            long total = stored.available() + stored.reserved() + stored.sold();
+            long reserved = reservedBySku.getOrDefault(item.getSku(), 0L);
+            long available = Math.max(0, Math.min(stored.available(), total - reserved - stored.sold()));
+            long sold = total - available - reserved;
+            if (reserved != stored.reserved() || available != stored.available()) {
+                corrected++;
+            }
+            levels.put(item.getSku(), new StockLevel(item.getSku(), available, reserved, sold, stored));
+        }
+        Log.debugf("Loaded stock levels for %d SKUs, %d corrected from the orders' reservations", items.size(), corrected);
+    }
+
+    void flushOnShutdown(@Observes ShutdownEvent event) {
+        flush();
+    }
+
+    @Scheduled(every = "${conference.inventory.flush-interval:1s}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * Takes one unit of {@code sku} for an order. Only a {@link Reservation#RESERVED} unit may later be
+     * released or confirmed, so the caller records which one it got.
+     */
+    public Reservation reserve(String sku) {
+        StockLevel level = levels.get(sku);
+        if (level == null) {
+            return Reservation.UNTRACKED;
+        }
+        if (!level.tryReserve()) {
+            return Reservation.SOLD_OUT;
+        }
+        transactionCallbacks.afterRollback(() -> level.release(1));
+        return Reservation.RESERVED;
+    }
+
+    /**
+     * Returns reserved units to stock once the current transaction commits, e.g. when orders are
+     * cancelled. Callers pass only units they reserved; see {@link #reserve}.
+     */
+    public void release(String sku, long units) {
+        StockLevel level = levels.get(sku);
+        if (level != null && units > 0) {
+            transactionCallbacks.afterCommit(() -> level.release(units));
+        }
+    }
+
+    /**
+     * Turns reserved units into sold ones once the current transaction commits. Callers pass only
+     * units they reserved; see {@link #reserve}.
+     */
+    public void confirm(String sku, long units) {
+        StockLevel level = levels.get(sku);
+        if (level != null && units > 0) {
+            transactionCallbacks.afterCommit(() -> level.confirm(units));
+        }
+    }
+
+    /**
+     * Adds units of {@code sku}, starting to track it if it was not stocked before. Restocking is an
+     * operator action, so the new level is written through immediately.
+     */
+    public InventoryLevel restock(String sku, long quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Restock quantity must be positive");
+        }
+        StockLevel level = levels.computeIfAbsent(sku, s -> new StockLevel(s, 0, 0, 0));
+        level.restock(quantity);
+        flush();
+        return level.snapshot();
+    }
+
+    public List<InventoryLevel> getLevels() {
+        return levels.values().stream()
+                .map(StockLevel::snapshot)
+                .sorted(Comparator.comparing(InventoryLevel::sku))
+                .toList();
+    }
+
+    public InventoryLevel getLevel(String sku) {
+        StockLevel level = levels.get(sku);
+        return level == null ? null : level.snapshot();
+    }
+
+    /**
+     * Adds how far each SKU's counters moved since the last flush to its row, in one batch. A SKU
+     * without a row is inserted with its counters as they are. If the write fails, the next flush
+     * writes the same changes again along with newer ones.
+     *
+     * @return the number of SKUs written
+     */
+    public synchronized int flush() {
+        Map<StockLevel, InventoryLevel> changes = new HashMap<>();
+        for (StockLevel level : levels.values()) {
+            InventoryLevel change = level.unflushedChange();
+            if (change != null) {
+                changes.put(level, change);
+            }
+        }
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        QuarkusTransaction.requiringNew().run(() -> entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement upsert = connection.prepareStatement(
+                    "INSERT INTO merchandise_inventory (sku, available, reserved, sold, updated_at) VALUES (?, ?, ?, ?, ?) " +
+                    "ON CONFLICT (sku) DO UPDATE SET available = merchandise_inventory.available + EXCLUDED.available, " +
+                    "reserved = merchandise_inventory.reserved + EXCLUDED.reserved, " +
+                    "sold = merchandise_inventory.sold + EXCLUDED.sold, updated_at = EXCLUDED.updated_at")) {
+                OffsetDateTime now = OffsetDateTime.now();
+                for (InventoryLevel change : changes.values()) {
+                    upsert.setString(1, change.sku());
+                    upsert.setLong(2, change.available());
+                    upsert.setLong(3, change.reserved());
+                    upsert.setLong(4, change.sold());
+                    upsert.setObject(5, now);
+                    upsert.addBatch();
+                }
+                upsert.executeBatch();
+            }
+        }));
+        changes.forEach(StockLevel::flushed);
+        return changes.size();
+    }
+
+    record ReservedOrders(String size, Long orders) {
+    }
+
+    public enum Reservation {
+        /** A unit was taken from stock. */
+        RESERVED,
+        /** The SKU was never stocked, so nothing was taken and the order may go ahead. */
+        UNTRACKED,
+        SOLD_OUT;
+
+        public boolean inStock() {
+            return this != SOLD_OUT;
+        }
+    }
+}
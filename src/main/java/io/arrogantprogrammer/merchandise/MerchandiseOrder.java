@@ -4,8 +4,14 @@ import jakarta.persistence.*;
 import java.time.ZonedDateTime;
 
 @Entity
-@Table(name = "merchandise_orders")
+@Table(name = "merchandise_orders", indexes = @Index(name = "idx_merchandise_orders_created_at_id", columnList = "created_at, id"))
 public class MerchandiseOrder {
+    /** Holds a unit of stock, if its size was stocked when it became pending, until it is fulfilled or cancelled. */
+    public static final String PENDING = "PENDING";
+    /** Placed while the size was sold out; holds no stock until moved back to {@link #PENDING}. */
+    public static final String BACKORDERED = "BACKORDERED";
+    public static final String CANCELLED = "CANCELLED";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -19,12 +25,16 @@ public class MerchandiseOrder {
     @Column(name = "order_status")
     private String orderStatus;
 
-    @Column(name = "created_at")
+    @Column(name = "created_at", nullable = false, updatable = false)
     private ZonedDateTime createdAt;
 
+    /** Whether the order holds a reserved unit, to be confirmed or released when it leaves {@link #PENDING}. */
+    @Column(name = "stock_reserved", nullable = false)
+    private boolean stockReserved;
+
     public MerchandiseOrder() {
         this.createdAt = ZonedDateTime.now();
-        this.orderStatus = "PENDING";
+        this.orderStatus = PENDING;
     }
 
     public Long getId() {
@@ -66,4 +76,12 @@ public class MerchandiseOrder {
     public void setCreatedAt(ZonedDateTime createdAt) {
         this.createdAt = createdAt;
     }
-} 
\ No newline at end of file
+
+    public boolean isStockReserved() {
+        return stockReserved;
+    }
+
+    public void setStockReserved(boolean stockReserved) {
+        this.stockReserved = stockReserved;
+    }
+}
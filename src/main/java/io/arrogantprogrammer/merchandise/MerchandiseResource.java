@@ -1,9 +1,15 @@
 package io.arrogantprogrammer.merchandise;
 
+import io.arrogantprogrammer.sharedkernel.export.ExportColumn;
+import io.arrogantprogrammer.sharedkernel.export.StreamingExport;
+import io.arrogantprogrammer.sharedkernel.pagination.PageLinks;
+import io.arrogantprogrammer.sharedkernel.pagination.PageParams;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
 import java.util.List;
 
 @Path("/api/merchandise")
@@ -11,13 +17,34 @@ import java.util.List;
 @Consumes(MediaType.APPLICATION_JSON)
 public class MerchandiseResource {
 
+    private static final List<ExportColumn<MerchandiseOrder>> ORDER_COLUMNS = List.of(
+            ExportColumn.of("id", MerchandiseOrder::getId),
+            ExportColumn.of("attendee_id", MerchandiseOrder::getAttendeeId),
+            ExportColumn.of("t_shirt_size", MerchandiseOrder::getTShirtSize),
+            ExportColumn.of("order_status", MerchandiseOrder::getOrderStatus),
+            ExportColumn.of("created_at", MerchandiseOrder::getCreatedAt));
+
     @Inject
     MerchandiseService merchandiseService;
 
+    @Inject
+    InventoryService inventoryService;
+
+    @Inject
+    StreamingExport streamingExport;
+
     @GET
     @Path("/orders")
-    public List<MerchandiseOrder> getAllOrders() {
-        return merchandiseService.getAllOrders();
+    public Response getAllOrders(@Context UriInfo uriInfo, @BeanParam PageParams page) {
+        return PageLinks.ok(merchandiseService.getOrders(page.toRequest()), uriInfo);
+    }
+
+    @GET
+    @Path("/orders/export")
+    @Produces({"application/x-ndjson", "text/csv"})
+    public Response exportOrders(@QueryParam("format") String format) {
+        return streamingExport.export("merchandise-orders", StreamingExport.format(format),
+                merchandiseService::streamOrders, ORDER_COLUMNS);
     }
 
     @GET
@@ -36,4 +63,35 @@ public class MerchandiseResource {
         merchandiseService.updateOrderStatus(orderId, status);
         return Response.ok().build();
     }
+
+    @PUT
+    @Path("/orders/status")
+    public BulkStatusResult updateOrderStatuses(BulkStatusRequest request) {
+        return merchandiseService.updateOrderStatuses(request);
+    }
+
+    @GET
+    @Path("/inventory")
+    public List<InventoryLevel> getInventory() {
+        return inventoryService.getLevels();
+    }
+
+    @GET
+    @Path("/inventory/{sku}")
+    public Response getInventoryLevel(@PathParam("sku") String sku) {
+        InventoryLevel level = inventoryService.getLevel(sku);
+        if (level == null) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+        return Response.ok(level).build();
+    }
+
+    @POST
+    @Path("/inventory/{sku}/restock")
+    public Response restock(@PathParam("sku") String sku, @QueryParam("quantity") long quantity) {
+        if (quantity <= 0) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+        return Response.ok(inventoryService.restock(sku, quantity)).build();
+    }
 } 
\ No newline at end of file
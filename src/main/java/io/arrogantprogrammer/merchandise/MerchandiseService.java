@@ -1,35 +1,268 @@
 package io.arrogantprogrammer.merchandise;
 
+import io.arrogantprogrammer.events.AttendeeRegistered;
+import io.arrogantprogrammer.sharedkernel.pagination.Cursor;
+import io.arrogantprogrammer.sharedkernel.pagination.CursorPage;
+import io.arrogantprogrammer.sharedkernel.pagination.PageRequest;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import io.quarkus.panache.common.Sort;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.SequencedMap;
+import java.util.stream.Stream;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
 
 @ApplicationScoped
 public class MerchandiseService implements PanacheRepository<MerchandiseOrder> {
 
+    private static final int MAX_BULK_ORDERS = 10_000;
+
+    @Inject
+    InventoryService inventoryService;
+
+    @Inject
+    Event<OrderStatusChangedEvent> orderStatusChanged;
+
+    /**
+     * Places an order, reserving a shirt of the requested size. If that size is sold out the order
+     * is {@link MerchandiseOrder#BACKORDERED} instead.
+     */
     @Transactional
     public MerchandiseOrder createOrder(Long attendeeId, String tShirtSize) {
         MerchandiseOrder order = new MerchandiseOrder();
         order.setAttendeeId(attendeeId);
         order.setTShirtSize(tShirtSize);
+        InventoryService.Reservation reservation = reserve(tShirtSize);
+        order.setOrderStatus(reservation.inStock() ? MerchandiseOrder.PENDING : MerchandiseOrder.BACKORDERED);
+        order.setStockReserved(reservation == InventoryService.Reservation.RESERVED);
         persist(order);
         return order;
     }
 
-    public List<MerchandiseOrder> getAllOrders() {
-        return listAll();
+    /**
+     * Inserts one order per registration as a single JDBC batch, reserving stock as
+     * {@link #createOrder} does. IDENTITY ids rule out Hibernate's own insert batching, so this
+     * bypasses the persistence context.
+     */
+    @Transactional
+    public int createOrders(List<AttendeeRegistered> registrations) {
+        if (registrations.isEmpty()) {
+            return 0;
+        }
+        return getEntityManager().unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO merchandise_orders (attendee_id, t_shirt_size, order_status, created_at, stock_reserved) VALUES (?, ?, ?, ?, ?)")) {
+                OffsetDateTime now = OffsetDateTime.now();
+                for (AttendeeRegistered registration : registrations) {
+                    String size = registration.getTshirtSize() != null ? registration.getTshirtSize() : "M";
+                    insert.setObject(1, registration.getAttendeeId());
+                    insert.setString(2, size);
+                    InventoryService.Reservation reservation = reserve(size);
+                    insert.setString(3, reservation.inStock() ? MerchandiseOrder.PENDING : MerchandiseOrder.BACKORDERED);
+                    insert.setObject(4, now);
+                    insert.setBoolean(5, reservation == InventoryService.Reservation.RESERVED);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+                return registrations.size();
+            }
+        });
+    }
+
+    public CursorPage<MerchandiseOrder> getOrders(PageRequest page) {
+        return CursorPage.of(find(page.seek("") + page.orderBy(""), page.parameters())
+                        .page(0, page.fetchSize())
+                        .list(),
+                page, row -> Cursor.of(row.getCreatedAt(), row.getId()));
+    }
+
+    /**
+     * Every order in id order, read forward-only {@code fetchSize} rows at a time. The stream must be
+     * consumed inside a transaction and closed.
+     */
+    public Stream<MerchandiseOrder> streamOrders(int fetchSize) {
+        return findAll(Sort.by("id"))
+                .withHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .withHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
     }
 
     public List<MerchandiseOrder> getOrdersByAttendee(Long attendeeId) {
         return find("attendeeId", attendeeId).list();
     }
 
+    /**
+     * Moves one order to {@code status}; see {@link #updateOrderStatuses}.
+     *
+     * @throws WebApplicationException with {@code 409 Conflict} if a backordered order's size is
+     *                                 still sold out
+     */
     @Transactional
     public void updateOrderStatus(Long orderId, String status) {
-        MerchandiseOrder order = findById(orderId);
-        if (order != null) {
-            order.setOrderStatus(status);
+        if (status == null) {
+            return;
+        }
+        BulkStatusResult.Outcome outcome = updateOrderStatuses(BulkStatusRequest.forIds(status, List.of(orderId)))
+                .outcomes().get(0);
+        if (outcome.result() == BulkStatusResult.Result.SOLD_OUT) {
+            throw new WebApplicationException("Size is sold out for order " + orderId, Response.Status.CONFLICT);
+        }
+    }
+
+    /**
+     * Moves every selected order to the requested status with one locking read and one set-based
+     * UPDATE, however many orders are involved, and settles their stock per size: an order that
+     * holds a reserved shirt confirms it as handed out when it leaves {@link MerchandiseOrder#PENDING},
+     * or returns it to stock when it becomes {@link MerchandiseOrder#CANCELLED} or backordered. Orders
+     * placed before their size was stocked hold nothing and settle nothing. A backordered order only
+     * becomes pending again while its size is in stock, reserving a shirt if the size is stocked. One
+     * {@link OrderStatusChangedEvent} names all updated orders. A filter updates at most
+     * {@value #MAX_BULK_ORDERS} orders, the lowest ids first, and reports whether it stopped short.
+     *
+     * @throws WebApplicationException with {@code 400 Bad Request} unless the request has a status
+     *                                 and exactly one of an id list or a filter
+     */
+    @Transactional
+    public BulkStatusResult updateOrderStatuses(BulkStatusRequest request) {
+        if (request.status() == null || request.status().isBlank() || request.byIds() == request.byFilter()) {
+            throw new WebApplicationException("A status and either orderIds or a currentStatus/size filter are required",
+                    Response.Status.BAD_REQUEST);
         }
+        if (request.byIds() && request.orderIds().size() > MAX_BULK_ORDERS) {
+            throw new WebApplicationException("At most " + MAX_BULK_ORDERS + " orders can be updated at once",
+                    Response.Status.BAD_REQUEST);
+        }
+        String status = request.status();
+        SequencedMap<Long, OrderRow> rows = lockOrders(request);
+        boolean truncated = rows.size() > MAX_BULK_ORDERS;
+        if (truncated) {
+            rows.pollLastEntry();
+        }
+        Collection<Long> selected = request.byIds() ? new LinkedHashSet<>(request.orderIds()) : rows.keySet();
+
+        List<BulkStatusResult.Outcome> outcomes = new ArrayList<>(selected.size());
+        List<Long> updated = new ArrayList<>();
+        List<Long> reserved = new ArrayList<>();
+        Map<String, Long> confirmed = new HashMap<>();
+        Map<String, Long> released = new HashMap<>();
+        for (Long orderId : selected) {
+            OrderRow row = rows.get(orderId);
+            BulkStatusResult.Result result;
+            if (row == null) {
+                result = BulkStatusResult.Result.NOT_FOUND;
+            } else if (status.equals(row.status())) {
+                result = BulkStatusResult.Result.UNCHANGED;
+            } else {
+                InventoryService.Reservation reservation =
+                        MerchandiseOrder.BACKORDERED.equals(row.status()) && MerchandiseOrder.PENDING.equals(status)
+                                ? reserve(row.size()) : null;
+                if (reservation == InventoryService.Reservation.SOLD_OUT) {
+                    result = BulkStatusResult.Result.SOLD_OUT;
+                } else {
+                    result = BulkStatusResult.Result.UPDATED;
+                    updated.add(orderId);
+                    if (reservation == InventoryService.Reservation.RESERVED) {
+                        reserved.add(orderId);
+                    } else if (row.stockReserved()) {
+                        boolean returnsStock = MerchandiseOrder.CANCELLED.equals(status) || MerchandiseOrder.BACKORDERED.equals(status);
+                        (returnsStock ? released : confirmed).merge(InventoryService.tShirtSku(row.size()), 1L, Long::sum);
+                    }
+                }
+            }
+            outcomes.add(new BulkStatusResult.Outcome(orderId, row == null ? null : row.status(), result));
+        }
+
+        if (!updated.isEmpty()) {
+            // an updated order holds a reservation only if it just took one; every other one left
+            // PENDING, settling its reservation, or never had one
+            getEntityManager().unwrap(Session.class).doWork(connection -> {
+                try (PreparedStatement update = connection.prepareStatement(
+                        "UPDATE merchandise_orders SET order_status = ?, stock_reserved = (id = ANY (?)) WHERE id = ANY (?)")) {
+                    update.setString(1, status);
+                    update.setArray(2, connection.createArrayOf("bigint", reserved.toArray()));
+                    update.setArray(3, connection.createArrayOf("bigint", updated.toArray()));
+                    update.executeUpdate();
+                }
+            });
+            confirmed.forEach(inventoryService::confirm);
+            released.forEach(inventoryService::release);
+            orderStatusChanged.fire(new OrderStatusChangedEvent(status, List.copyOf(updated)));
+        }
+        return new BulkStatusResult(status, updated.size(), outcomes, truncated);
+    }
+
+    /**
+     * Reads the current status, size and reservation of the selected orders, locking them until the
+     * transaction ends so that concurrent transitions of the same orders serialize. A filter reads one
+     * row more than {@link #MAX_BULK_ORDERS} so the caller can tell it matched too many.
+     */
+    private SequencedMap<Long, OrderRow> lockOrders(BulkStatusRequest request) {
+        // pending changes to managed orders must be visible to the plain JDBC below
+        getEntityManager().flush();
+        StringBuilder sql = new StringBuilder("SELECT id, order_status, t_shirt_size, stock_reserved FROM merchandise_orders WHERE ");
+        List<Object> parameters = new ArrayList<>();
+        if (request.byIds()) {
+            sql.append("id = ANY (?)");
+            parameters.add(request.orderIds());
+        } else {
+            List<String> conditions = new ArrayList<>();
+            if (request.currentStatus() != null) {
+                conditions.add("order_status = ?");
+                parameters.add(request.currentStatus());
+            }
+            if (request.size() != null) {
+                conditions.add("t_shirt_size = ?");
+                parameters.add(request.size());
+            }
+            sql.append(String.join(" AND ", conditions));
+        }
+        sql.append(" ORDER BY id");
+        if (request.byFilter()) {
+            sql.append(" LIMIT ").append(MAX_BULK_ORDERS + 1);
+        }
+        sql.append(" FOR UPDATE");
+        return getEntityManager().unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement select = connection.prepareStatement(sql.toString())) {
+                for (int i = 0; i < parameters.size(); i++) {
+                    Object parameter = parameters.get(i);
+                    if (parameter instanceof List<?> ids) {
+                        select.setArray(i + 1, connection.createArrayOf("bigint", ids.toArray()));
+                    } else {
+                        select.setString(i + 1, (String) parameter);
+                    }
+                }
+                SequencedMap<Long, OrderRow> rows = new LinkedHashMap<>();
+                try (ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        rows.put(resultSet.getLong(1), new OrderRow(resultSet.getString(2), resultSet.getString(3),
+                                resultSet.getBoolean(4)));
+                    }
+                }
+                return rows;
+            }
+        });
+    }
+
+    private InventoryService.Reservation reserve(String tShirtSize) {
+        return tShirtSize == null ? InventoryService.Reservation.UNTRACKED
+                : inventoryService.reserve(InventoryService.tShirtSku(tShirtSize));
+    }
+
+    private record OrderRow(String status, String size, boolean stockReserved) {
     }
 } 
\ No newline at end of file
@@ -0,0 +1,11 @@
+package io.arrogantprogrammer.merchandise;
+
+import java.util.List;
+
+/**
+ * CDI event fired by {@link MerchandiseService} once per status change request, single or bulk,
+ * naming every order that moved to {@code status}. Observers should listen with
+ * {@code TransactionPhase.AFTER_SUCCESS}.
+ */
+public record OrderStatusChangedEvent(String status, List<Long> orderIds) {
+}
@@ -0,0 +1,105 @@
+package io.arrogantprogrammer.merchandise;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free stock counters for one SKU. A reservation takes a unit from {@code available} with a
+ * compare-and-set loop, so concurrent reservations never push it below zero and never block each
+ * other. {@code flushed} holds the counters as of the last flush, which writes only the difference.
+ */
+final class StockLevel {
+
+    private final String sku;
+    private final AtomicLong available;
+    private final AtomicLong reserved;
+    private final AtomicLong sold;
+    private InventoryLevel flushed;
+
+    StockLevel(String sku, long available, long reserved, long sold) {
+        this(sku, available, reserved, sold, new InventoryLevel(sku, available, reserved, sold));
+    }
+
+    /**
+     * Counters that differ from the stored row {@code flushed}, e.g. after correcting it at startup;
+     * the next flush writes the difference.
+     */
+    StockLevel(String sku, long available, long reserved, long sold, InventoryLevel flushed) {
+        this.sku = sku;
+        this.available = new AtomicLong(available);
+        this.reserved = new AtomicLong(reserved);
+        this.sold = new AtomicLong(sold);
+        this.flushed = flushed;
+    }
+
+    boolean tryReserve() {
+        long current;
+        do {
+            current = available.get();
+            if (current <= 0) {
+                return false;
+            }
+        } while (!available.compareAndSet(current, current - 1));
+        reserved.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Returns reserved units to stock. Never takes {@code reserved} below zero, should a caller ask for
+     * more units than are reserved.
+     */
+    void release(long units) {
+        long taken = takeReserved(units);
+        if (taken > 0) {
+            available.addAndGet(taken);
+        }
+    }
+
+    void confirm(long units) {
+        long taken = takeReserved(units);
+        if (taken > 0) {
+            sold.addAndGet(taken);
+        }
+    }
+
+    void restock(long quantity) {
+        available.addAndGet(quantity);
+    }
+
+    /**
+     * How far each counter moved since the last {@link #flushed(InventoryLevel) flushed} change, or
+     * {@code null} if none did. The three counters are read one after the other, so a change racing
+     * with a flush may be split across two flushes; their sum is still exact. Only the flush calls
+     * this, one at a time.
+     */
+    InventoryLevel unflushedChange() {
+        InventoryLevel current = snapshot();
+        InventoryLevel change = new InventoryLevel(sku, current.available() - flushed.available(),
+                current.reserved() - flushed.reserved(), current.sold() - flushed.sold());
+        return change.available() == 0 && change.reserved() == 0 && change.sold() == 0 ? null : change;
+    }
+
+    /**
+     * Records that {@code change}, from {@link #unflushedChange()}, was written.
+     */
+    void flushed(InventoryLevel change) {
+        flushed = new InventoryLevel(sku, flushed.available() + change.available(),
+                flushed.reserved() + change.reserved(), flushed.sold() + change.sold());
+    }
+
+    InventoryLevel snapshot() {
+        return new InventoryLevel(sku, available.get(), reserved.get(), sold.get());
+    }
+
+    private long takeReserved(long units) {
+        long current;
+        long taken;
+        do {
+            current = reserved.get();
+            taken = Math.min(current, units);
+            if (taken <= 0) {
+                return 0;
+            }
+        } while (!reserved.compareAndSet(current, current - taken));
+        return taken;
+    }
+}
@@ -0,0 +1,173 @@
+package io.arrogantprogrammer.sessions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Interval tree over half-open intervals {@code [start, end)}, implemented as a treap ordered by
+ * {@code (start, value)} and augmented with the maximum end of each subtree. Insert and remove run
+ * in expected O(log n); finding the k intervals that overlap a query runs in O(log n + k).
+ * <p>
+ * A value may appear at most once per start. Not thread-safe; callers guard it with a lock.
+ */
+public final class IntervalTree<K extends Comparable<? super K>, V extends Comparable<? super V>> {
+
+    private final class Node {
+        final K start;
+        final K end;
+        final V value;
+        final int priority;
+        K maxEnd;
+        Node left;
+        Node right;
+
+        Node(K start, K end, V value, int priority) {
+            this.start = start;
+            this.end = end;
+            this.value = value;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+    }
+
+    private final SplittableRandom random = new SplittableRandom();
+    private Node root;
+    private int size;
+    private boolean removed;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void insert(K start, K end, V value) {
+        if (start.compareTo(end) >= 0) {
+            throw new IllegalArgumentException("Interval start must be before its end");
+        }
+        root = insert(root, new Node(start, end, value, random.nextInt()));
+        size++;
+    }
+
+    public boolean remove(K start, V value) {
+        removed = false;
+        root = remove(root, start, value);
+        if (removed) {
+            size--;
+        }
+        return removed;
+    }
+
+    /**
+     * Returns every value whose interval overlaps {@code [start, end)}, in start order.
+     */
+    public List<V> findOverlaps(K start, K end) {
+        List<V> result = new ArrayList<>();
+        collect(root, start, end, result);
+        return result;
+    }
+
+    private Node insert(Node node, Node inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (compare(inserted.start, inserted.value, node) < 0) {
+            node.left = insert(node.left, inserted);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, inserted);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private Node remove(Node node, K start, V value) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = compare(start, value, node);
+        if (comparison < 0) {
+            node.left = remove(node.left, start, value);
+        } else if (comparison > 0) {
+            node.right = remove(node.right, start, value);
+        } else {
+            removed = true;
+            return merge(node.left, node.right);
+        }
+        update(node);
+        return node;
+    }
+
+    private Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private void collect(Node node, K start, K end, List<V> result) {
+        if (node == null || node.maxEnd.compareTo(start) <= 0) {
+            return;
+        }
+        collect(node.left, start, end, result);
+        if (node.start.compareTo(end) >= 0) {
+            return;
+        }
+        if (node.end.compareTo(start) > 0) {
+            result.add(node.value);
+        }
+        collect(node.right, start, end, result);
+    }
+
+    private int compare(K start, V value, Node node) {
+        int byStart = start.compareTo(node.start);
+        return byStart != 0 ? byStart : value.compareTo(node.value);
+    }
+
+    private Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        update(node);
+        update(left);
+        return left;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        update(node);
+        update(right);
+        return right;
+    }
+
+    private void update(Node node) {
+        K maxEnd = node.end;
+        if (node.left != null && node.left.maxEnd.compareTo(maxEnd) > 0) {
+            maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd.compareTo(maxEnd) > 0) {
+            maxEnd = node.right.maxEnd;
+        }
+        node.maxEnd = maxEnd;
+    }
+}
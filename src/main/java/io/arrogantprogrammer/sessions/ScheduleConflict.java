@@ -0,0 +1,24 @@
+package io.arrogantprogrammer.sessions;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Two bookings of the same room or the same speaker whose time slots overlap.
+ * {@code sessionId} is null when the conflict was found for a candidate slot rather than a stored session.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ScheduleConflict(Type type, String room, Long speakerId, Long sessionId, Long conflictingSessionId) {
+
+    public enum Type {
+        ROOM,
+        SPEAKER
+    }
+
+    static ScheduleConflict room(String room, Long sessionId, Long conflictingSessionId) {
+        return new ScheduleConflict(Type.ROOM, room, null, sessionId, conflictingSessionId);
+    }
+
+    static ScheduleConflict speaker(Long speakerId, Long sessionId, Long conflictingSessionId) {
+        return new ScheduleConflict(Type.SPEAKER, null, speakerId, sessionId, conflictingSessionId);
+    }
+}
@@ -0,0 +1,17 @@
+package io.arrogantprogrammer.sessions;
+
+import java.util.List;
+
+public class ScheduleConflictException extends RuntimeException {
+
+    private final List<ScheduleConflict> conflicts;
+
+    public ScheduleConflictException(List<ScheduleConflict> conflicts) {
+        super("Session overlaps " + conflicts.size() + " existing booking(s)");
+        this.conflicts = List.copyOf(conflicts);
+    }
+
+    public List<ScheduleConflict> getConflicts() {
+        return conflicts;
+    }
+}
@@ -0,0 +1,15 @@
+package io.arrogantprogrammer.sessions;
+
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+
+@Provider
+public class ScheduleConflictExceptionMapper implements ExceptionMapper<ScheduleConflictException> {
+    @Override
+    public Response toResponse(ScheduleConflictException exception) {
+        return Response.status(Response.Status.CONFLICT)
+                .entity(exception.getConflicts())
+                .build();
+    }
+}
@@ -0,0 +1,309 @@
+package io.arrogantprogrammer.sessions;
+
+import io.arrogantprogrammer.sharedkernel.transactions.TransactionCallbacks;
+import io.arrogantprogrammer.speakers.SpeakerDeletedEvent;
+import io.quarkus.logging.Log;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory index of session time slots per room and per speaker, loaded lazily from the
+ * {@code sessions} and {@code session_speakers} tables and maintained by {@link SessionService}.
+ * <p>
+ * Writes go through {@link #place(Session)}, which checks and books the slot atomically under the
+ * write lock. The booking is visible to concurrent writers before commit, so two transactions can
+ * never both claim the same slot, and it is undone if the transaction rolls back.
+ * <p>
+ * Sessions written outside {@link SessionService} are picked up by {@link #rebuild()}, which the
+ * startup initializers call once they have run. Deleted speakers are dropped when their
+ * {@link SpeakerDeletedEvent} commits.
+ */
+@ApplicationScoped
+public class ScheduleIndex {
+
+    record Slot(Long sessionId, String room, LocalDateTime start, LocalDateTime end, Set<Long> speakerIds) {
+
+        boolean scheduled() {
+            return start != null && end != null && start.isBefore(end);
+        }
+
+        boolean sameTimeAs(Slot other) {
+            return other != null && Objects.equals(start, other.start) && Objects.equals(end, other.end);
+        }
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, IntervalTree<LocalDateTime, Long>> byRoom = new HashMap<>();
+    private final Map<Long, IntervalTree<LocalDateTime, Long>> bySpeaker = new HashMap<>();
+    private final Map<Long, Slot> slots = new HashMap<>();
+    private volatile boolean loaded;
+
+    @Inject
+    SessionRepository sessionRepository;
+
+    @Inject
+    TransactionCallbacks transactionCallbacks;
+
+    /**
+     * Conflicts a candidate slot would have with stored sessions. Answered entirely from memory.
+     */
+    public List<ScheduleConflict> conflictsFor(String room, LocalDateTime start, LocalDateTime end,
+                                               Collection<Long> speakerIds, Long excludeSessionId) {
+        ensureLoaded();
+        Slot candidate = new Slot(excludeSessionId, room, start, end, speakerIds == null ? Set.of() : Set.copyOf(speakerIds));
+        lock.readLock().lock();
+        try {
+            return findConflicts(candidate, null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Every overlapping pair currently stored, each reported once.
+     */
+    public List<ScheduleConflict> report() {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            List<ScheduleConflict> conflicts = new ArrayList<>();
+            for (Slot slot : slots.values()) {
+                for (ScheduleConflict conflict : findConflicts(slot, null)) {
+                    if (conflict.sessionId() < conflict.conflictingSessionId()) {
+                        conflicts.add(conflict);
+                    }
+                }
+            }
+            conflicts.sort(Comparator.comparing(ScheduleConflict::sessionId).thenComparing(ScheduleConflict::conflictingSessionId));
+            return conflicts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Books the session's current room, time and speakers, replacing its previous booking.
+     * Only what changed is checked, so conflicts that predate enforcement don't block unrelated edits.
+     *
+     * @throws ScheduleConflictException if the new booking overlaps another session
+     */
+    public void place(Session session) {
+        ensureLoaded();
+        Set<Long> speakerIds = session.speakerEntities == null ? Set.of()
+                : session.speakerEntities.stream().map(speaker -> speaker.id).collect(Collectors.toUnmodifiableSet());
+        Slot slot = new Slot(session.id, session.room, session.startTime, session.endTime, speakerIds);
+        Slot previous;
+        lock.writeLock().lock();
+        try {
+            previous = slots.get(session.id);
+            List<ScheduleConflict> conflicts = findConflicts(slot, previous);
+            if (!conflicts.isEmpty()) {
+                throw new ScheduleConflictException(conflicts);
+            }
+            unindex(previous);
+            index(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        transactionCallbacks.afterRollback(() -> restore(session.id, slot, previous));
+    }
+
+    public void remove(Long sessionId) {
+        transactionCallbacks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                unindex(slots.get(sessionId));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Drops the index so it is reloaded from the database on next use, e.g. after bulk imports.
+     */
+    public void invalidate() {
+        lock.writeLock().lock();
+        try {
+            clear();
+            loaded = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reloads the index from the database now, e.g. once the startup initializers have seeded sessions.
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            // stays unloaded if the load fails, so the next use retries it
+            loaded = false;
+            load();
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void onSpeakerDeleted(@Observes(during = TransactionPhase.AFTER_SUCCESS) SpeakerDeletedEvent event) {
+        if (!loaded) {
+            return;
+        }
+        Long speakerId = event.speakerId();
+        lock.writeLock().lock();
+        try {
+            bySpeaker.remove(speakerId);
+            slots.replaceAll((sessionId, slot) -> slot.speakerIds().contains(speakerId) ? withoutSpeaker(slot, speakerId) : slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Slot withoutSpeaker(Slot slot, Long speakerId) {
+        Set<Long> speakerIds = slot.speakerIds().stream()
+                .filter(id -> !id.equals(speakerId))
+                .collect(Collectors.toUnmodifiableSet());
+        return new Slot(slot.sessionId(), slot.room(), slot.start(), slot.end(), speakerIds);
+    }
+
+    private List<ScheduleConflict> findConflicts(Slot slot, Slot previous) {
+        List<ScheduleConflict> conflicts = new ArrayList<>();
+        if (!slot.scheduled()) {
+            return conflicts;
+        }
+        boolean timeUnchanged = slot.sameTimeAs(previous);
+        if (slot.room() != null && !(timeUnchanged && slot.room().equals(previous.room()))) {
+            IntervalTree<LocalDateTime, Long> tree = byRoom.get(slot.room());
+            if (tree != null) {
+                for (Long other : tree.findOverlaps(slot.start(), slot.end())) {
+                    if (!other.equals(slot.sessionId())) {
+                        conflicts.add(ScheduleConflict.room(slot.room(), slot.sessionId(), other));
+                    }
+                }
+            }
+        }
+        for (Long speakerId : slot.speakerIds()) {
+            if (timeUnchanged && previous.speakerIds().contains(speakerId)) {
+                continue;
+            }
+            IntervalTree<LocalDateTime, Long> tree = bySpeaker.get(speakerId);
+            if (tree != null) {
+                for (Long other : tree.findOverlaps(slot.start(), slot.end())) {
+                    if (!other.equals(slot.sessionId())) {
+                        conflicts.add(ScheduleConflict.speaker(speakerId, slot.sessionId(), other));
+                    }
+                }
+            }
+        }
+        return conflicts;
+    }
+
+    private void restore(Long sessionId, Slot placed, Slot previous) {
+        lock.writeLock().lock();
+        try {
+            // only undo if nothing newer replaced our booking in the meantime
+            if (slots.get(sessionId) == placed) {
+                unindex(placed);
+                if (previous != null) {
+                    index(previous);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void index(Slot slot) {
+        slots.put(slot.sessionId(), slot);
+        if (!slot.scheduled()) {
+            return;
+        }
+        if (slot.room() != null) {
+            byRoom.computeIfAbsent(slot.room(), room -> new IntervalTree<>()).insert(slot.start(), slot.end(), slot.sessionId());
+        }
+        for (Long speakerId : slot.speakerIds()) {
+            bySpeaker.computeIfAbsent(speakerId, id -> new IntervalTree<>()).insert(slot.start(), slot.end(), slot.sessionId());
+        }
+    }
+
+    private void unindex(Slot slot) {
+        if (slot == null) {
+            return;
+        }
+        slots.remove(slot.sessionId());
+        if (!slot.scheduled()) {
+            return;
+        }
+        if (slot.room() != null) {
+            removeFrom(byRoom, slot.room(), slot);
+        }
+        for (Long speakerId : slot.speakerIds()) {
+            removeFrom(bySpeaker, speakerId, slot);
+        }
+    }
+
+    private <T> void removeFrom(Map<T, IntervalTree<LocalDateTime, Long>> trees, T key, Slot slot) {
+        IntervalTree<LocalDateTime, Long> tree = trees.get(key);
+        if (tree != null) {
+            tree.remove(slot.start(), slot.sessionId());
+            if (tree.isEmpty()) {
+                trees.remove(key);
+            }
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                load();
+                loaded = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void load() {
+        clear();
+        // a separate transaction so the index only ever starts from committed rows
+        QuarkusTransaction.requiringNew().run(() -> {
+            Map<Long, Set<Long>> speakersBySession = new HashMap<>();
+            for (SessionRepository.SpeakerAssignmentRow row : sessionRepository.listSpeakerAssignments()) {
+                speakersBySession.computeIfAbsent(row.sessionId(), id -> new HashSet<>()).add(row.speakerId());
+            }
+            for (SessionRepository.ScheduleRow row : sessionRepository.listScheduleRows()) {
+                index(new Slot(row.sessionId(), row.room(), row.startTime(), row.endTime(),
+                        Set.copyOf(speakersBySession.getOrDefault(row.sessionId(), Set.of()))));
+            }
+        });
+        Log.debugf("Loaded schedule index with %d sessions, %d rooms, %d speakers", slots.size(), byRoom.size(), bySpeaker.size());
+    }
+
+    private void clear() {
+        slots.clear();
+        byRoom.clear();
+        bySpeaker.clear();
+    }
+}
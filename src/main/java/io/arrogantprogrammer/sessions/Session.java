@@ -3,12 +3,14 @@ package io.arrogantprogrammer.sessions;
 import io.arrogantprogrammer.speakers.Speaker;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.BatchSize;
 import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "sessions")
+@Table(name = "sessions", indexes = @Index(name = "idx_sessions_created_at_id", columnList = "created_at, id"))
 public class Session {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -23,7 +25,11 @@ public class Session {
     public LocalDateTime endTime;
     public String room;
 
+    @Column(name = "created_at", nullable = false, updatable = false)
+    public ZonedDateTime createdAt = ZonedDateTime.now();
+
     @ManyToMany
+    @BatchSize(size = 32)
     @JoinTable(
         name = "session_speakers",
         joinColumns = @JoinColumn(name = "session_id"),
@@ -0,0 +1,40 @@
+package io.arrogantprogrammer.sessions;
+
+import java.time.LocalDateTime;
+
+/**
+ * CDI event fired by {@link SessionService} whenever a session or its speaker list changes.
+ * Observers that maintain read models should listen with {@code TransactionPhase.AFTER_SUCCESS}
+ * so they only ever see committed changes.
+ * <p>
+ * The schedule fields carry the session's state after the change; {@code timeChanged} and
+ * {@code roomChanged} tell update observers what actually moved.
+ */
+public record SessionChangedEvent(Kind kind, Long sessionId, Long speakerId,
+                                  LocalDateTime startTime, LocalDateTime endTime, String room,
+                                  boolean timeChanged, boolean roomChanged) {
+
+    public enum Kind {
+        CREATED,
+        UPDATED,
+        DELETED,
+        SPEAKER_ADDED,
+        SPEAKER_REMOVED
+    }
+
+    static SessionChangedEvent created(Session session) {
+        return new SessionChangedEvent(Kind.CREATED, session.id, null, session.startTime, session.endTime, session.room, false, false);
+    }
+
+    static SessionChangedEvent deleted(Long sessionId) {
+        return new SessionChangedEvent(Kind.DELETED, sessionId, null, null, null, null, false, false);
+    }
+
+    static SessionChangedEvent updated(Session session, boolean timeChanged, boolean roomChanged) {
+        return new SessionChangedEvent(Kind.UPDATED, session.id, null, session.startTime, session.endTime, session.room, timeChanged, roomChanged);
+    }
+
+    static SessionChangedEvent speaker(Kind kind, Session session, Long speakerId) {
+        return new SessionChangedEvent(kind, session.id, speakerId, session.startTime, session.endTime, session.room, false, false);
+    }
+}
@@ -1,8 +1,144 @@
 package io.arrogantprogrammer.sessions;
 
+import io.arrogantprogrammer.sharedkernel.pagination.Cursor;
+import io.arrogantprogrammer.sharedkernel.pagination.CursorPage;
+import io.arrogantprogrammer.sharedkernel.pagination.PageRequest;
+import io.arrogantprogrammer.speakers.SocialMediaDTO;
+import io.arrogantprogrammer.speakers.SpeakerDTO;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.TypedQuery;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @ApplicationScoped
 public class SessionRepository implements PanacheRepository<Session> {
-} 
\ No newline at end of file
+
+    /**
+     * Read model for listings: loads every session with its speakers and their social media
+     * as flat projections in exactly two queries, regardless of how many sessions exist.
+     * Nothing returned here is a managed entity.
+     */
+    public List<SessionDTO> listAllWithSpeakers() {
+        return assemble(getEntityManager().createQuery(
+                        "SELECT s.id, s.title, s.description, s.startTime, s.endTime, s.room, " +
+                        "sp.id, sp.name, sp.title, sp.company, sp.bio, sp.headshot " +
+                        "FROM Session s LEFT JOIN s.speakerEntities sp " +
+                        "ORDER BY s.startTime, s.id, sp.id", SessionSpeakerRow.class)
+                .getResultList());
+    }
+
+    /**
+     * Keyset page of {@link #listAllWithSpeakers()} in {@code (created_at, id)} order: one seek query
+     * for the page's session keys, then the same two projections restricted to those sessions.
+     */
+    public CursorPage<SessionDTO> listPageWithSpeakers(PageRequest page) {
+        TypedQuery<SessionKeyRow> keyQuery = getEntityManager().createQuery(
+                "SELECT s.id, s.createdAt FROM Session s WHERE " + page.seek("s") + page.orderBy("s"), SessionKeyRow.class);
+        page.parameters().forEach(keyQuery::setParameter);
+        CursorPage<SessionKeyRow> keys = CursorPage.of(keyQuery.setMaxResults(page.fetchSize()).getResultList(),
+                page, key -> Cursor.of(key.createdAt(), key.sessionId()));
+        if (keys.items().isEmpty()) {
+            return new CursorPage<>(List.of(), null);
+        }
+        List<SessionSpeakerRow> rows = getEntityManager().createQuery(
+                        "SELECT s.id, s.title, s.description, s.startTime, s.endTime, s.room, " +
+                        "sp.id, sp.name, sp.title, sp.company, sp.bio, sp.headshot " +
+                        "FROM Session s LEFT JOIN s.speakerEntities sp " +
+                        "WHERE s.id IN :sessionIds" + page.orderBy("s") + ", sp.id", SessionSpeakerRow.class)
+                .setParameter("sessionIds", keys.items().stream().map(SessionKeyRow::sessionId).toList())
+                .getResultList();
+        return new CursorPage<>(assemble(rows), keys.next());
+    }
+
+    private List<SessionDTO> assemble(List<SessionSpeakerRow> rows) {
+        Map<Long, SessionDTO> sessions = new LinkedHashMap<>();
+        Map<Long, SpeakerDTO> speakers = new HashMap<>();
+        for (SessionSpeakerRow row : rows) {
+            SessionDTO session = sessions.computeIfAbsent(row.sessionId(), id -> row.toSessionDTO());
+            if (row.speakerId() != null) {
+                session.speakers.add(speakers.computeIfAbsent(row.speakerId(), id -> row.toSpeakerDTO()));
+            }
+        }
+
+        if (!speakers.isEmpty()) {
+            getEntityManager().createQuery(
+                            "SELECT sm.speaker.id, sm.id, sm.platform, sm.handle " +
+                            "FROM SocialMedia sm WHERE sm.speaker.id IN :speakerIds ORDER BY sm.id", SocialMediaRow.class)
+                    .setParameter("speakerIds", speakers.keySet())
+                    .getResultList()
+                    .forEach(row -> speakers.get(row.speakerId()).socialMedia.add(row.toDTO()));
+        }
+        return new ArrayList<>(sessions.values());
+    }
+
+    /**
+     * Time slot and room of every scheduled session, for building the in-memory schedule index.
+     */
+    public List<ScheduleRow> listScheduleRows() {
+        return getEntityManager().createQuery(
+                        "SELECT s.id, s.room, s.startTime, s.endTime FROM Session s " +
+                        "WHERE s.startTime IS NOT NULL AND s.endTime IS NOT NULL", ScheduleRow.class)
+                .getResultList();
+    }
+
+    public List<SpeakerAssignmentRow> listSpeakerAssignments() {
+        return getEntityManager().createQuery(
+                        "SELECT s.id, sp.id FROM Session s JOIN s.speakerEntities sp", SpeakerAssignmentRow.class)
+                .getResultList();
+    }
+
+    public record SessionSpeakerRow(Long sessionId, String title, String description,
+                                    LocalDateTime startTime, LocalDateTime endTime, String room,
+                                    Long speakerId, String speakerName, String speakerTitle,
+                                    String speakerCompany, String speakerBio, String speakerHeadshot) {
+
+        SessionDTO toSessionDTO() {
+            SessionDTO dto = new SessionDTO();
+            dto.id = sessionId;
+            dto.title = title;
+            dto.description = description;
+            dto.startTime = startTime;
+            dto.endTime = endTime;
+            dto.room = room;
+            return dto;
+        }
+
+        SpeakerDTO toSpeakerDTO() {
+            SpeakerDTO dto = new SpeakerDTO();
+            dto.id = speakerId;
+            dto.name = speakerName;
+            dto.title = speakerTitle;
+            dto.company = speakerCompany;
+            dto.bio = speakerBio;
+            dto.headshot = speakerHeadshot;
+            dto.socialMedia = new ArrayList<>();
+            return dto;
+        }
+    }
+
+    public record SocialMediaRow(Long speakerId, Long id, String platform, String handle) {
+
+        SocialMediaDTO toDTO() {
+            SocialMediaDTO dto = new SocialMediaDTO();
+            dto.id = id;
+            dto.platform = platform;
+            dto.handle = handle;
+            return dto;
+        }
+    }
+
+    public record SessionKeyRow(Long sessionId, ZonedDateTime createdAt) {
+    }
+
+    public record ScheduleRow(Long sessionId, String room, LocalDateTime startTime, LocalDateTime endTime) {
+    }
+
+    public record SpeakerAssignmentRow(Long sessionId, Long speakerId) {
+    }
+}
@@ -1,13 +1,18 @@
 package io.arrogantprogrammer.sessions;
 
+import io.arrogantprogrammer.sharedkernel.pagination.PageLinks;
+import io.arrogantprogrammer.sharedkernel.pagination.PageParams;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Path("/api/sessions")
 @Produces(MediaType.APPLICATION_JSON)
@@ -20,10 +25,32 @@ public class SessionResource {
     SessionMapper sessionMapper;
 
     @GET
-    public List<SessionDTO> getAllSessions() {
-        return sessionService.getAllSessions().stream()
-            .map(sessionMapper::toDTO)
-            .collect(Collectors.toList());
+    public Response getAllSessions(@Context UriInfo uriInfo, @BeanParam PageParams page) {
+        return PageLinks.ok(sessionService.getSessionsWithSpeakers(page.toRequest()), uriInfo);
+    }
+
+    /**
+     * Without parameters, reports every overlapping room or speaker booking. With {@code start} and
+     * {@code end} (ISO local date-times), checks a candidate slot for the given room and speakers.
+     */
+    @GET
+    @Path("/conflicts")
+    public List<ScheduleConflict> getConflicts(@QueryParam("room") String room,
+                                               @QueryParam("start") String start,
+                                               @QueryParam("end") String end,
+                                               @QueryParam("speakerId") List<Long> speakerIds,
+                                               @QueryParam("excludeSessionId") Long excludeSessionId) {
+        if (start == null && end == null) {
+            return sessionService.getConflictReport();
+        }
+        if (start == null || end == null) {
+            throw new WebApplicationException("Both start and end are required to check a slot", Response.Status.BAD_REQUEST);
+        }
+        try {
+            return sessionService.checkSlot(room, LocalDateTime.parse(start), LocalDateTime.parse(end), speakerIds, excludeSessionId);
+        } catch (DateTimeParseException e) {
+            throw new WebApplicationException("start and end must be ISO local date-times", Response.Status.BAD_REQUEST);
+        }
     }
 
     @GET
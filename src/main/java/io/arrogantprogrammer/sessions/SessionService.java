@@ -1,11 +1,16 @@
 package io.arrogantprogrammer.sessions;
 
+import io.arrogantprogrammer.sharedkernel.pagination.CursorPage;
+import io.arrogantprogrammer.sharedkernel.pagination.PageRequest;
 import io.arrogantprogrammer.speakers.Speaker;
 import io.arrogantprogrammer.speakers.SpeakerRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @ApplicationScoped
@@ -14,11 +19,19 @@ public class SessionService {
     SessionRepository sessionRepository;
     @Inject
     SpeakerRepository speakerRepository;
+    @Inject
+    Event<SessionChangedEvent> sessionChanged;
+    @Inject
+    ScheduleIndex scheduleIndex;
 
     public List<Session> getAllSessions() {
         return sessionRepository.listAll();
     }
 
+    public CursorPage<SessionDTO> getSessionsWithSpeakers(PageRequest page) {
+        return sessionRepository.listPageWithSpeakers(page);
+    }
+
     public Optional<Session> getSession(Long id) {
         return sessionRepository.findByIdOptional(id);
     }
@@ -26,6 +39,8 @@ public class SessionService {
     @Transactional
     public Session createSession(Session session) {
         sessionRepository.persist(session);
+        scheduleIndex.place(session);
+        sessionChanged.fire(SessionChangedEvent.created(session));
         return session;
     }
 
@@ -33,18 +48,28 @@ public class SessionService {
     public Optional<Session> updateSession(Long id, Session session) {
         return sessionRepository.findByIdOptional(id)
                 .map(existing -> {
+                    boolean timeChanged = !Objects.equals(existing.startTime, session.startTime)
+                            || !Objects.equals(existing.endTime, session.endTime);
+                    boolean roomChanged = !Objects.equals(existing.room, session.room);
                     existing.title = session.title;
                     existing.description = session.description;
                     existing.startTime = session.startTime;
                     existing.endTime = session.endTime;
                     existing.room = session.room;
+                    scheduleIndex.place(existing);
+                    sessionChanged.fire(SessionChangedEvent.updated(existing, timeChanged, roomChanged));
                     return existing;
                 });
     }
 
     @Transactional
     public boolean deleteSession(Long id) {
-        return sessionRepository.deleteById(id);
+        boolean deleted = sessionRepository.deleteById(id);
+        if (deleted) {
+            scheduleIndex.remove(id);
+            sessionChanged.fire(SessionChangedEvent.deleted(id));
+        }
+        return deleted;
     }
 
     @Transactional
@@ -56,6 +81,8 @@ public class SessionService {
             Speaker speaker = speakerOpt.get();
             if (!session.speakerEntities.contains(speaker)) {
                 session.speakerEntities.add(speaker);
+                scheduleIndex.place(session);
+                sessionChanged.fire(SessionChangedEvent.speaker(SessionChangedEvent.Kind.SPEAKER_ADDED, session, speakerId));
             }
             return Optional.of(session);
         }
@@ -70,11 +97,23 @@ public class SessionService {
             Session session = sessionOpt.get();
             Speaker speaker = speakerOpt.get();
             boolean removed = session.speakerEntities.remove(speaker);
+            if (removed) {
+                scheduleIndex.place(session);
+                sessionChanged.fire(SessionChangedEvent.speaker(SessionChangedEvent.Kind.SPEAKER_REMOVED, session, speakerId));
+            }
             return removed ? Optional.of(session) : Optional.empty();
         }
         return Optional.empty();
     }
 
+    public List<ScheduleConflict> getConflictReport() {
+        return scheduleIndex.report();
+    }
+
+    public List<ScheduleConflict> checkSlot(String room, LocalDateTime start, LocalDateTime end, List<Long> speakerIds, Long excludeSessionId) {
+        return scheduleIndex.conflictsFor(room, start, end, speakerIds, excludeSessionId);
+    }
+
     public List<Session> findSessionsBySpeaker(Long speakerId) {
         return sessionRepository.find("SELECT s FROM Session s JOIN s.speakers sp WHERE sp.id = ?1", speakerId).list();
     }
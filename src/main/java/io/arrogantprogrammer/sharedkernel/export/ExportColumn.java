@@ -0,0 +1,13 @@
+package io.arrogantprogrammer.sharedkernel.export;
+
+import java.util.function.Function;
+
+/**
+ * One CSV column of an export: the header and how to read the cell from a row.
+ */
+public record ExportColumn<T>(String header, Function<? super T, ?> value) {
+
+    public static <T> ExportColumn<T> of(String header, Function<? super T, ?> value) {
+        return new ExportColumn<>(header, value);
+    }
+}
@@ -0,0 +1,39 @@
+package io.arrogantprogrammer.sharedkernel.export;
+
+import java.util.Locale;
+
+/**
+ * Wire formats for bulk exports. Both are line oriented, so a consumer can process rows as they
+ * arrive instead of waiting for the whole document.
+ */
+public enum ExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    ExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the name is not a known format
+     */
+    public static ExportFormat named(String name) {
+        if (name == null || name.isBlank()) {
+            return NDJSON;
+        }
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,193 @@
+package io.arrogantprogrammer.sharedkernel.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Writes a query result to the response row by row while the database is still producing it.
+ * <p>
+ * Rows come from a forward-only stream opened with a JDBC fetch size, so the driver holds at most one
+ * fetch of rows at a time. Each row is detached once written so the persistence context doesn't grow
+ * either, which is why rows must be entities. Heap use therefore stays flat however many rows are
+ * exported, and the first rows are flushed to the client before the query has finished.
+ */
+@ApplicationScoped
+public class StreamingExport {
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    EntityManager entityManager;
+
+    @ConfigProperty(name = "conference.export.fetch-size", defaultValue = "500")
+    int fetchSize;
+
+    @ConfigProperty(name = "conference.export.timeout", defaultValue = "PT30M")
+    Duration timeout;
+
+    /**
+     * @param name    base file name offered to the client, e.g. {@code dietary-requirements}
+     * @param format  NDJSON writes each row as the REST API would; CSV writes {@code columns}
+     * @param rows    opens the stream for a given fetch size; it is read inside its own transaction
+     * @param columns the CSV layout, ignored for NDJSON
+     */
+    public <T> Response export(String name, ExportFormat format, IntFunction<Stream<T>> rows, List<ExportColumn<T>> columns) {
+        StreamingOutput body = output -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            RowWriter<T> rowWriter = format == ExportFormat.CSV ? new CsvRowWriter<>(writer, columns) : new JsonRowWriter<>(writer);
+            try {
+                QuarkusTransaction.requiringNew().timeout((int) timeout.toSeconds()).run(() -> write(rows, rowWriter, writer));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.flush();
+        };
+        return Response.ok(body, format.mediaType() + "; charset=UTF-8")
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + name + "." + format.extension() + "\"")
+                .build();
+    }
+
+    /**
+     * Parses the {@code format} query parameter of an export endpoint.
+     *
+     * @throws WebApplicationException with {@code 400 Bad Request} for an unknown format
+     */
+    public static ExportFormat format(String name) {
+        try {
+            return ExportFormat.named(name);
+        } catch (IllegalArgumentException e) {
+            throw new WebApplicationException("Unknown export format " + name, Response.Status.BAD_REQUEST);
+        }
+    }
+
+    private <T> void write(IntFunction<Stream<T>> rows, RowWriter<T> rowWriter, Writer writer) {
+        try (Stream<T> stream = rows.apply(fetchSize)) {
+            rowWriter.start();
+            long written = 0;
+            for (T row : (Iterable<T>) stream::iterator) {
+                rowWriter.write(row);
+                entityManager.detach(row);
+                // the first row goes out at once; afterwards once per fetch, as the driver refills
+                if (written++ % fetchSize == 0) {
+                    writer.flush();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private interface RowWriter<T> {
+
+        default void start() throws IOException {
+        }
+
+        void write(T row) throws IOException;
+    }
+
+    private final class JsonRowWriter<T> implements RowWriter<T> {
+
+        private final Writer writer;
+        private final ObjectWriter json = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        private JsonGenerator generator;
+
+        JsonRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void start() throws IOException {
+            generator = objectMapper.getFactory().createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        }
+
+        @Override
+        public void write(T row) throws IOException {
+            json.writeValue(generator, row);
+            generator.writeRaw('\n');
+            // hands the row to the buffered writer; when it reaches the client is up to the caller
+            generator.flush();
+        }
+    }
+
+    private static final class CsvRowWriter<T> implements RowWriter<T> {
+
+        private final Writer writer;
+        private final List<ExportColumn<T>> columns;
+
+        CsvRowWriter(Writer writer, List<ExportColumn<T>> columns) {
+            this.writer = writer;
+            this.columns = columns;
+        }
+
+        @Override
+        public void start() throws IOException {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeCell(writer, columns.get(i).header());
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(T row) throws IOException {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = columns.get(i).value().apply(row);
+                if (value != null) {
+                    writeCell(writer, value.toString());
+                }
+            }
+            writer.write("\r\n");
+        }
+    }
+
+    // RFC 4180: quote cells containing a separator, quote or line break, doubling embedded quotes
+    static void writeCell(Writer writer, String cell) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < cell.length() && !quote; i++) {
+            char c = cell.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(cell);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < cell.length(); i++) {
+            char c = cell.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
@@ -0,0 +1,7 @@
+package io.arrogantprogrammer.sharedkernel.http;
+
+/**
+ * Fired after a committed write bumped the version of a REST collection.
+ */
+public record CollectionChangedEvent(String collection, long version) {
+}
@@ -0,0 +1,51 @@
+package io.arrogantprogrammer.sharedkernel.http;
+
+import io.arrogantprogrammer.sharedkernel.transactions.TransactionCallbacks;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic version counter per REST collection. Write paths call {@link #bump(String)}; the counter
+ * only moves once the surrounding transaction commits, so a version is never handed out ahead of
+ * the data it describes. Versions are combined with the boot epoch so restarts never reuse a tag.
+ */
+@ApplicationScoped
+public class CollectionVersions {
+
+    public static final String SPEAKERS = "speakers";
+    public static final String SPONSORS = "sponsors";
+    public static final String LOCATIONS = "locations";
+    public static final String SOCIAL = "social";
+
+    private final long epoch = System.currentTimeMillis();
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    @Inject
+    TransactionCallbacks transactionCallbacks;
+
+    @Inject
+    Event<CollectionChangedEvent> collectionChanged;
+
+    public long current(String collection) {
+        return counter(collection).get();
+    }
+
+    public long epoch() {
+        return epoch;
+    }
+
+    public void bump(String collection) {
+        transactionCallbacks.afterCommit(() -> {
+            long version = counter(collection).incrementAndGet();
+            collectionChanged.fire(new CollectionChangedEvent(collection, version));
+        });
+    }
+
+    private AtomicLong counter(String collection) {
+        return versions.computeIfAbsent(collection, c -> new AtomicLong());
+    }
+}
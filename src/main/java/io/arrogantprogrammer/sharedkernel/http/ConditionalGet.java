@@ -0,0 +1,72 @@
+package io.arrogantprogrammer.sharedkernel.http;
+
+import io.arrogantprogrammer.sharedkernel.pagination.CursorPage;
+import io.arrogantprogrammer.sharedkernel.pagination.PageLinks;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+import java.util.function.Supplier;
+
+/**
+ * Builds GET responses that carry an {@code ETag} derived from a collection version and answer
+ * {@code 304 Not Modified} when the client's {@code If-None-Match} still matches. The body supplier
+ * is only invoked when the client's copy is stale, so a matching poll never touches the database.
+ */
+@ApplicationScoped
+public class ConditionalGet {
+
+    @Inject
+    CollectionVersions collectionVersions;
+
+    @Inject
+    HttpCacheConfig config;
+
+    /**
+     * Conditional response for a collection versioned by {@link CollectionVersions}. The version is
+     * read before the body is loaded, so a concurrent write can only make the tag older than the
+     * data, never newer.
+     */
+    public Response respond(Request request, String collection, Supplier<?> body) {
+        return respond(request, collection, collectionVersions.current(collection), body);
+    }
+
+    /**
+     * Conditional response for a collection that tracks its own version, such as the agenda snapshot.
+     */
+    public Response respond(Request request, String collection, long version, Supplier<?> body) {
+        return conditional(request, collection, version, () -> Response.ok(body.get()));
+    }
+
+    /**
+     * Conditional response for one page of a collection. Each page has its own URL, so the collection
+     * version is a valid tag for every page; the paging headers are only computed on a miss.
+     */
+    public Response respondPage(Request request, String collection, UriInfo uriInfo, Supplier<? extends CursorPage<?>> page) {
+        return conditional(request, collection, collectionVersions.current(collection), () -> {
+            CursorPage<?> loaded = page.get();
+            return PageLinks.decorate(Response.ok(loaded.items()), loaded, uriInfo);
+        });
+    }
+
+    private Response conditional(Request request, String collection, long version, Supplier<Response.ResponseBuilder> ok) {
+        EntityTag tag = new EntityTag(collection + "-" + Long.toHexString(collectionVersions.epoch()) + "-" + version);
+        CacheControl cacheControl = cacheControl(collection);
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(tag);
+        if (notModified != null) {
+            return notModified.cacheControl(cacheControl).tag(tag).build();
+        }
+        return ok.get().tag(tag).cacheControl(cacheControl).build();
+    }
+
+    private CacheControl cacheControl(String collection) {
+        CacheControl cacheControl = new CacheControl();
+        cacheControl.setNoTransform(false);
+        cacheControl.setMaxAge(config.collectionMaxAge().getOrDefault(collection, config.maxAge()));
+        cacheControl.setMustRevalidate(true);
+        return cacheControl;
+    }
+}
@@ -0,0 +1,18 @@
+package io.arrogantprogrammer.sharedkernel.http;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import java.util.Map;
+
+/**
+ * Cache-Control settings for conditional GETs. {@code max-age} applies to every collection unless
+ * overridden, e.g. {@code conference.http.cache.collection-max-age.agenda=30}.
+ */
+@ConfigMapping(prefix = "conference.http.cache")
+public interface HttpCacheConfig {
+
+    @WithDefault("0")
+    int maxAge();
+
+    Map<String, Integer> collectionMaxAge();
+}
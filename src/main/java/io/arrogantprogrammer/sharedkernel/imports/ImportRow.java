@@ -0,0 +1,17 @@
+package io.arrogantprogrammer.sharedkernel.imports;
+
+import java.util.Map;
+
+/**
+ * One row of an import file: its number, counted from 1 without a CSV header, and its cells by column name.
+ */
+public record ImportRow(long number, Map<String, String> fields) {
+
+    /**
+     * @return the trimmed cell, or null if the column is missing or blank
+     */
+    public String get(String column) {
+        String value = fields.get(column);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,237 @@
+package io.arrogantprogrammer.sharedkernel.imports;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.arrogantprogrammer.sharedkernel.export.ExportFormat;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Reads bulk-import files one row at a time, in the formats {@link ExportFormat} writes, so an import
+ * never holds more than a row of the input in memory.
+ * <p>
+ * CSV follows RFC 4180 with a header row naming the columns; quoted cells may contain separators,
+ * doubled quotes and line breaks. NDJSON is one object per line; a file starting with {@code [} is
+ * read as a single JSON array of objects instead. JSON arrays in a cell are joined with {@code ;}, the
+ * separator CSV files use for lists.
+ * <p>
+ * A row that cannot be parsed is reported to {@link RowHandler#malformed} and reading carries on with
+ * the next one, except inside a JSON array, where the rest of the document cannot be trusted.
+ */
+public final class RowReader {
+
+    /**
+     * Receives the rows of a file, numbered from 1 in the order they appear, not counting a CSV header.
+     */
+    public interface RowHandler {
+
+        void row(ImportRow row);
+
+        void malformed(long number, String message);
+    }
+
+    private RowReader() {
+    }
+
+    public static void read(InputStream in, ExportFormat format, ObjectMapper objectMapper, RowHandler handler)
+            throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            readCsv(reader, handler);
+        } else {
+            readJson(reader, objectMapper, handler);
+        }
+    }
+
+    private static void readCsv(Reader reader, RowHandler handler) throws IOException {
+        CsvRecords records = new CsvRecords(reader);
+        List<String> header = records.next();
+        if (header == null) {
+            return;
+        }
+        if (!header.isEmpty() && header.get(0).startsWith("\uFEFF")) {
+            header.set(0, header.get(0).substring(1));
+        }
+        long number = 0;
+        for (List<String> cells = records.next(); cells != null; cells = records.next()) {
+            if (cells.size() == 1 && cells.get(0).isEmpty() && !records.unterminated) {
+                continue; // blank line
+            }
+            number++;
+            if (records.unterminated) {
+                handler.malformed(number, "Unterminated quoted cell, the rest of the file was not read");
+                return;
+            }
+            if (cells.size() != header.size()) {
+                handler.malformed(number, "Expected " + header.size() + " cells but found " + cells.size());
+                continue;
+            }
+            Map<String, String> fields = HashMap.newHashMap(header.size());
+            for (int i = 0; i < cells.size(); i++) {
+                fields.put(header.get(i).trim(), cells.get(i));
+            }
+            handler.row(new ImportRow(number, fields));
+        }
+    }
+
+    private static void readJson(BufferedReader reader, ObjectMapper objectMapper, RowHandler handler)
+            throws IOException {
+        reader.mark(1);
+        int first = reader.read();
+        while (first == '\uFEFF' || (first != -1 && Character.isWhitespace(first))) {
+            reader.mark(1);
+            first = reader.read();
+        }
+        if (first == -1) {
+            return;
+        }
+        reader.reset();
+        if (first == '[') {
+            readJsonArray(reader, objectMapper, handler);
+            return;
+        }
+        long number = 0;
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            if (line.isBlank()) {
+                continue;
+            }
+            number++;
+            try {
+                JsonNode node = objectMapper.readTree(line);
+                if (!node.isObject()) {
+                    handler.malformed(number, "Expected a JSON object");
+                    continue;
+                }
+                handler.row(new ImportRow(number, fields(node)));
+            } catch (JsonProcessingException e) {
+                handler.malformed(number, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    private static void readJsonArray(Reader reader, ObjectMapper objectMapper, RowHandler handler) throws IOException {
+        long number = 0;
+        try (JsonParser parser = objectMapper.createParser(reader)) {
+            parser.nextToken();
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                number++;
+                if (token == null) {
+                    handler.malformed(number, "Unexpected end of the JSON array");
+                    return;
+                }
+                JsonNode node = objectMapper.readTree(parser);
+                if (!node.isObject()) {
+                    handler.malformed(number, "Expected a JSON object");
+                    continue;
+                }
+                handler.row(new ImportRow(number, fields(node)));
+            }
+        } catch (JsonProcessingException e) {
+            handler.malformed(number, "Malformed JSON, the rest of the file was not read: " + e.getOriginalMessage());
+        }
+    }
+
+    private static Map<String, String> fields(JsonNode object) {
+        Map<String, String> fields = HashMap.newHashMap(object.size());
+        for (Iterator<Entry<String, JsonNode>> it = object.fields(); it.hasNext(); ) {
+            Entry<String, JsonNode> field = it.next();
+            JsonNode value = field.getValue();
+            if (value.isArray()) {
+                List<String> items = new ArrayList<>(value.size());
+                value.forEach(item -> items.add(item.asText()));
+                fields.put(field.getKey(), String.join(";", items));
+            } else if (!value.isNull()) {
+                fields.put(field.getKey(), value.isValueNode() ? value.asText() : value.toString());
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Splits a CSV stream into records of cells.
+     */
+    private static final class CsvRecords {
+
+        private final Reader reader;
+        private final StringBuilder cell = new StringBuilder();
+        private int pending = -2;
+        private boolean unterminated;
+
+        CsvRecords(Reader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * @return the cells of the next record, or null at the end of the input
+         */
+        List<String> next() throws IOException {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            List<String> cells = new ArrayList<>();
+            boolean quoted = false;
+            cell.setLength(0);
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        unterminated = true;
+                        cells.add(cell.toString());
+                        return cells;
+                    }
+                    if (c == '"') {
+                        int next = read();
+                        if (next == '"') {
+                            cell.append('"');
+                        } else {
+                            quoted = false;
+                            c = next;
+                            continue;
+                        }
+                    } else {
+                        cell.append((char) c);
+                    }
+                } else if (c == '"' && cell.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    cells.add(cell.toString());
+                    cell.setLength(0);
+                } else if (c == '\r' || c == '\n' || c == -1) {
+                    if (c == '\r') {
+                        int next = read();
+                        if (next != '\n') {
+                            pending = next;
+                        }
+                    }
+                    cells.add(cell.toString());
+                    return cells;
+                } else {
+                    cell.append((char) c);
+                }
+                c = read();
+            }
+        }
+
+        private int read() throws IOException {
+            if (pending != -2) {
+                int c = pending;
+                pending = -2;
+                return c;
+            }
+            return reader.read();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.arrogantprogrammer.sharedkernel.pagination;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Position in a listing ordered by {@code (created_at, id)}: the key of the last row a client has
+ * seen. Clients only ever see the {@linkplain #encode() encoded} form and pass it back unchanged.
+ */
+public record Cursor(Instant createdAt, long id) {
+
+    private static final int ENCODED_BYTES = Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    public Cursor {
+        Objects.requireNonNull(createdAt, "createdAt");
+    }
+
+    public static Cursor of(ZonedDateTime createdAt, Long id) {
+        return new Cursor(createdAt.toInstant(), id);
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES)
+                .putLong(createdAt.getEpochSecond())
+                .putInt(createdAt.getNano())
+                .putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * @throws IllegalArgumentException if the value was not produced by {@link #encode()}
+     */
+    public static Cursor decode(String value) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        if (bytes.length != ENCODED_BYTES) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long seconds = buffer.getLong();
+        int nanos = buffer.getInt();
+        if (nanos < 0 || nanos > 999_999_999) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        return new Cursor(Instant.ofEpochSecond(seconds, nanos), buffer.getLong());
+    }
+}
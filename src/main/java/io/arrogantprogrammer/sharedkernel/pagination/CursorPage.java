@@ -0,0 +1,31 @@
+package io.arrogantprogrammer.sharedkernel.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset listing. {@code next} is the cursor to request the following page with, or
+ * null on the last page.
+ */
+public record CursorPage<T>(List<T> items, Cursor next) {
+
+    /**
+     * Builds a page from rows fetched with {@link PageRequest#fetchSize()}: if the extra row is
+     * present it is dropped and the key of the last kept row becomes the next cursor.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, PageRequest request, Function<? super T, Cursor> key) {
+        if (rows.size() <= request.limit()) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, request.limit());
+        return new CursorPage<>(items, key.apply(items.get(items.size() - 1)));
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(items.stream().<R>map(mapper).toList(), next);
+    }
+
+    public boolean hasNext() {
+        return next != null;
+    }
+}
@@ -0,0 +1,30 @@
+package io.arrogantprogrammer.sharedkernel.pagination;
+
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+
+/**
+ * Writes a {@link CursorPage} as a response: the items are the body, and when another page exists
+ * its cursor is sent as {@code X-Next-Cursor} and as a {@code Link: <...>; rel="next"} URL that keeps
+ * the request's other query parameters.
+ */
+public final class PageLinks {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private PageLinks() {
+    }
+
+    public static Response ok(CursorPage<?> page, UriInfo uriInfo) {
+        return decorate(Response.ok(page.items()), page, uriInfo).build();
+    }
+
+    public static Response.ResponseBuilder decorate(Response.ResponseBuilder response, CursorPage<?> page, UriInfo uriInfo) {
+        if (page.hasNext()) {
+            String cursor = page.next().encode();
+            response.header(NEXT_CURSOR_HEADER, cursor)
+                    .link(uriInfo.getRequestUriBuilder().replaceQueryParam("after", cursor).build(), "next");
+        }
+        return response;
+    }
+}
@@ -0,0 +1,42 @@
+package io.arrogantprogrammer.sharedkernel.pagination;
+
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * The {@code after} and {@code limit} query parameters shared by every list endpoint, bound with
+ * {@code @BeanParam}.
+ */
+public class PageParams {
+
+    @QueryParam("after")
+    String after;
+
+    @QueryParam("limit")
+    Integer limit;
+
+    public PageParams() {
+    }
+
+    public PageParams(String after, Integer limit) {
+        this.after = after;
+        this.limit = limit;
+    }
+
+    public PageRequest toRequest() {
+        return toRequest(PageRequest.Order.OLDEST_FIRST);
+    }
+
+    /**
+     * @throws WebApplicationException with {@code 400 Bad Request} for a malformed cursor or an out-of-range limit
+     */
+    public PageRequest toRequest(PageRequest.Order order) {
+        try {
+            Cursor cursor = after == null || after.isBlank() ? null : Cursor.decode(after);
+            return new PageRequest(cursor, limit == null ? PageRequest.DEFAULT_LIMIT : limit, order);
+        } catch (IllegalArgumentException e) {
+            throw new WebApplicationException(e.getMessage(), Response.Status.BAD_REQUEST);
+        }
+    }
+}
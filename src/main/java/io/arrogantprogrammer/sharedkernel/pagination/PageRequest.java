@@ -0,0 +1,81 @@
+package io.arrogantprogrammer.sharedkernel.pagination;
+
+import java.time.ZoneOffset;
+import java.util.Map;
+
+/**
+ * A keyset page request: up to {@code limit} rows strictly after {@code after} in {@code (created_at, id)}
+ * order, or from the start when {@code after} is null.
+ * <p>
+ * Repositories build their seek query from {@link #seek(String)}, {@link #orderBy(String)} and
+ * {@link #parameters()} and fetch {@link #fetchSize()} rows; the extra row tells {@link CursorPage}
+ * whether a next page exists. With an index on {@code (created_at, id)} every page is an index range
+ * scan, however deep the client has paged.
+ */
+public record PageRequest(Cursor after, int limit, Order order) {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    public enum Order {
+        OLDEST_FIRST(">", "ASC"),
+        NEWEST_FIRST("<", "DESC");
+
+        private final String comparison;
+        private final String direction;
+
+        Order(String comparison, String direction) {
+            this.comparison = comparison;
+            this.direction = direction;
+        }
+    }
+
+    public PageRequest {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (order == null) {
+            order = Order.OLDEST_FIRST;
+        }
+    }
+
+    public static PageRequest first(int limit) {
+        return new PageRequest(null, limit, Order.OLDEST_FIRST);
+    }
+
+    public PageRequest withOrder(Order order) {
+        return new PageRequest(after, limit, order);
+    }
+
+    public int fetchSize() {
+        return limit + 1;
+    }
+
+    /**
+     * JPQL predicate that seeks past the cursor, e.g. {@code (p.createdAt, p.id) > (:afterCreatedAt, :afterId)},
+     * or {@code 1 = 1} on the first page. {@code alias} may be empty for Panache's simplified queries.
+     */
+    public String seek(String alias) {
+        if (after == null) {
+            return "1 = 1";
+        }
+        String prefix = prefix(alias);
+        return "(" + prefix + "createdAt, " + prefix + "id) " + order.comparison + " (:afterCreatedAt, :afterId)";
+    }
+
+    public String orderBy(String alias) {
+        String prefix = prefix(alias);
+        return " ORDER BY " + prefix + "createdAt " + order.direction + ", " + prefix + "id " + order.direction;
+    }
+
+    public Map<String, Object> parameters() {
+        if (after == null) {
+            return Map.of();
+        }
+        return Map.of("afterCreatedAt", after.createdAt().atZone(ZoneOffset.UTC), "afterId", after.id());
+    }
+
+    private static String prefix(String alias) {
+        return alias == null || alias.isEmpty() ? "" : alias + ".";
+    }
+}
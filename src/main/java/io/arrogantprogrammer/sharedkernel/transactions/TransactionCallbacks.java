@@ -0,0 +1,52 @@
+package io.arrogantprogrammer.sharedkernel.transactions;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+/**
+ * Runs callbacks once the current JTA transaction has completed. Used by in-memory read models
+ * and counters that must only reflect committed state. Without an active transaction the callback
+ * runs immediately (commit) or never (rollback).
+ */
+@ApplicationScoped
+public class TransactionCallbacks {
+
+    @Inject
+    TransactionSynchronizationRegistry registry;
+
+    public void afterCommit(Runnable callback) {
+        if (!inTransaction()) {
+            callback.run();
+            return;
+        }
+        register(callback, Status.STATUS_COMMITTED);
+    }
+
+    public void afterRollback(Runnable callback) {
+        if (inTransaction()) {
+            register(callback, Status.STATUS_ROLLEDBACK);
+        }
+    }
+
+    private boolean inTransaction() {
+        return registry.getTransactionKey() != null;
+    }
+
+    private void register(Runnable callback, int expectedStatus) {
+        registry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == expectedStatus) {
+                    callback.run();
+                }
+            }
+        });
+    }
+}
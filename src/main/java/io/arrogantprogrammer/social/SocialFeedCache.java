@@ -0,0 +1,230 @@
+package io.arrogantprogrammer.social;
+
+import io.arrogantprogrammer.sharedkernel.pagination.Cursor;
+import io.arrogantprogrammer.sharedkernel.pagination.CursorPage;
+import io.arrogantprogrammer.sharedkernel.pagination.PageRequest;
+import io.arrogantprogrammer.sharedkernel.transactions.TransactionCallbacks;
+import io.quarkus.logging.Log;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.panache.common.Page;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.interceptor.Interceptor;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * In-memory copy of the newest posts, so the home feed does not query {@code social_posts}.
+ * <p>
+ * The timeline holds the newest {@code conference.social.timeline-size} posts in {@code (created_at, id)}
+ * order. It is loaded at startup and then kept current by {@link SocialMediaService}: posts are added
+ * when the transaction that created them commits, and the oldest are evicted once the timeline is
+ * full. Because it always covers a contiguous newest stretch of the table, any page that lies inside
+ * it is served from memory; pages past its oldest post return empty so the caller falls back to a
+ * keyset query.
+ * <p>
+ * The newest {@code conference.social.attendee-posts} posts of recently read attendees are cached
+ * too, loaded on first read and bounded to {@code conference.social.cached-attendees} attendees; the
+ * attendee read least recently is evicted first.
+ * <p>
+ * A transaction that has written posts reads them from the database until it commits, so it always
+ * sees its own writes.
+ * <p>
+ * Only commits made through this instance reach the cache. With several instances behind a load
+ * balancer, each one only sees posts that the others create or delete after its next restart or
+ * {@link #reload()}. The cache therefore assumes a single instance.
+ */
+@ApplicationScoped
+public class SocialFeedCache {
+
+    private static final Comparator<Cursor> NEWEST_FIRST =
+            Comparator.comparing(Cursor::createdAt).thenComparingLong(Cursor::id).reversed();
+    private static final String WRITTEN = SocialFeedCache.class.getName() + ".written";
+
+    private final ConcurrentNavigableMap<Cursor, SocialPost> timeline = new ConcurrentSkipListMap<>(NEWEST_FIRST);
+    private final AtomicInteger timelineSize = new AtomicInteger();
+    private final Map<Long, List<SocialPost>> attendeePosts = new ConcurrentHashMap<>();
+    /** Ids of the cached attendees, least recently read first; guarded by itself. */
+    private final LinkedHashMap<Long, Boolean> attendeeReads = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** True while the timeline holds every post in the table, i.e. nothing has been evicted. */
+    private volatile boolean complete;
+
+    @ConfigProperty(name = "conference.social.timeline-size", defaultValue = "1000")
+    int capacity;
+
+    @ConfigProperty(name = "conference.social.attendee-posts", defaultValue = "20")
+    int postsPerAttendee;
+
+    @ConfigProperty(name = "conference.social.cached-attendees", defaultValue = "10000")
+    int cachedAttendees;
+
+    @Inject
+    TransactionCallbacks transactionCallbacks;
+
+    @Inject
+    TransactionSynchronizationRegistry transactionRegistry;
+
+    void warm(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEvent event) {
+        reload();
+    }
+
+    /**
+     * Replaces the timeline with the newest posts in the table and forgets all attendee posts.
+     */
+    public synchronized void reload() {
+        List<SocialPost> newest = QuarkusTransaction.requiringNew().call(() -> SocialPost.<SocialPost>findAll(
+                        Sort.descending("createdAt", "id"))
+                .page(Page.ofSize(capacity))
+                .list());
+        timeline.clear();
+        newest.forEach(post -> timeline.put(key(post), post));
+        timelineSize.set(newest.size());
+        complete = newest.size() < capacity;
+        synchronized (attendeeReads) {
+            attendeeReads.clear();
+            attendeePosts.clear();
+        }
+        Log.debugf("Loaded %d posts into the social timeline", newest.size());
+    }
+
+    /**
+     * Page of the timeline, newest first, or empty if the page reaches past the cached posts or the
+     * current transaction has written posts.
+     */
+    public Optional<CursorPage<SocialPost>> page(PageRequest request) {
+        if (writtenInThisTransaction()) {
+            return Optional.empty();
+        }
+        Collection<SocialPost> posts = request.after() == null
+                ? timeline.values()
+                : timeline.tailMap(request.after(), false).values();
+        List<SocialPost> rows = new ArrayList<>(request.fetchSize());
+        Iterator<SocialPost> iterator = posts.iterator();
+        while (rows.size() < request.fetchSize() && iterator.hasNext()) {
+            rows.add(iterator.next());
+        }
+        if (rows.size() < request.fetchSize() && !complete) {
+            return Optional.empty();
+        }
+        return Optional.of(CursorPage.of(rows, request, SocialFeedCache::key));
+    }
+
+    /**
+     * Newest posts of one attendee, newest first, loading them with {@code loader} on a miss. The
+     * loader runs while the attendee's entry is locked, so a post committed during the load is
+     * either seen by the loader or added afterwards.
+     */
+    public List<SocialPost> attendeePosts(Long attendeeId, IntFunction<List<SocialPost>> loader) {
+        if (writtenInThisTransaction()) {
+            return loader.apply(postsPerAttendee);
+        }
+        List<SocialPost> posts = attendeePosts.get(attendeeId);
+        if (posts != null) {
+            read(attendeeId);
+            return posts;
+        }
+        if (attendeePosts.size() >= cachedAttendees) {
+            evictLeastRecentlyRead();
+        }
+        posts = attendeePosts.computeIfAbsent(attendeeId, id -> List.copyOf(loader.apply(postsPerAttendee)));
+        read(attendeeId);
+        return posts;
+    }
+
+    /**
+     * Adds {@code post} once the current transaction commits.
+     */
+    public void added(SocialPost post) {
+        markWritten();
+        transactionCallbacks.afterCommit(() -> add(post));
+    }
+
+    /**
+     * Removes {@code post} once the current transaction commits.
+     */
+    public void removed(SocialPost post) {
+        markWritten();
+        transactionCallbacks.afterCommit(() -> remove(post));
+    }
+
+    private synchronized void add(SocialPost post) {
+        Cursor key = key(post);
+        // outside a full timeline the post belongs to the older pages served by the database
+        if (complete || (!timeline.isEmpty() && NEWEST_FIRST.compare(key, timeline.lastKey()) < 0)) {
+            if (timeline.put(key, post) == null && timelineSize.incrementAndGet() > capacity) {
+                timeline.pollLastEntry();
+                timelineSize.decrementAndGet();
+                complete = false;
+            }
+        }
+        attendeePosts.computeIfPresent(post.getAttendeeId(), (id, posts) -> {
+            List<SocialPost> updated = new ArrayList<>(posts.size() + 1);
+            updated.add(post);
+            updated.addAll(posts);
+            updated.sort(Comparator.comparing(SocialFeedCache::key, NEWEST_FIRST));
+            return List.copyOf(updated.subList(0, Math.min(updated.size(), postsPerAttendee)));
+        });
+    }
+
+    private synchronized void remove(SocialPost post) {
+        if (timeline.remove(key(post)) != null) {
+            timelineSize.decrementAndGet();
+        }
+        // the attendee's next older post is not cached, so load the list again on the next read
+        synchronized (attendeeReads) {
+            attendeeReads.remove(post.getAttendeeId());
+        }
+        attendeePosts.remove(post.getAttendeeId());
+    }
+
+    private void read(Long attendeeId) {
+        synchronized (attendeeReads) {
+            attendeeReads.put(attendeeId, Boolean.TRUE);
+        }
+    }
+
+    private void evictLeastRecentlyRead() {
+        Long leastRecent;
+        synchronized (attendeeReads) {
+            Iterator<Long> iterator = attendeeReads.keySet().iterator();
+            if (!iterator.hasNext()) {
+                return;
+            }
+            leastRecent = iterator.next();
+            iterator.remove();
+        }
+        attendeePosts.remove(leastRecent);
+    }
+
+    private void markWritten() {
+        if (transactionRegistry.getTransactionKey() != null) {
+            transactionRegistry.putResource(WRITTEN, Boolean.TRUE);
+        }
+    }
+
+    private boolean writtenInThisTransaction() {
+        return transactionRegistry.getTransactionKey() != null && transactionRegistry.getResource(WRITTEN) != null;
+    }
+
+    private static Cursor key(SocialPost post) {
+        return Cursor.of(post.getCreatedAt(), post.getId());
+    }
+}
@@ -1,12 +1,19 @@
 package io.arrogantprogrammer.social;
 
 import io.arrogantprogrammer.events.AttendeeRegistered;
+import io.arrogantprogrammer.events.BatchMetrics;
+import io.arrogantprogrammer.events.RegistrationBatch;
+import io.smallrye.reactive.messaging.annotations.Blocking;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
 import org.jboss.logging.Logger;
 import io.smallrye.reactive.messaging.kafka.Record;
 
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
 
 @ApplicationScoped
 public class SocialMediaEventConsumer {
@@ -15,18 +22,46 @@ public class SocialMediaEventConsumer {
     
     @Inject
     SocialMediaService socialMediaService;
+
+    @Inject
+    BatchMetrics batchMetrics;
     
     @Incoming("attendee-registrations-social")
     public void consume(Record<String, AttendeeRegistered> record) {
+        AttendeeRegistered event = record.value();
+        if (event == null) {
+            // undeserializable record, the failure strategy moves it to the dead-letter topic
+            throw new IllegalArgumentException("Malformed attendee registration event with key " + record.key());
+        }
         try {
-            AttendeeRegistered event = record.value();
-            LOG.infof("Received attendee registration event for %s", event.getName());
-            
             SocialPost post = socialMediaService.createWelcomePost(event);
-            LOG.infof("Created welcome post for %s with id %d", event.getName(), post.getId());
+            LOG.debugf("Created welcome post for %s with id %d", event.getName(), post.getId());
         } catch (Exception e) {
             LOG.errorf("Error processing attendee registration event: %s", e.getMessage());
             throw new RuntimeException("Failed to process attendee registration event", e);
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * Batch mode, enabled through the {@code attendee-registrations-social-batch} channel. The whole
+     * poll is inserted in one transaction and acknowledged together once this returns. Records that
+     * could not be deserialized are nacked one by one on the way, which moves them to the dead-letter
+     * topic; if the insert fails, the whole poll goes there.
+     */
+    @Incoming("attendee-registrations-social-batch")
+    @Blocking
+    public CompletionStage<Void> consumeBatch(Message<List<AttendeeRegistered>> message) {
+        RegistrationBatch batch = RegistrationBatch.of(message);
+        long start = System.nanoTime();
+        int created;
+        try {
+            created = socialMediaService.createWelcomePosts(batch.registrations());
+        } catch (Exception e) {
+            LOG.error("Error processing batch of attendee registration events", e);
+            return batch.nack(e);
+        }
+        batchMetrics.record("social", batch, System.nanoTime() - start);
+        LOG.debugf("Processed batch of %d attendee registration events (%d posts)", batch.size(), created);
+        return batch.ack();
+    }
+}
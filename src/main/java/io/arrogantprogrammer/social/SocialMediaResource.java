@@ -1,11 +1,22 @@
 package io.arrogantprogrammer.social;
 
+import io.arrogantprogrammer.events.AttendeeRegistered;
+import io.arrogantprogrammer.sharedkernel.export.ExportColumn;
+import io.arrogantprogrammer.sharedkernel.export.StreamingExport;
+import io.arrogantprogrammer.sharedkernel.http.CollectionVersions;
+import io.arrogantprogrammer.sharedkernel.http.ConditionalGet;
+import io.arrogantprogrammer.sharedkernel.pagination.PageParams;
+import io.arrogantprogrammer.sharedkernel.pagination.PageRequest;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
 import java.util.List;
+import java.util.Map;
 
 @Path("/api/social")
 @Produces(MediaType.APPLICATION_JSON)
@@ -13,12 +24,52 @@ import java.util.List;
 @ApplicationScoped
 public class SocialMediaResource {
     
+    private static final List<ExportColumn<SocialPost>> POST_COLUMNS = List.of(
+            ExportColumn.of("id", SocialPost::getId),
+            ExportColumn.of("attendee_id", SocialPost::getAttendeeId),
+            ExportColumn.of("author", SocialPost::getAuthor),
+            ExportColumn.of("platform", SocialPost::getPlatform),
+            ExportColumn.of("content", SocialPost::getContent),
+            ExportColumn.of("created_at", SocialPost::getCreatedAt));
+
     @Inject
     SocialMediaService socialMediaService;
+
+    @Inject
+    StreamingExport streamingExport;
+
+    @Inject
+    ConditionalGet conditionalGet;
     
     @GET
-    public List<SocialPost> getRecentPosts() {
-        return socialMediaService.getRecentPosts();
+    public Response getRecentPosts(@Context Request request, @Context UriInfo uriInfo, @BeanParam PageParams page) {
+        PageRequest pageRequest = page.toRequest(PageRequest.Order.NEWEST_FIRST);
+        return conditionalGet.respondPage(request, CollectionVersions.SOCIAL, uriInfo,
+                () -> socialMediaService.getRecentPosts(pageRequest));
+    }
+    
+    @GET
+    @Path("/export")
+    @Produces({"application/x-ndjson", "text/csv"})
+    public Response exportPosts(@QueryParam("format") String format) {
+        return streamingExport.export("social-posts", StreamingExport.format(format),
+                socialMediaService::streamPosts, POST_COLUMNS);
+    }
+    
+    /**
+     * Onboards many attendees at once: renders and stores their welcome posts in one transaction,
+     * with the given campaign's template or the active one.
+     */
+    @POST
+    @Path("/welcome")
+    public Response createWelcomePosts(@QueryParam("campaign") String campaign, List<AttendeeRegistered> registrations) {
+        if (registrations == null || registrations.isEmpty()) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+        int created = campaign == null || campaign.isBlank()
+                ? socialMediaService.createWelcomePosts(registrations)
+                : socialMediaService.createWelcomePosts(registrations, campaign);
+        return Response.ok(Map.of("created", created)).build();
     }
     
     @GET
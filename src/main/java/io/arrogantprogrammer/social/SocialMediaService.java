@@ -1,48 +1,115 @@
 package io.arrogantprogrammer.social;
 
 import io.arrogantprogrammer.events.AttendeeRegistered;
+import io.arrogantprogrammer.sharedkernel.http.CollectionVersions;
+import io.arrogantprogrammer.sharedkernel.pagination.Cursor;
+import io.arrogantprogrammer.sharedkernel.pagination.CursorPage;
+import io.arrogantprogrammer.sharedkernel.pagination.PageRequest;
+import io.quarkus.panache.common.Sort;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 
 @ApplicationScoped
 public class SocialMediaService {
+
+    @Inject
+    CollectionVersions collectionVersions;
+
+    @Inject
+    SocialFeedCache feedCache;
+
+    @Inject
+    WelcomeTemplates welcomeTemplates;
     
     @Transactional
     public SocialPost createWelcomePost(AttendeeRegistered event) {
-        String content = generateWelcomeContent(event);
+        String content = welcomeTemplates.get(welcomeTemplates.activeCampaign(), WelcomeTemplates.DEFAULT_PLATFORM)
+                .render(event);
         SocialPost post = new SocialPost(
             content,
             "Conference Bot",
-            "Twitter",
+            WelcomeTemplates.DEFAULT_PLATFORM,
             event.getAttendeeId()
         );
         post.persist();
+        collectionVersions.bump(CollectionVersions.SOCIAL);
+        feedCache.added(post);
         return post;
     }
     
-    private String generateWelcomeContent(AttendeeRegistered event) {
-        return String.format(
-            "Welcome %s to our conference! We're excited to have you join us. " +
-            "Don't forget to follow us for updates and connect with other attendees at %s",
-            event.getName(),
-            event.getSocialMedia()
-        );
+    @Transactional
+    public int createWelcomePosts(List<AttendeeRegistered> events) {
+        return createWelcomePosts(events, welcomeTemplates.activeCampaign());
     }
-    
+
+    /**
+     * Renders one welcome post per registration with the campaign's template and persists them all.
+     * {@link SocialPost} ids come from a pooled sequence, so Hibernate assigns them without a round
+     * trip per post and sends the inserts in JDBC batches of
+     * {@code quarkus.hibernate-orm.jdbc.statement-batch-size}. Every post is rendered into the same
+     * buffer.
+     */
     @Transactional
-    public List<SocialPost> getRecentPosts() {
-        return SocialPost.find(
-            "SELECT p FROM SocialPost p ORDER BY p.createdAt DESC").list();
+    public int createWelcomePosts(List<AttendeeRegistered> events, String campaign) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+        WelcomeTemplate template = welcomeTemplates.get(campaign, WelcomeTemplates.DEFAULT_PLATFORM);
+        StringBuilder content = new StringBuilder(template.capacityHint());
+        List<SocialPost> posts = new ArrayList<>(events.size());
+        for (AttendeeRegistered event : events) {
+            content.setLength(0);
+            template.renderTo(content, event);
+            posts.add(new SocialPost(content.toString(), "Conference Bot", WelcomeTemplates.DEFAULT_PLATFORM,
+                    event.getAttendeeId()));
+        }
+        SocialPost.persist(posts);
+        collectionVersions.bump(CollectionVersions.SOCIAL);
+        posts.forEach(feedCache::added);
+        return posts.size();
+    }
+
+    /**
+     * Posts newest first, one keyset page at a time. Pages within the {@link SocialFeedCache}
+     * timeline are served from memory, older ones from the database.
+     */
+    public CursorPage<SocialPost> getRecentPosts(PageRequest page) {
+        PageRequest newestFirst = page.withOrder(PageRequest.Order.NEWEST_FIRST);
+        return feedCache.page(newestFirst).orElseGet(() -> findRecentPosts(newestFirst));
+    }
+
+    private CursorPage<SocialPost> findRecentPosts(PageRequest newestFirst) {
+        return CursorPage.of(SocialPost.<SocialPost>find(
+                        "SELECT p FROM SocialPost p WHERE " + newestFirst.seek("p") + newestFirst.orderBy("p"),
+                        newestFirst.parameters())
+                .page(0, newestFirst.fetchSize())
+                .list(), newestFirst, post -> Cursor.of(post.getCreatedAt(), post.getId()));
     }
     
+    /**
+     * Every post in id order, read forward-only {@code fetchSize} rows at a time. The stream must be
+     * consumed inside a transaction and closed.
+     */
+    public Stream<SocialPost> streamPosts(int fetchSize) {
+        return SocialPost.<SocialPost>findAll(Sort.by("id"))
+                .withHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .withHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    /**
+     * The attendee's newest posts, newest first, at most {@code conference.social.attendee-posts}.
+     */
     @Transactional
     public List<SocialPost> getPostsByAttendee(Long attendeeId) {
-        return SocialPost.find(
-            "SELECT p FROM SocialPost p WHERE p.attendeeId = ?1 ORDER BY p.createdAt DESC",
-            attendeeId).list();
+        return feedCache.attendeePosts(attendeeId, limit -> SocialPost.<SocialPost>find(
+                "SELECT p FROM SocialPost p WHERE p.attendeeId = ?1 ORDER BY p.createdAt DESC, p.id DESC",
+                attendeeId).page(0, limit).list());
     }
     
     @Transactional
@@ -55,6 +122,8 @@ public class SocialMediaService {
         SocialPost post = getPost(id);
         if (post != null) {
             SocialPost.deleteById(id);
+            collectionVersions.bump(CollectionVersions.SOCIAL);
+            feedCache.removed(post);
         }
     }
 } 
\ No newline at end of file
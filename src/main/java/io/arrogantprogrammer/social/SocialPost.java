@@ -4,9 +4,10 @@ import io.quarkus.hibernate.orm.panache.Panache;
 import io.quarkus.hibernate.orm.panache.PanacheEntity;
 import jakarta.persistence.*;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
-@Table(name = "social_posts")
+@Table(name = "social_posts", indexes = @Index(name = "idx_social_posts_created_at_id", columnList = "created_at, id"))
 public class SocialPost extends PanacheEntity {
     
     @Column(nullable = false)
@@ -25,7 +26,8 @@ public class SocialPost extends PanacheEntity {
     private ZonedDateTime createdAt;
     
     public SocialPost() {
-        this.createdAt = ZonedDateTime.now();
+        // the column keeps microseconds; cached posts must carry the same key as their row
+        this.createdAt = ZonedDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
     
     public SocialPost(String content, String author, String platform, Long attendeeId) {
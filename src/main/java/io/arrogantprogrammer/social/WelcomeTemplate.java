@@ -0,0 +1,102 @@
+package io.arrogantprogrammer.social;
+
+import io.arrogantprogrammer.events.AttendeeRegistered;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A welcome post text with {@code {name}}, {@code {company}}, {@code {email}} and
+ * {@code {socialMedia}} placeholders, parsed once into alternating literal and field parts.
+ * Rendering appends the parts to a caller-supplied {@link StringBuilder}, so generating a post
+ * neither re-parses the template nor allocates beyond the final string. Missing attendee values
+ * render as empty text.
+ * <p>
+ * Instances are immutable and thread-safe.
+ */
+public final class WelcomeTemplate {
+
+    private enum Field {
+        NAME("name", AttendeeRegistered::getName),
+        COMPANY("company", AttendeeRegistered::getCompany),
+        EMAIL("email", AttendeeRegistered::getEmail),
+        SOCIAL_MEDIA("socialMedia", AttendeeRegistered::getSocialMedia);
+
+        private final String placeholder;
+        private final Function<AttendeeRegistered, String> value;
+
+        Field(String placeholder, Function<AttendeeRegistered, String> value) {
+            this.placeholder = placeholder;
+            this.value = value;
+        }
+
+        static Field named(String placeholder, String source) {
+            for (Field field : values()) {
+                if (field.placeholder.equals(placeholder)) {
+                    return field;
+                }
+            }
+            throw new IllegalArgumentException("Unknown placeholder {" + placeholder + "} in template: " + source);
+        }
+    }
+
+    /** {@code literals[i]} precedes {@code fields[i]}; the last literal trails the last field. */
+    private final String[] literals;
+    private final Field[] fields;
+    private final int literalLength;
+
+    private WelcomeTemplate(String[] literals, Field[] fields) {
+        this.literals = literals;
+        this.fields = fields;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * @throws IllegalArgumentException for an unknown or unterminated placeholder
+     */
+    public static WelcomeTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<Field> fields = new ArrayList<>();
+        int start = 0;
+        int open;
+        while ((open = source.indexOf('{', start)) >= 0) {
+            int close = source.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unterminated placeholder in template: " + source);
+            }
+            literals.add(source.substring(start, open));
+            fields.add(Field.named(source.substring(open + 1, close), source));
+            start = close + 1;
+        }
+        literals.add(source.substring(start));
+        return new WelcomeTemplate(literals.toArray(String[]::new), fields.toArray(Field[]::new));
+    }
+
+    public void renderTo(StringBuilder out, AttendeeRegistered event) {
+        for (int i = 0; i < fields.length; i++) {
+            out.append(literals[i]);
+            String value = fields[i].value.apply(event);
+            if (value != null) {
+                out.append(value);
+            }
+        }
+        out.append(literals[fields.length]);
+    }
+
+    public String render(AttendeeRegistered event) {
+        StringBuilder out = new StringBuilder(capacityHint());
+        renderTo(out, event);
+        return out.toString();
+    }
+
+    /**
+     * Initial buffer size that fits a typical rendering without growing.
+     */
+    public int capacityHint() {
+        return literalLength + fields.length * 32;
+    }
+}
@@ -0,0 +1,19 @@
+package io.arrogantprogrammer.social;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import java.util.Map;
+
+/**
+ * Welcome post templates by campaign and platform, e.g.
+ * {@code conference.social.welcome.templates.early-bird.Twitter=Hi {name}!}, and the campaign used
+ * when a caller does not pick one.
+ */
+@ConfigMapping(prefix = "conference.social.welcome")
+public interface WelcomeTemplateConfig {
+
+    @WithDefault(WelcomeTemplates.DEFAULT_CAMPAIGN)
+    String campaign();
+
+    Map<String, Map<String, String>> templates();
+}
@@ -0,0 +1,57 @@
+package io.arrogantprogrammer.social;
+
+import io.quarkus.runtime.Startup;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Welcome post templates per campaign and platform, compiled once at startup from
+ * {@link WelcomeTemplateConfig}. A campaign without a template for some platform falls back to the
+ * {@value #DEFAULT_CAMPAIGN} campaign, which always has a Twitter template. The bean is created
+ * eagerly, so a template that does not compile fails the boot rather than the first registration.
+ */
+@Startup
+@ApplicationScoped
+public class WelcomeTemplates {
+
+    public static final String DEFAULT_CAMPAIGN = "default";
+    public static final String DEFAULT_PLATFORM = "Twitter";
+
+    static final String DEFAULT_TEMPLATE = "Welcome {name} to our conference! We're excited to have you join us. " +
+            "Don't forget to follow us for updates and connect with other attendees at {socialMedia}";
+
+    @Inject
+    WelcomeTemplateConfig config;
+
+    private final Map<String, Map<String, WelcomeTemplate>> templates = new HashMap<>();
+
+    @PostConstruct
+    void compile() {
+        templates.computeIfAbsent(DEFAULT_CAMPAIGN, c -> new HashMap<>())
+                .put(DEFAULT_PLATFORM, WelcomeTemplate.compile(DEFAULT_TEMPLATE));
+        config.templates().forEach((campaign, platforms) -> platforms.forEach((platform, source) ->
+                templates.computeIfAbsent(campaign, c -> new HashMap<>()).put(platform, WelcomeTemplate.compile(source))));
+    }
+
+    public String activeCampaign() {
+        return config.campaign();
+    }
+
+    /**
+     * @throws IllegalArgumentException if neither the campaign nor the default campaign has a
+     *                                  template for the platform
+     */
+    public WelcomeTemplate get(String campaign, String platform) {
+        WelcomeTemplate template = templates.getOrDefault(campaign, Map.of()).get(platform);
+        if (template == null) {
+            template = templates.get(DEFAULT_CAMPAIGN).get(platform);
+        }
+        if (template == null) {
+            throw new IllegalArgumentException("No welcome template for platform " + platform);
+        }
+        return template;
+    }
+}
@@ -1,12 +1,14 @@
 package io.arrogantprogrammer.speakers;
 
 import io.quarkus.hibernate.orm.panache.PanacheEntity;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 
 @Entity
+@Cacheable
 @Table(name = "social_media")
 public class SocialMedia extends PanacheEntity {
     
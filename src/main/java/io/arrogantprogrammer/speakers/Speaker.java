@@ -4,12 +4,17 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "speakers")
+@Cacheable
+@Table(name = "speakers", indexes = @Index(name = "idx_speakers_created_at_id", columnList = "created_at, id"))
 public class Speaker {
 
     @Id @GeneratedValue
@@ -29,8 +34,14 @@ public class Speaker {
     public String bio;
     
     public String headshot;
+
+    @JsonIgnore
+    @Column(name = "created_at", nullable = false, updatable = false)
+    public ZonedDateTime createdAt = ZonedDateTime.now();
     
     @JsonIgnore
+    @BatchSize(size = 32)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "speaker", cascade = CascadeType.ALL, orphanRemoval = true)
     public List<SocialMedia> socialMedia = new ArrayList<>();
 
@@ -0,0 +1,8 @@
+package io.arrogantprogrammer.speakers;
+
+/**
+ * CDI event fired by {@link SpeakerService} when a speaker is deleted, so read models keyed by
+ * speaker can drop their entries. Observers should listen with {@code TransactionPhase.AFTER_SUCCESS}.
+ */
+public record SpeakerDeletedEvent(Long speakerId) {
+}
@@ -1,8 +1,38 @@
 package io.arrogantprogrammer.speakers;
 
+import io.arrogantprogrammer.sharedkernel.pagination.Cursor;
+import io.arrogantprogrammer.sharedkernel.pagination.CursorPage;
+import io.arrogantprogrammer.sharedkernel.pagination.PageRequest;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
 
 @ApplicationScoped
 public class SpeakerRepository implements PanacheRepository<Speaker> {
-} 
\ No newline at end of file
+
+    /**
+     * Served from the query cache, which Hibernate invalidates whenever a speaker is written.
+     */
+    @Override
+    public List<Speaker> listAll() {
+        return findAll().withHint(HibernateHints.HINT_CACHEABLE, true).list();
+    }
+
+    public CursorPage<Speaker> findPage(PageRequest page) {
+        return CursorPage.of(find(page.seek("") + page.orderBy(""), page.parameters())
+                        .page(0, page.fetchSize())
+                        .list(),
+                page, speaker -> Cursor.of(speaker.createdAt, speaker.id));
+    }
+
+    /**
+     * Removes the speaker from every session it is assigned to. The join table is generated without
+     * {@code ON DELETE CASCADE}, so this has to run before the speaker itself is deleted.
+     */
+    public int deleteSessionAssignments(Long speakerId) {
+        return getEntityManager().createNativeQuery("DELETE FROM session_speakers WHERE speaker_id = ?1")
+                .setParameter(1, speakerId)
+                .executeUpdate();
+    }
+}
@@ -1,11 +1,17 @@
 package io.arrogantprogrammer.speakers;
 
+import io.arrogantprogrammer.sharedkernel.http.CollectionVersions;
+import io.arrogantprogrammer.sharedkernel.http.ConditionalGet;
+import io.arrogantprogrammer.sharedkernel.pagination.PageParams;
+import io.arrogantprogrammer.sharedkernel.pagination.PageRequest;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
-import java.util.List;
+import jakarta.ws.rs.core.UriInfo;
 import jakarta.validation.Valid;
 
 import java.util.Optional;
@@ -18,11 +24,14 @@ public class SpeakerResource {
     @Inject
     SpeakerService speakerService;
 
+    @Inject
+    ConditionalGet conditionalGet;
+
     @GET
-    public List<SpeakerDTO> getAllSpeakers() {
-        return speakerService.getAllSpeakers().stream()
-                .map(SpeakerDTO::new)
-                .toList();
+    public Response getAllSpeakers(@Context Request request, @Context UriInfo uriInfo, @BeanParam PageParams page) {
+        PageRequest pageRequest = page.toRequest();
+        return conditionalGet.respondPage(request, CollectionVersions.SPEAKERS, uriInfo,
+                () -> speakerService.getSpeakers(pageRequest).map(SpeakerDTO::new));
     }
 
     @GET
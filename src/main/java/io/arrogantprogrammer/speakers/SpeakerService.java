@@ -1,6 +1,10 @@
 package io.arrogantprogrammer.speakers;
 
+import io.arrogantprogrammer.sharedkernel.http.CollectionVersions;
+import io.arrogantprogrammer.sharedkernel.pagination.CursorPage;
+import io.arrogantprogrammer.sharedkernel.pagination.PageRequest;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import java.util.List;
@@ -17,10 +21,20 @@ public class SpeakerService {
     @Inject
     SocialMediaRepository socialMediaRepository;
 
+    @Inject
+    CollectionVersions collectionVersions;
+
+    @Inject
+    Event<SpeakerDeletedEvent> speakerDeleted;
+
     public List<Speaker> getAllSpeakers() {
         return speakerRepository.listAll();
     }
 
+    public CursorPage<Speaker> getSpeakers(PageRequest page) {
+        return speakerRepository.findPage(page);
+    }
+
     public Optional<Speaker> getSpeaker(Long id) {
         return speakerRepository.findByIdOptional(id);
     }
@@ -28,6 +42,7 @@ public class SpeakerService {
     @Transactional
     public Speaker createSpeaker(Speaker speaker) {
         speakerRepository.persist(speaker);
+        collectionVersions.bump(CollectionVersions.SPEAKERS);
         return speaker;
     }
 
@@ -40,6 +55,7 @@ public class SpeakerService {
             existing.get().company = speaker.company;
             existing.get().bio = speaker.bio;
             existing.get().headshot = speaker.headshot;
+            collectionVersions.bump(CollectionVersions.SPEAKERS);
             Log.debugf("Speaker updated: %s", existing.get());
             return existing;
         } else {
@@ -61,7 +77,13 @@ public class SpeakerService {
 
     @Transactional
     public boolean deleteSpeaker(Long id) {
-        return speakerRepository.deleteById(id);
+        speakerRepository.deleteSessionAssignments(id);
+        boolean deleted = speakerRepository.deleteById(id);
+        if (deleted) {
+            collectionVersions.bump(CollectionVersions.SPEAKERS);
+            speakerDeleted.fire(new SpeakerDeletedEvent(id));
+        }
+        return deleted;
     }
 
     @Transactional
@@ -71,6 +93,7 @@ public class SpeakerService {
                     socialMedia.speaker = speaker;
                     speaker.socialMedia.add(socialMedia);
                     socialMediaRepository.persist(socialMedia);
+                    collectionVersions.bump(CollectionVersions.SPEAKERS);
                     return speaker;
                 });
     }
@@ -80,6 +103,9 @@ public class SpeakerService {
         return speakerRepository.findByIdOptional(id)
                 .map(speaker -> {
                     boolean removed = speaker.socialMedia.removeIf(sm -> sm.id.equals(socialId));
+                    if (removed) {
+                        collectionVersions.bump(CollectionVersions.SPEAKERS);
+                    }
                     return removed ? speaker : null;
                 })
                 .filter(speaker -> speaker != null);
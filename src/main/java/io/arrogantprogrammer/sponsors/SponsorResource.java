@@ -1,11 +1,14 @@
 package io.arrogantprogrammer.sponsors;
 
+import io.arrogantprogrammer.sharedkernel.http.CollectionVersions;
+import io.arrogantprogrammer.sharedkernel.http.ConditionalGet;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
-import java.util.List;
 
 @Path("/api/sponsors")
 @Produces(MediaType.APPLICATION_JSON)
@@ -15,6 +18,9 @@ public class SponsorResource {
     @Inject
     SponsorService sponsorService;
 
+    @Inject
+    ConditionalGet conditionalGet;
+
     @POST
     @Transactional
     public Response createSponsor(Sponsor sponsor) {
@@ -23,8 +29,8 @@ public class SponsorResource {
     }
 
     @GET
-    public List<Sponsor> getAllSponsors() {
-        return sponsorService.getAllSponsors();
+    public Response getAllSponsors(@Context Request request) {
+        return conditionalGet.respond(request, CollectionVersions.SPONSORS, sponsorService::getAllSponsors);
     }
 
     @GET
@@ -1,5 +1,6 @@
 package io.arrogantprogrammer.sponsors;
 
+import io.arrogantprogrammer.sharedkernel.http.CollectionVersions;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
@@ -13,9 +14,13 @@ public class SponsorService {
     @Inject
     SponsorRepository sponsorRepository;
 
+    @Inject
+    CollectionVersions collectionVersions;
+
     @Transactional
     public Sponsor createSponsor(Sponsor sponsor) {
         sponsorRepository.persist(sponsor);
+        collectionVersions.bump(CollectionVersions.SPONSORS);
         return sponsor;
     }
 
@@ -36,6 +41,7 @@ public class SponsorService {
         existingSponsor.logo = sponsor.logo;
         existingSponsor.website = sponsor.website;
         existingSponsor.description = sponsor.description;
+        collectionVersions.bump(CollectionVersions.SPONSORS);
         return existingSponsor;
     }
 
@@ -43,5 +49,6 @@ public class SponsorService {
     public void deleteSponsor(Long id) {
         Sponsor sponsor = getSponsorById(id);
         sponsorRepository.delete(sponsor);
+        collectionVersions.bump(CollectionVersions.SPONSORS);
     }
 } 
\ No newline at end of file
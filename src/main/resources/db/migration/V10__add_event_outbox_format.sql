@@ -0,0 +1,4 @@
+-- payloads are stored already encoded; format and version become the record's Kafka headers
+ALTER TABLE event_outbox ALTER COLUMN payload TYPE BYTEA USING convert_to(payload, 'UTF8');
+ALTER TABLE event_outbox ADD COLUMN format VARCHAR(16) NOT NULL DEFAULT 'json';
+ALTER TABLE event_outbox ADD COLUMN format_version INTEGER NOT NULL DEFAULT 1;
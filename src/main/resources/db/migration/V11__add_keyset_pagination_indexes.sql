@@ -0,0 +1,15 @@
+-- list endpoints page by seeking on (created_at, id), so both must be non-null and indexed together
+-- (the speakers list reads the entity-managed speakers table, whose index is declared on Speaker)
+ALTER TABLE sessions ADD COLUMN created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+UPDATE social_posts SET created_at = CURRENT_TIMESTAMP WHERE created_at IS NULL;
+ALTER TABLE social_posts ALTER COLUMN created_at SET NOT NULL;
+UPDATE merchandise_orders SET created_at = CURRENT_TIMESTAMP WHERE created_at IS NULL;
+ALTER TABLE merchandise_orders ALTER COLUMN created_at SET NOT NULL;
+UPDATE dietary_requirements SET created_at = CURRENT_TIMESTAMP WHERE created_at IS NULL;
+ALTER TABLE dietary_requirements ALTER COLUMN created_at SET NOT NULL;
+
+CREATE INDEX idx_sessions_created_at_id ON sessions (created_at, id);
+CREATE INDEX idx_social_posts_created_at_id ON social_posts (created_at, id);
+CREATE INDEX idx_merchandise_orders_created_at_id ON merchandise_orders (created_at, id);
+CREATE INDEX idx_dietary_requirements_created_at_id ON dietary_requirements (created_at, id);
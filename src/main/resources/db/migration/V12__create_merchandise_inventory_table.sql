@@ -0,0 +1,8 @@
+-- stock per SKU, e.g. T-SHIRT-M; written back in batches from the in-memory counters
+CREATE TABLE merchandise_inventory (
+    sku VARCHAR(64) PRIMARY KEY,
+    available BIGINT NOT NULL,
+    reserved BIGINT NOT NULL,
+    sold BIGINT NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
@@ -0,0 +1,16 @@
+-- full-text search over session abstracts for the review committee; the expression must match
+-- ConferenceSessionEntity.SEARCH_VECTOR. In dev and test Hibernate creates cfp_sessions after Flyway has run,
+-- so there the column comes from the entity mapping and the index from import.sql.
+DO $$
+BEGIN
+    IF to_regclass('cfp_sessions') IS NOT NULL THEN
+        ALTER TABLE cfp_sessions ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+            setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+            setweight(to_tsvector('english', coalesce(summary, '')), 'B') ||
+            setweight(to_tsvector('english', coalesce(learning_objectives, '')), 'C') ||
+            setweight(to_tsvector('english', coalesce(outline, '')), 'D')
+        ) STORED;
+        CREATE INDEX IF NOT EXISTS idx_cfp_sessions_search_vector ON cfp_sessions USING GIN (search_vector);
+    END IF;
+END
+$$;
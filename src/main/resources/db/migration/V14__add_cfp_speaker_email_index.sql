@@ -0,0 +1,10 @@
+-- one speaker per email, ignoring case; also serves the lower(value) = ? lookups of registration de-duplication.
+-- As with V13, cfp_speakers only exists here when migrations run against a schema Hibernate has already created;
+-- in dev and test import.sql creates the index.
+DO $$
+BEGIN
+    IF to_regclass('cfp_speakers') IS NOT NULL THEN
+        CREATE UNIQUE INDEX IF NOT EXISTS idx_cfp_speakers_email_lower ON cfp_speakers (lower(value));
+    END IF;
+END
+$$;
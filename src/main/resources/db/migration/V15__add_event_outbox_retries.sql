@@ -0,0 +1,18 @@
+-- events keep their destination topic (older rows have none and go to the channel's topic);
+-- failed sends back off and are parked after too many attempts
+ALTER TABLE event_outbox ADD COLUMN topic VARCHAR(255);
+ALTER TABLE event_outbox ADD COLUMN last_error TEXT;
+ALTER TABLE event_outbox ADD COLUMN next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE event_outbox ADD COLUMN parked_at TIMESTAMP WITH TIME ZONE;
+
+DROP INDEX idx_event_outbox_pending;
+CREATE INDEX idx_event_outbox_pending ON event_outbox (id) WHERE published_at IS NULL AND parked_at IS NULL;
+-- finds earlier pending events of the same key, see OutboxRepository.claimBatch
+CREATE INDEX idx_event_outbox_pending_key ON event_outbox (event_key, id) WHERE published_at IS NULL AND parked_at IS NULL;
+
+-- held by the one relay instance that drains the outbox
+CREATE TABLE event_outbox_lease (
+    name VARCHAR(64) PRIMARY KEY,
+    owner VARCHAR(64) NOT NULL,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
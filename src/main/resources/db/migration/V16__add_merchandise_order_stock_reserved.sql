@@ -0,0 +1,16 @@
+-- whether an order holds a reserved unit of stock; orders placed before their size was stocked do not
+ALTER TABLE merchandise_orders ADD COLUMN stock_reserved BOOLEAN NOT NULL DEFAULT false;
+
+-- existing pending orders: a size's reserved units belong to its newest pending orders, since the
+-- older ones may predate the first restock
+UPDATE merchandise_orders
+SET stock_reserved = true
+WHERE id IN (
+    SELECT pending.id
+    FROM (SELECT id, 'T-SHIRT-' || upper(trim(t_shirt_size)) AS sku,
+                 row_number() OVER (PARTITION BY upper(trim(t_shirt_size)) ORDER BY id DESC) AS position
+          FROM merchandise_orders
+          WHERE order_status = 'PENDING' AND t_shirt_size IS NOT NULL) pending
+    JOIN merchandise_inventory inventory ON inventory.sku = pending.sku
+    WHERE pending.position <= inventory.reserved
+);
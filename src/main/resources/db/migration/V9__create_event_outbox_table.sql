@@ -0,0 +1,13 @@
+CREATE TABLE event_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    event_key VARCHAR(255),
+    event_type VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    published_at TIMESTAMP WITH TIME ZONE
+);
+
+-- the relay only ever scans unpublished rows in id order
+CREATE INDEX idx_event_outbox_pending ON event_outbox (id) WHERE published_at IS NULL;
+CREATE INDEX idx_event_outbox_published_at ON event_outbox (published_at) WHERE published_at IS NOT NULL;
@@ -3,4 +3,10 @@
 -- insert into myentity (id, field) values(1, 'field-1');
 -- insert into myentity (id, field) values(2, 'field-2');
 -- insert into myentity (id, field) values(3, 'field-3');
--- alter sequence myentity_seq restart with 4;
\ No newline at end of file
+-- alter sequence myentity_seq restart with 4;
+-- GIN index for session search, see V13__add_cfp_session_search_vector.sql
+CREATE INDEX IF NOT EXISTS idx_cfp_sessions_search_vector ON cfp_sessions USING GIN (search_vector);
+-- unique, case-insensitive speaker emails, see V14__add_cfp_speaker_email_index.sql
+CREATE UNIQUE INDEX IF NOT EXISTS idx_cfp_speakers_email_lower ON cfp_speakers (lower(value));
+-- pending outbox events per key, see V15__add_event_outbox_retries.sql
+CREATE INDEX IF NOT EXISTS idx_event_outbox_pending_key ON event_outbox (event_key, id) WHERE published_at IS NULL AND parked_at IS NULL;
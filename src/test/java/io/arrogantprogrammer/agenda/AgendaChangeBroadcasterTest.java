@@ -0,0 +1,134 @@
+package io.arrogantprogrammer.agenda;
+
+import io.arrogantprogrammer.sessions.SessionChangedEvent;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.subscription.BackPressureFailure;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AgendaChangeBroadcasterTest {
+
+    AgendaChangeBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new AgendaChangeBroadcaster();
+        broadcaster.bufferSize = 16;
+        broadcaster.overflowPolicy = AgendaChangeBroadcaster.OverflowPolicy.DISCONNECT;
+    }
+
+    @Test
+    void testUpdateEmitsMoveAndRoomChange() {
+        AssertSubscriber<AgendaChange> subscriber = broadcaster.subscribe().subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        LocalDateTime start = LocalDateTime.of(2025, 5, 14, 11, 0);
+        broadcaster.onSessionChanged(new SessionChangedEvent(SessionChangedEvent.Kind.UPDATED, 7L, null,
+                start, start.plusHours(1), "Track 2", true, true));
+
+        List<AgendaChange> changes = subscriber.awaitItems(2, Duration.ofSeconds(5)).getItems();
+        assertEquals(AgendaChange.Type.SESSION_MOVED, changes.get(0).type());
+        assertEquals(AgendaChange.Type.ROOM_CHANGED, changes.get(1).type());
+        assertEquals("Track 2", changes.get(1).room());
+        assertEquals(changes.get(0).sequence() + 1, changes.get(1).sequence());
+    }
+
+    @Test
+    void testUpdateWithoutScheduleChangeEmitsNothing() {
+        AssertSubscriber<AgendaChange> subscriber = broadcaster.subscribe().subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        broadcaster.onSessionChanged(new SessionChangedEvent(SessionChangedEvent.Kind.UPDATED, 7L, null,
+                null, null, "Track 1", false, false));
+        broadcaster.onSessionChanged(new SessionChangedEvent(SessionChangedEvent.Kind.SPEAKER_ADDED, 7L, 3L,
+                null, null, "Track 1", false, false));
+
+        AgendaChange change = subscriber.awaitItems(1, Duration.ofSeconds(5)).getItems().get(0);
+        assertEquals(AgendaChange.Type.SPEAKER_ADDED, change.type());
+        assertEquals(3L, change.speakerId());
+    }
+
+    @Test
+    void testChangesFanOutToEverySubscriber() {
+        AssertSubscriber<AgendaChange> first = broadcaster.subscribe().subscribe().withSubscriber(AssertSubscriber.create(10));
+        AssertSubscriber<AgendaChange> second = broadcaster.subscribe().subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        broadcaster.onSessionChanged(new SessionChangedEvent(SessionChangedEvent.Kind.DELETED, 9L, null,
+                null, null, null, false, false));
+
+        assertEquals(AgendaChange.Type.SESSION_REMOVED, first.awaitItems(1, Duration.ofSeconds(5)).getItems().get(0).type());
+        assertEquals(AgendaChange.Type.SESSION_REMOVED, second.awaitItems(1, Duration.ofSeconds(5)).getItems().get(0).type());
+        assertEquals(2, broadcaster.subscriberCount());
+    }
+
+    @Test
+    void testDropPolicyDiscardsEventsASlowSubscriberHasNoRoomFor() {
+        broadcaster.overflowPolicy = AgendaChangeBroadcaster.OverflowPolicy.DROP;
+        AssertSubscriber<AgendaChange> slow = broadcaster.subscribe().subscribe().withSubscriber(AssertSubscriber.create(0));
+
+        int sent = broadcaster.bufferSize * 3;
+        for (int i = 0; i < sent; i++) {
+            removeSession(i);
+        }
+        slow.request(Long.MAX_VALUE);
+
+        List<AgendaChange> buffered = slow.awaitItems(broadcaster.bufferSize, Duration.ofSeconds(5)).getItems();
+        assertEquals(broadcaster.bufferSize, buffered.size());
+        assertEquals(1L, buffered.get(0).sequence());
+        slow.assertNotTerminated();
+
+        // the stream stays open and delivers what comes next; the events in between are gone
+        removeSession(sent);
+        List<AgendaChange> received = slow.awaitItems(broadcaster.bufferSize + 1, Duration.ofSeconds(5)).getItems();
+        assertEquals(sent + 1L, received.get(received.size() - 1).sequence());
+    }
+
+    @Test
+    void testDisconnectPolicyFailsASlowSubscriber() {
+        AssertSubscriber<AgendaChange> slow = broadcaster.subscribe().subscribe().withSubscriber(AssertSubscriber.create(0));
+
+        int sent = broadcaster.bufferSize + 10;
+        for (int i = 0; i < sent; i++) {
+            removeSession(i);
+        }
+        slow.request(Long.MAX_VALUE);
+
+        slow.awaitFailure(Duration.ofSeconds(5)).assertFailedWith(BackPressureFailure.class);
+        assertTrue(slow.getItems().size() < sent, "a disconnected subscriber must not get every event");
+    }
+
+    @Test
+    void testConcurrentCommitsAreEmittedInSequenceOrder() throws InterruptedException {
+        broadcaster.bufferSize = 4096;
+        AssertSubscriber<AgendaChange> subscriber = broadcaster.subscribe().subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+
+        int threads = 4;
+        int perThread = 200;
+        Thread[] committers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            committers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    removeSession(i);
+                }
+            });
+            committers[t].start();
+        }
+        for (Thread committer : committers) {
+            committer.join();
+        }
+
+        List<AgendaChange> changes = subscriber.awaitItems(threads * perThread, Duration.ofSeconds(5)).getItems();
+        for (int i = 0; i < changes.size(); i++) {
+            assertEquals(i + 1L, changes.get(i).sequence());
+        }
+    }
+
+    private void removeSession(long sessionId) {
+        broadcaster.onSessionChanged(new SessionChangedEvent(SessionChangedEvent.Kind.DELETED, sessionId, null,
+                null, null, null, false, false));
+    }
+}
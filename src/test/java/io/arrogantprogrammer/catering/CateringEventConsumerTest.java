@@ -1,5 +1,8 @@
 package io.arrogantprogrammer.catering;
 
+import io.arrogantprogrammer.events.AttendeeRegistered;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
 import io.quarkus.test.common.QuarkusTestResource;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.mockito.InjectMock;
@@ -14,8 +17,11 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -30,6 +36,12 @@ class CateringEventConsumerTest {
     @Connector("smallrye-in-memory")
     InMemoryConnector connector;
 
+    @Inject
+    CateringService dietaryRequirements;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
     @AfterAll
     public static void clearChannels() {
         InMemoryConnector.clear();
@@ -38,11 +50,12 @@ class CateringEventConsumerTest {
     @Test
     void testEventConsumption() {
         // Setup
-        String eventJson = "{\"id\":1,\"name\":\"John Doe\",\"email\":\"john@example.com\"}";
-        InMemorySource<String> source = connector.source("attendee-registrations-catering");
+        AttendeeRegistered event = new AttendeeRegistered(1L, "John Doe", "john@example.com", "Acme Corp",
+                "L", "Vegetarian", "@johndoe");
+        InMemorySource<AttendeeRegistered> source = connector.source("attendee-registrations-catering");
 
         // Send test event
-        source.send(eventJson);
+        source.send(event);
 
         // Verify service was called
         await().atMost(Duration.ofSeconds(5)).until(() -> {
@@ -51,6 +64,27 @@ class CateringEventConsumerTest {
         });
     }
 
+    @Test
+    void testBatchConsumptionPersistsEveryRegistrationAndCountsMalformedRecords() {
+        InMemorySource<List<AttendeeRegistered>> source = connector.source("attendee-registrations-catering-batch");
+
+        // a null entry is what the deserializer leaves behind for a malformed record
+        source.send(Arrays.asList(
+                new AttendeeRegistered(601L, "Ann", "ann@example.com", null, "S", "Vegan", null),
+                null,
+                new AttendeeRegistered(602L, "Ben", "ben@example.com", null, "M", null, null)));
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            List<DietaryRequirement> stored = QuarkusTransaction.requiringNew().call(() ->
+                    dietaryRequirements.find("attendeeId in ?1 ORDER BY attendeeId", List.of(601L, 602L)).list());
+            assertEquals(2, stored.size());
+            assertEquals("Vegan", stored.get(0).getPreference());
+            assertEquals("Standard", stored.get(1).getPreference());
+            assertEquals(1.0, meterRegistry.get("attendee.consumer.batch.malformed")
+                    .tag("consumer", "catering").counter().count());
+        });
+    }
+
 //    @Test
 //    void testErrorHandling() {
 //        // Setup
@@ -0,0 +1,84 @@
+package io.arrogantprogrammer.catering;
+
+import io.arrogantprogrammer.events.AttendeeRegistered;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class CateringHeadcountTest {
+
+    @Inject
+    CateringService cateringService;
+
+    @Inject
+    CateringHeadcount headcount;
+
+    @Test
+    void testCountsCommittedRequirementsOnly() {
+        Map<String, Long> before = headcount.summary();
+
+        cateringService.createDietaryRequirement(7001L, "Pescatarian", null);
+        cateringService.createDietaryRequirements(List.of(
+                new AttendeeRegistered(7002L, "Ann", "ann@example.com", null, "S", "Pescatarian", null),
+                new AttendeeRegistered(7003L, "Ben", "ben@example.com", null, "M", null, null)));
+        QuarkusTransaction.requiringNew().run(() -> {
+            cateringService.createDietaryRequirement(7004L, "Pescatarian", null);
+            QuarkusTransaction.setRollbackOnly();
+        });
+
+        Map<String, Long> after = headcount.summary();
+        assertEquals(2, delta(before, after, "Pescatarian"));
+        assertEquals(1, delta(before, after, "Standard"));
+    }
+
+    @Test
+    void testConcurrentConsumersDoNotLoseCounts() throws Exception {
+        Map<String, Long> before = headcount.summary();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                long firstAttendee = 8000L + thread * 100;
+                futures.add(executor.submit(() -> {
+                    for (long attendee = firstAttendee; attendee < firstAttendee + 25; attendee++) {
+                        cateringService.createDietaryRequirement(attendee, "Halal", null);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(200, delta(before, headcount.summary(), "Halal"));
+    }
+
+    @Test
+    void testRebuildMatchesTheTable() {
+        cateringService.createDietaryRequirement(7100L, "Kosher", null);
+        Map<String, Long> counted = headcount.summary();
+
+        headcount.rebuild(null);
+
+        assertEquals(counted, headcount.summary());
+        long kosher = QuarkusTransaction.requiringNew().call(() -> cateringService.count("preference", "Kosher"));
+        assertEquals(kosher, headcount.summary().get("Kosher"));
+    }
+
+    private static long delta(Map<String, Long> before, Map<String, Long> after, String preference) {
+        return after.getOrDefault(preference, 0L) - before.getOrDefault(preference, 0L);
+    }
+}
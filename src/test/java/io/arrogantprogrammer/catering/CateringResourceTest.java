@@ -1,5 +1,6 @@
 package io.arrogantprogrammer.catering;
 
+import io.arrogantprogrammer.sharedkernel.pagination.CursorPage;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.mockito.InjectMock;
 import jakarta.ws.rs.core.Response;
@@ -9,9 +10,11 @@ import org.mockito.Mockito;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 @QuarkusTest
@@ -27,7 +30,7 @@ class CateringResourceTest {
             createDietaryRequirement(1L, "Vegetarian", "No nuts"),
             createDietaryRequirement(2L, "Vegan", null)
         );
-        when(cateringService.getAllDietaryRequirements()).thenReturn(requirements);
+        when(cateringService.getDietaryRequirements(any())).thenReturn(new CursorPage<>(requirements, null));
 
         // Test
         given()
@@ -73,6 +76,18 @@ class CateringResourceTest {
             .statusCode(404);
     }
 
+    @Test
+    void testGetSummary() {
+        when(cateringService.getSummary()).thenReturn(Map.of("Standard", 120L, "Vegan", 14L));
+
+        given()
+            .when().get("/api/catering/summary")
+            .then()
+            .statusCode(200)
+            .body("Standard", is(120))
+            .body("Vegan", is(14));
+    }
+
     private DietaryRequirement createDietaryRequirement(Long attendeeId, String preference, String specialRequests) {
         DietaryRequirement requirement = new DietaryRequirement();
         requirement.setAttendeeId(attendeeId);
@@ -13,6 +13,8 @@ public class KafkaTestResourceLifecycleManager  implements QuarkusTestResourceLi
         Map<String, String> env = new HashMap<>();
         Map<String, String> props1 = InMemoryConnector.switchIncomingChannelsToInMemory("attendee-registrations-catering");
         env.putAll(props1);
+        env.putAll(InMemoryConnector.switchIncomingChannelsToInMemory("attendee-registrations-catering-batch"));
+        env.put("mp.messaging.incoming.attendee-registrations-catering-batch.enabled", "true");
         return env;
     }
 
@@ -0,0 +1,111 @@
+package io.arrogantprogrammer.cfp;
+
+import io.arrogantprogrammer.cfp.domain.aggregates.ConferenceSession;
+import io.arrogantprogrammer.cfp.infrastructure.persistence.ConferenceSessionEntity;
+import io.arrogantprogrammer.cfp.infrastructure.persistence.SpeakerRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.response.Response;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class CfpImportTest {
+
+    @Inject
+    SpeakerRepository speakerRepository;
+
+    @Inject
+    EntityManager entityManager;
+
+    @Test
+    void testSpeakersAreImportedAndInvalidRowsReported() {
+        String email = "import." + System.nanoTime() + "@example.com";
+        String csv = "firstName,lastName,email,bio,company,title,photoUrl\n"
+                + "Ada,Import,\"" + email + "\",\"Writes compilers, mostly\",Acme Corp,Engineer,\n"
+                + "Bad,Email,not-an-email,,,,\n"
+                + "Ada,Again," + email.toUpperCase() + ",,,,\n"
+                + ",Nameless,nameless." + System.nanoTime() + "@example.com,,,,\n";
+
+        Response report = importFile("speakers", "text/csv", csv);
+
+        assertEquals(4, report.jsonPath().getLong("rows"));
+        assertEquals(1, report.jsonPath().getLong("imported"));
+        assertEquals(3, report.jsonPath().getLong("rejected"));
+        assertEquals(List.of(2, 3, 4), report.jsonPath().getList("errors.row", Integer.class));
+        assertEquals("Email appears on an earlier row", report.jsonPath().getString("errors[1].message"));
+        QuarkusTransaction.requiringNew().run(() ->
+                assertEquals("Writes compilers, mostly", speakerRepository.findByEmail(email).orElseThrow().getBio()));
+
+        Response again = importFile("speakers", "text/csv",
+                "firstName,lastName,email\nAda,Import," + email + "\n");
+        assertEquals(0, again.jsonPath().getLong("imported"));
+        assertEquals("A speaker with this email is already registered", again.jsonPath().getString("errors[0].message"));
+    }
+
+    @Test
+    void testSessionsAreLinkedToTheirSpeakers() {
+        String first = "session.import.a." + System.nanoTime() + "@example.com";
+        String second = "session.import.b." + System.nanoTime() + "@example.com";
+        importFile("speakers", "application/x-ndjson",
+                "{\"firstName\": \"Grace\", \"lastName\": \"Import\", \"email\": \"" + first + "\"}\n"
+                        + "{\"firstName\": \"Alan\", \"lastName\": \"Import\", \"email\": \"" + second + "\"}\n");
+        String title = "Imported session " + System.nanoTime();
+        String ndjson = session(title, "TALK", "45", "[\"" + first.toUpperCase() + "\", \"" + second + "\"]") + "\n"
+                + session("Unknown speaker", "TALK", "45", "[\"nobody." + System.nanoTime() + "@example.com\"]") + "\n"
+                + session("Bad type", "SERMON", "45", "[]") + "\n"
+                + session("Bad duration", "TALK", "forever", "[]") + "\n";
+
+        Response report = importFile("sessions", "application/x-ndjson", ndjson);
+
+        assertEquals(4, report.jsonPath().getLong("rows"));
+        assertEquals(1, report.jsonPath().getLong("imported"));
+        assertEquals(List.of(2, 3, 4), report.jsonPath().getList("errors.row", Integer.class));
+        QuarkusTransaction.requiringNew().run(() -> {
+            ConferenceSessionEntity session = entityManager.createQuery(
+                            "SELECT s FROM ConferenceSessionEntity s LEFT JOIN FETCH s.speakers WHERE s.sessionAbstract.title = :title",
+                            ConferenceSessionEntity.class)
+                    .setParameter("title", title)
+                    .getSingleResult();
+            assertEquals(ConferenceSession.SessionStatus.SUBMITTED, session.getStatus());
+            assertEquals(ConferenceSession.SessionLevel.BEGINNER, session.getSessionLevel());
+            assertEquals(Duration.ofMinutes(45), session.getDuration());
+            assertEquals(2, session.getSpeakers().size());
+        });
+    }
+
+    @Test
+    void testUnknownFormatIsABadRequest() {
+        given()
+                .contentType("text/plain")
+                .queryParam("format", "xml")
+                .body("")
+                .when().post("/api/cfp/import/speakers")
+                .then()
+                .statusCode(400);
+    }
+
+    private static String session(String title, String type, String minutes, String speakerEmails) {
+        return "{\"title\": \"" + title + "\", \"summary\": \"A summary\", \"outline\": \"An outline\", "
+                + "\"learningObjectives\": \"Objectives\", \"targetAudience\": \"Developers\", "
+                + "\"sessionType\": \"" + type + "\", \"sessionLevel\": \"beginner\", "
+                + "\"durationMinutes\": \"" + minutes + "\", \"speakerEmails\": " + speakerEmails + "}";
+    }
+
+    private static Response importFile(String what, String contentType, String body) {
+        return given()
+                .contentType(contentType)
+                .body(body)
+                .when().post("/api/cfp/import/" + what)
+                .then()
+                .statusCode(200)
+                .extract().response();
+    }
+}
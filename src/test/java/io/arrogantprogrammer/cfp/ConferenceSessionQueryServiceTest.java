@@ -0,0 +1,106 @@
+package io.arrogantprogrammer.cfp;
+
+import io.arrogantprogrammer.cfp.api.dto.ConferenceSessionDTO;
+import io.arrogantprogrammer.cfp.application.ConferenceSessionQueryService;
+import io.arrogantprogrammer.cfp.domain.aggregates.ConferenceSession;
+import io.arrogantprogrammer.cfp.domain.valueobjects.SessionAbstract;
+import io.arrogantprogrammer.cfp.infrastructure.persistence.ConferenceSessionRepository;
+import io.arrogantprogrammer.cfp.infrastructure.persistence.JpaSpeakerRepository;
+import io.arrogantprogrammer.cfp.infrastructure.persistence.SpeakerEntity;
+import io.arrogantprogrammer.domain.valueobjects.Email;
+import io.arrogantprogrammer.domain.valueobjects.Name;
+import io.arrogantprogrammer.sharedkernel.pagination.CursorPage;
+import io.arrogantprogrammer.sharedkernel.pagination.PageRequest;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class ConferenceSessionQueryServiceTest {
+
+    @Inject
+    ConferenceSessionQueryService queryService;
+
+    @Inject
+    ConferenceSessionRepository conferenceSessionRepository;
+
+    @Inject
+    JpaSpeakerRepository speakerRepository;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    Long speakerId;
+
+    @BeforeEach
+    void setUp() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            conferenceSessionRepository.deleteAll();
+            SpeakerEntity speaker = new SpeakerEntity(new Name("Query", "Speaker"),
+                    new Email("query.speaker." + System.nanoTime() + "@example.com"),
+                    "Bio", "Acme Corp", "Engineer", null);
+            speakerRepository.persist(speaker);
+            speakerId = speaker.getId();
+            for (int i = 0; i < 25; i++) {
+                ConferenceSession session = new ConferenceSession(
+                        new SessionAbstract("Session " + (char) ('A' + i), "Summary", "Outline",
+                                "Objectives", "Developers", "None"),
+                        ConferenceSession.SessionType.TALK, ConferenceSession.SessionLevel.BEGINNER,
+                        Duration.ofMinutes(45));
+                if (i % 5 == 0) {
+                    session.addSpeaker(speakerRepository.findById(speakerId).orElseThrow());
+                }
+                conferenceSessionRepository.save(session);
+            }
+        });
+    }
+
+    @Test
+    void testPageCostsTwoQueriesAndReportsNextPage() {
+        Statistics statistics = sessionFactory.getStatistics();
+        CursorPage<ConferenceSessionDTO> page = QuarkusTransaction.requiringNew().call(() -> {
+            statistics.clear();
+            return queryService.findAll(PageRequest.first(10));
+        });
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount(), "listing must not load entities");
+        assertEquals(10, page.items().size());
+        assertTrue(page.hasNext());
+        assertEquals(1, page.items().get(0).speakers().size());
+        assertEquals("Query", page.items().get(0).speakers().get(0).name().getFirstName());
+
+        List<ConferenceSessionDTO> all = new ArrayList<>(page.items());
+        while (page.hasNext()) {
+            PageRequest next = new PageRequest(page.next(), 10, PageRequest.Order.OLDEST_FIRST);
+            page = QuarkusTransaction.requiringNew().call(() -> queryService.findAll(next));
+            all.addAll(page.items());
+        }
+        assertEquals(25, all.size());
+        assertEquals(25, all.stream().map(ConferenceSessionDTO::id).distinct().count());
+        assertEquals("Session Y", all.get(24).title());
+    }
+
+    @Test
+    void testFilters() {
+        CursorPage<ConferenceSessionDTO> bySpeaker = QuarkusTransaction.requiringNew().call(() ->
+                queryService.findBySpeaker(speakerId, PageRequest.first(20)));
+        assertEquals(5, bySpeaker.items().size());
+        assertFalse(bySpeaker.hasNext());
+
+        CursorPage<ConferenceSessionDTO> submitted = QuarkusTransaction.requiringNew().call(() ->
+                queryService.findByStatus(ConferenceSession.SessionStatus.SUBMITTED, PageRequest.first(50)));
+        assertEquals(25, submitted.items().size());
+        assertEquals("SUBMITTED", submitted.items().get(0).status());
+    }
+}
@@ -0,0 +1,115 @@
+package io.arrogantprogrammer.cfp;
+
+import io.arrogantprogrammer.cfp.domain.aggregates.ConferenceSession;
+import io.arrogantprogrammer.cfp.domain.aggregates.Speaker;
+import io.arrogantprogrammer.cfp.domain.valueobjects.SessionAbstract;
+import io.arrogantprogrammer.cfp.infrastructure.persistence.ConferenceSessionRepository;
+import io.arrogantprogrammer.cfp.infrastructure.persistence.JpaSpeakerRepository;
+import io.arrogantprogrammer.cfp.infrastructure.persistence.SpeakerEntity;
+import io.arrogantprogrammer.domain.valueobjects.Email;
+import io.arrogantprogrammer.domain.valueobjects.Name;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class ConferenceSessionRepositoryTest {
+
+    @Inject
+    ConferenceSessionRepository conferenceSessionRepository;
+
+    @Inject
+    JpaSpeakerRepository speakerRepository;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Test
+    void testSavingAPanelCostsTheSameStatementsForAnyNumberOfSpeakers() {
+        List<Long> speakerIds = createSpeakers(10);
+
+        long soloStatements = countStatementsForSaving(speakerIds.subList(0, 1));
+        Statistics statistics = sessionFactory.getStatistics();
+        long panelStatements = countStatementsForSaving(speakerIds);
+
+        assertEquals(0, statistics.getEntityLoadCount(), "speakers were loaded to be attached");
+        assertEquals(soloStatements, panelStatements);
+    }
+
+    @Test
+    void testSpeakersAreMappedOncePerUnitOfWork() {
+        List<Long> speakerIds = createSpeakers(2);
+        QuarkusTransaction.requiringNew().run(() -> {
+            conferenceSessionRepository.save(panel("First", speakers(speakerIds)));
+            conferenceSessionRepository.save(panel("Second", speakers(speakerIds)));
+        });
+
+        QuarkusTransaction.requiringNew().run(() -> {
+            List<ConferenceSession> sessions = conferenceSessionRepository.findBySpeakerId(speakerIds.get(0));
+            assertEquals(2, sessions.size());
+            assertSame(sessions.get(0).getSpeakers().get(0), sessions.get(1).getSpeakers().get(0));
+            assertSame(speakerRepository.findById(speakerIds.get(0)).orElseThrow(), sessions.get(0).getSpeakers().get(0));
+        });
+    }
+
+    @Test
+    void testSavedSpeakerInstancesReplaceThoseMappedEarlier() {
+        List<Long> speakerIds = createSpeakers(1);
+        List<Speaker> changed = QuarkusTransaction.requiringNew().call(() -> speakers(speakerIds));
+
+        QuarkusTransaction.requiringNew().run(() -> {
+            Speaker mappedEarlier = speakerRepository.findById(speakerIds.get(0)).orElseThrow();
+            assertNotSame(changed.get(0), mappedEarlier);
+
+            ConferenceSession saved = conferenceSessionRepository.save(panel("Replaced", changed));
+
+            assertSame(changed.get(0), saved.getSpeakers().get(0));
+            assertSame(changed.get(0), speakerRepository.findById(speakerIds.get(0)).orElseThrow());
+        });
+    }
+
+    private long countStatementsForSaving(List<Long> speakerIds) {
+        return QuarkusTransaction.requiringNew().call(() -> {
+            ConferenceSession panel = panel("Panel of " + speakerIds.size(), speakers(speakerIds));
+            Statistics statistics = sessionFactory.getStatistics();
+            statistics.clear();
+            conferenceSessionRepository.save(panel);
+            conferenceSessionRepository.flush();
+            return statistics.getPrepareStatementCount();
+        });
+    }
+
+    private List<Speaker> speakers(List<Long> speakerIds) {
+        return speakerIds.stream().map(id -> speakerRepository.findById(id).orElseThrow()).toList();
+    }
+
+    private ConferenceSession panel(String title, List<Speaker> speakers) {
+        ConferenceSession session = new ConferenceSession(
+                new SessionAbstract(title, "Speakers debate batching.", "Opening; debate; questions",
+                        "Know when to batch", "Backend developers", "None"),
+                ConferenceSession.SessionType.PANEL, ConferenceSession.SessionLevel.INTERMEDIATE, Duration.ofMinutes(45));
+        speakers.forEach(session::addSpeaker);
+        return session;
+    }
+
+    private List<Long> createSpeakers(int count) {
+        return QuarkusTransaction.requiringNew().call(() -> IntStream.range(0, count)
+                .mapToObj(i -> {
+                    SpeakerEntity speaker = new SpeakerEntity(new Name("Panel", "Speaker" + i),
+                            new Email("panel.speaker" + i + "." + System.nanoTime() + "@example.com"),
+                            "Bio", "Acme Corp", "Engineer", null);
+                    speakerRepository.persist(speaker);
+                    return speaker.getId();
+                })
+                .toList());
+    }
+}
@@ -0,0 +1,123 @@
+package io.arrogantprogrammer.cfp;
+
+import io.arrogantprogrammer.cfp.api.dto.SessionSearchHit;
+import io.arrogantprogrammer.cfp.api.dto.SessionSearchResult;
+import io.arrogantprogrammer.cfp.application.ConferenceSessionSearchService;
+import io.arrogantprogrammer.cfp.domain.aggregates.ConferenceSession;
+import io.arrogantprogrammer.cfp.domain.valueobjects.SessionAbstract;
+import io.arrogantprogrammer.cfp.infrastructure.persistence.ConferenceSessionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class ConferenceSessionSearchTest {
+
+    @Inject
+    ConferenceSessionSearchService searchService;
+
+    @Inject
+    ConferenceSessionRepository conferenceSessionRepository;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            conferenceSessionRepository.deleteAll();
+            save("Reactive Streams in Practice", "Backpressure explained with Mutiny",
+                    ConferenceSession.SessionType.TALK, ConferenceSession.SessionLevel.ADVANCED, false);
+            save("Kubernetes for Java Developers", "Deploying reactive services to a cluster",
+                    ConferenceSession.SessionType.WORKSHOP, ConferenceSession.SessionLevel.BEGINNER, true);
+            save("Testing Legacy Code", "Characterization tests for monoliths",
+                    ConferenceSession.SessionType.TALK, ConferenceSession.SessionLevel.INTERMEDIATE, false);
+        });
+    }
+
+    @Test
+    void testTitleMatchesRankFirstAndAreHighlighted() {
+        SessionSearchResult result = QuarkusTransaction.requiringNew().call(() ->
+                searchService.search("reactive", null, null, null, 10, 0));
+
+        assertEquals(2, result.total());
+        assertEquals(2, result.hits().size());
+        SessionSearchHit best = result.hits().get(0);
+        assertEquals("Reactive Streams in Practice", best.title());
+        assertEquals("<mark>Reactive</mark> Streams in Practice", best.titleHighlight());
+        assertTrue(result.hits().get(1).abstractHighlight().contains("<mark>reactive</mark>"),
+                result.hits().get(1).abstractHighlight());
+        assertTrue(best.rank() > result.hits().get(1).rank());
+    }
+
+    @Test
+    void testFacetsCountAllMatches() {
+        SessionSearchResult result = QuarkusTransaction.requiringNew().call(() ->
+                searchService.search("reactive", null, null, null, 1, 0));
+
+        assertEquals(1, result.hits().size());
+        assertEquals(Map.of("TALK", 1L, "WORKSHOP", 1L), result.facets().get("sessionType"));
+        assertEquals(Map.of("ADVANCED", 1L, "BEGINNER", 1L), result.facets().get("sessionLevel"));
+        assertEquals(Map.of("SUBMITTED", 1L, "ACCEPTED", 1L), result.facets().get("status"));
+    }
+
+    @Test
+    void testFiltersStemmingAndExclusions() {
+        SessionSearchResult workshops = QuarkusTransaction.requiringNew().call(() ->
+                searchService.search("reactive", ConferenceSession.SessionType.WORKSHOP, null, null, 10, 0));
+        assertEquals(1, workshops.total());
+        assertEquals("Kubernetes for Java Developers", workshops.hits().get(0).title());
+
+        SessionSearchResult stemmed = QuarkusTransaction.requiringNew().call(() ->
+                searchService.search("test", null, null, null, 10, 0));
+        assertEquals("Testing Legacy Code", stemmed.hits().get(0).title());
+
+        SessionSearchResult excluded = QuarkusTransaction.requiringNew().call(() ->
+                searchService.search("reactive -kubernetes", null, null, null, 10, 0));
+        assertEquals(1, excluded.total());
+
+        SessionSearchResult none = QuarkusTransaction.requiringNew().call(() ->
+                searchService.search("blockchain", null, null, null, 10, 0));
+        assertEquals(0, none.total());
+        assertTrue(none.hits().isEmpty());
+    }
+
+    @Test
+    void testSearchEndpoint() {
+        given().queryParam("q", "cluster").queryParam("sessionLevel", "beginner")
+                .when().get("/api/cfp/sessions/search")
+                .then()
+                .statusCode(200)
+                .body("total", equalTo(1))
+                .body("hits[0].title", equalTo("Kubernetes for Java Developers"));
+
+        given().when().get("/api/cfp/sessions/search").then().statusCode(400);
+        given().queryParam("q", "cluster").queryParam("status", "LOST")
+                .when().get("/api/cfp/sessions/search").then().statusCode(400);
+        given().queryParam("q", "cluster").queryParam("limit", 1000)
+                .when().get("/api/cfp/sessions/search").then().statusCode(400);
+
+        assertTrue(meterRegistry.get("cfp.session.search.latency").timer().count() > 0);
+    }
+
+    private void save(String title, String summary, ConferenceSession.SessionType type,
+                      ConferenceSession.SessionLevel level, boolean accepted) {
+        ConferenceSession session = new ConferenceSession(
+                new SessionAbstract(title, summary, "Outline", "Objectives", "Developers", "None"),
+                type, level, Duration.ofMinutes(45));
+        if (accepted) {
+            session.accept();
+        }
+        conferenceSessionRepository.save(session);
+    }
+}
@@ -0,0 +1,54 @@
+package io.arrogantprogrammer.cfp;
+
+import io.arrogantprogrammer.cfp.infrastructure.persistence.SpeakerEntity;
+import io.arrogantprogrammer.cfp.infrastructure.persistence.SpeakerRepository;
+import io.arrogantprogrammer.domain.valueobjects.Email;
+import io.arrogantprogrammer.domain.valueobjects.Name;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class SpeakerEmailLookupTest {
+
+    @Inject
+    SpeakerRepository speakerRepository;
+
+    String address;
+
+    @BeforeEach
+    void setUp() {
+        address = "Lookup.Speaker." + System.nanoTime() + "@Example.com";
+        QuarkusTransaction.requiringNew().run(() -> speakerRepository.persist(speaker(address)));
+    }
+
+    @Test
+    void testLookupsIgnoreCase() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            assertTrue(speakerRepository.findByEmail(address.toLowerCase()).isPresent());
+            assertTrue(speakerRepository.existsByEmail(new Email(address.toUpperCase())));
+            assertFalse(speakerRepository.existsByEmail(new Email("nobody." + System.nanoTime() + "@example.com")));
+
+            Set<String> registered = speakerRepository.findRegisteredEmails(List.of(
+                    new Email(address.toUpperCase()), new Email("nobody@example.com")));
+            assertEquals(Set.of(address.toLowerCase()), registered);
+        });
+    }
+
+    @Test
+    void testEmailsAreUniqueIgnoringCase() {
+        assertThrows(Exception.class, () -> QuarkusTransaction.requiringNew().run(() ->
+                speakerRepository.persist(speaker(address.toLowerCase()))));
+    }
+
+    private static SpeakerEntity speaker(String email) {
+        return new SpeakerEntity(new Name("Lookup", "Speaker"), new Email(email), "Bio", "Acme Corp", "Engineer", null);
+    }
+}
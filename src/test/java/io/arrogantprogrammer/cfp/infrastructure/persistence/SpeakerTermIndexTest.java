@@ -0,0 +1,83 @@
+package io.arrogantprogrammer.cfp.infrastructure.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpeakerTermIndexTest {
+
+    SpeakerTermIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SpeakerTermIndex();
+        index.put(1L, "Jane", "Doe", "Acme Corp", "Engineer");
+        index.put(2L, "John", "Smith", "Doe Industries", "CTO");
+        index.put(3L, "José", "Müller", "Red Hat", "Principal Engineer");
+        index.put(4L, "Janet", "Jackson", null, null);
+    }
+
+    @Test
+    void testExactMatchesRankAbovePrefixes() {
+        assertArrayEquals(new long[]{1L, 4L}, index.search("jane", 10));
+        assertArrayEquals(new long[]{1L, 4L}, index.search("JAN", 10));
+    }
+
+    @Test
+    void testNameMatchesRankAboveCompanyMatches() {
+        assertArrayEquals(new long[]{1L, 2L}, index.search("doe", 10));
+    }
+
+    @Test
+    void testEveryWordHasToMatch() {
+        assertArrayEquals(new long[]{1L}, index.search("acme jane", 10));
+        assertArrayEquals(new long[]{3L}, index.search("principal engineer", 10));
+        assertArrayEquals(new long[0], index.search("jane xyz", 10));
+        assertArrayEquals(new long[0], index.search("  ", 10));
+        assertArrayEquals(new long[0], index.search(null, 10));
+    }
+
+    @Test
+    void testAccentsAreIgnored() {
+        assertArrayEquals(new long[]{3L}, index.search("jose muller", 10));
+        assertArrayEquals(new long[]{3L}, index.search("Müll", 10));
+    }
+
+    @Test
+    void testTyposAreTolerated() {
+        assertArrayEquals(new long[]{3L}, index.search("muler", 10));
+        assertArrayEquals(new long[]{2L}, index.search("smtih", 10));
+        assertArrayEquals(new long[]{1L, 3L}, index.search("enginer", 10));
+        // too short to guess at
+        assertArrayEquals(new long[0], index.search("jpe", 10));
+    }
+
+    @Test
+    void testLimit() {
+        assertArrayEquals(new long[]{1L}, index.search("ja", 1));
+    }
+
+    @Test
+    void testPutReplacesAndRemoveForgets() {
+        index.put(4L, "Bob", "Jackson", null, null);
+        assertArrayEquals(new long[]{1L}, index.search("jan", 10));
+
+        assertTrue(index.remove(1L));
+        assertFalse(index.remove(1L));
+        assertArrayEquals(new long[0], index.search("jane", 10));
+        assertArrayEquals(new long[]{2L}, index.search("doe", 10));
+
+        index.put(5L, "Jane", "Roe", null, null);
+        assertArrayEquals(new long[]{5L}, index.search("jane", 10));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void testDistance() {
+        assertEquals(0, SpeakerTermIndex.distance("smith", "smith", 1));
+        assertEquals(1, SpeakerTermIndex.distance("smith", "smtih", 1));
+        assertEquals(1, SpeakerTermIndex.distance("muller", "muler", 1));
+        assertEquals(2, SpeakerTermIndex.distance("jackson", "jones", 1));
+    }
+}
@@ -0,0 +1,54 @@
+package io.arrogantprogrammer.domain.valueobjects;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailTest {
+
+    @Test
+    void testEqualityIgnoresCase() {
+        Email email = new Email("Jane.Doe@Example.COM");
+
+        assertEquals("Jane.Doe@Example.COM", email.getValue());
+        assertEquals("jane.doe@example.com", email.getCanonicalValue());
+        assertEquals(new Email("jane.doe@example.com"), email);
+        assertEquals(new Email("jane.doe@example.com").hashCode(), email.hashCode());
+        assertNotEquals(new Email("john.doe@example.com"), email);
+
+        Set<Email> emails = new HashSet<>();
+        emails.add(email);
+        assertFalse(emails.add(new Email("JANE.DOE@EXAMPLE.COM")));
+    }
+
+    @Test
+    void testCanonicalValueIsComputedOnceForLoadedEmails() throws ReflectiveOperationException {
+        // JPA creates embeddables with the no-arg constructor and sets the value field directly
+        Email loaded = new Email();
+        Field value = Email.class.getDeclaredField("value");
+        value.setAccessible(true);
+        value.set(loaded, "Mixed.Case@Example.com");
+
+        String canonical = loaded.getCanonicalValue();
+        assertEquals("mixed.case@example.com", canonical);
+        assertSame(canonical, loaded.getCanonicalValue());
+        assertEquals(new Email("mixed.case@example.com"), loaded);
+    }
+
+    @Test
+    void testCanonicalizeIgnoresDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            // a Turkish default locale would lower-case I to a dotless i
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            assertEquals("info@example.com", Email.canonicalize("INFO@EXAMPLE.COM"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.arrogantprogrammer.domain.valueobjects;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailValidatorTest {
+
+    private static final Pattern REFERENCE = Pattern.compile(EmailValidator.REFERENCE_PATTERN);
+
+    // weighted towards the characters that decide the outcome; the non-ASCII ones are letters to
+    // Character.isLetter, and the Kelvin sign even lower-cases to k
+    private static final String ALPHABET = "abcxyzABCXYZ0189" + "..........@@@@" + "-_+&*" + " \n\t!#%/\u00e9\u00e5\u0130\u212A";
+
+    private static final String[] VALID = {
+            "jane.attendee+conference@mail.example.com",
+            "a@b.co",
+            "first_last&*-@sub-domain.example.museum",
+            "UPPER.Case@EXAMPLE.ORG",
+            "x1@1-2.3.io"
+    };
+
+    @Test
+    void testKnownAddresses() {
+        for (String email : VALID) {
+            assertTrue(EmailValidator.isValid(email), email);
+        }
+        String[] invalid = {"", "@", "a@", "@b.co", "a@b", "a@b.c", "a@b.abcdefgh", "a@b.c0", ".a@b.co", "a.@b.co",
+                "a..b@b.co", "a@.b.co", "a@b..co", "a@b.co.", "a@@b.co", "a@b@c.co", "a b@c.co", "a@b_c.co",
+                "a@b.co\n", "jos\u00e9@b.co", "a@b.\u212Aa", "a@b.co "};
+        for (String email : invalid) {
+            assertFalse(EmailValidator.isValid(email), email);
+        }
+    }
+
+    @Test
+    void testAgreesWithRegexOnRandomStrings() {
+        Random random = new Random(20240229L);
+        char[] buffer = new char[24];
+        for (int n = 0; n < 2_000_000; n++) {
+            int length = random.nextInt(buffer.length + 1);
+            for (int i = 0; i < length; i++) {
+                buffer[i] = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+            }
+            assertParity(new String(buffer, 0, length));
+        }
+    }
+
+    @Test
+    void testAgreesWithRegexOnMutatedAddresses() {
+        Random random = new Random(42L);
+        for (int n = 0; n < 2_000_000; n++) {
+            StringBuilder email = new StringBuilder(VALID[random.nextInt(VALID.length)]);
+            for (int edits = 1 + random.nextInt(3); edits > 0; edits--) {
+                int at = random.nextInt(email.length() + 1);
+                char c = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+                switch (random.nextInt(3)) {
+                    case 0 -> email.insert(at, c);
+                    case 1 -> {
+                        if (at < email.length()) {
+                            email.deleteCharAt(at);
+                        }
+                    }
+                    default -> {
+                        if (at < email.length()) {
+                            email.setCharAt(at, c);
+                        }
+                    }
+                }
+            }
+            assertParity(email.toString());
+        }
+    }
+
+    private static void assertParity(String email) {
+        boolean expected = REFERENCE.matcher(email).matches();
+        if (EmailValidator.isValid(email) != expected) {
+            fail("Validator disagrees with the regex (regex says " + expected + ") for \"" + email + "\"");
+        }
+    }
+}
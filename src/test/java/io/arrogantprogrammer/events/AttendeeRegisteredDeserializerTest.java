@@ -0,0 +1,59 @@
+package io.arrogantprogrammer.events;
+
+import io.smallrye.reactive.messaging.kafka.DeserializationFailureHandler;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AttendeeRegisteredDeserializerTest {
+
+    AttendeeRegisteredDeserializer deserializer = new AttendeeRegisteredDeserializer();
+
+    @Test
+    void testRoundTripThroughSerializer() {
+        AttendeeRegistered event = new AttendeeRegistered(42L, "Jane Doe", "jane@example.com", "Acme Corp",
+                "S", "Vegan", "@janedoe");
+
+        byte[] bytes = new AttendeeRegisteredSerializer().serialize("attendee-registered", event);
+        AttendeeRegistered parsed = deserializer.deserialize("attendee-registered", bytes);
+
+        assertEquals(42L, parsed.getAttendeeId());
+        assertEquals("S", parsed.getTshirtSize());
+        assertEquals("Vegan", parsed.getDietaryPreference());
+        assertEquals(event.getTimestamp(), parsed.getTimestamp());
+    }
+
+    @Test
+    void testUnknownPropertiesAreIgnored() {
+        byte[] bytes = "{\"attendeeId\":7,\"name\":\"Ben\",\"badgeColor\":\"blue\"}".getBytes(StandardCharsets.UTF_8);
+
+        AttendeeRegistered parsed = deserializer.deserialize("attendee-registered", bytes);
+
+        assertEquals(7L, parsed.getAttendeeId());
+        assertNull(parsed.getTshirtSize());
+    }
+
+    @Test
+    void testMalformedRecordThrowsSerializationException() {
+        byte[] bytes = "not json".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(SerializationException.class, () -> deserializer.deserialize("attendee-registered", bytes));
+        assertNull(deserializer.deserialize("attendee-registered", null));
+    }
+
+    @Test
+    void testDeadLetterOfAMalformedRecordKeepsItsOriginalBytes() {
+        byte[] original = "not json".getBytes(StandardCharsets.UTF_8);
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(DeserializationFailureHandler.DESERIALIZATION_FAILURE_DATA, original);
+
+        byte[] deadLetter = new AttendeeRegisteredSerializer().serialize("attendee-registered-dlq", headers, null);
+
+        assertArrayEquals(original, deadLetter);
+        assertNull(headers.lastHeader(DeserializationFailureHandler.DESERIALIZATION_FAILURE_DATA));
+    }
+}
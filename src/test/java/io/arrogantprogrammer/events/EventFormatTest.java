@@ -0,0 +1,86 @@
+package io.arrogantprogrammer.events;
+
+import io.arrogantprogrammer.cfp.domain.aggregates.ConferenceSession;
+import io.arrogantprogrammer.cfp.domain.events.AbstractSubmittedEvent;
+import io.arrogantprogrammer.cfp.domain.events.SessionSubmittedEvent;
+import io.arrogantprogrammer.domain.valueobjects.Email;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventFormatTest {
+
+    @Test
+    void testBinaryRoundTripIsSmallerThanJson() {
+        AttendeeRegistered event = new AttendeeRegistered(42L, "Zoë Ångström", "zoe@example.com", "Acme Corp",
+                "XL", "Vegan 🌱", "@zoe");
+
+        byte[] binary = BinaryEventFormat.INSTANCE.encode(event);
+        AttendeeRegistered decoded = BinaryEventFormat.INSTANCE.decode(binary, AttendeeRegistered.class);
+
+        assertEquals(42L, decoded.getAttendeeId());
+        assertEquals("Zoë Ångström", decoded.getName());
+        assertEquals("Vegan 🌱", decoded.getDietaryPreference());
+        assertEquals(event.getTimestamp(), decoded.getTimestamp());
+        assertTrue(binary.length < JsonEventFormat.INSTANCE.encode(event).length / 2);
+    }
+
+    @Test
+    void testBinaryPreservesNulls() {
+        AttendeeRegistered event = new AttendeeRegistered();
+
+        AttendeeRegistered decoded = BinaryEventFormat.INSTANCE.decode(BinaryEventFormat.INSTANCE.encode(event), AttendeeRegistered.class);
+
+        assertNull(decoded.getAttendeeId());
+        assertNull(decoded.getName());
+        assertNull(decoded.getTimestamp());
+    }
+
+    @Test
+    void testBinaryRoundTripOfCfpEvents() {
+        SessionSubmittedEvent submitted = new SessionSubmittedEvent("Fast Kafka",
+                ConferenceSession.SessionType.WORKSHOP, ConferenceSession.SessionLevel.ADVANCED, 120);
+        AbstractSubmittedEvent abstractSubmitted = new AbstractSubmittedEvent(new Email("speaker@example.com"), "Fast Kafka");
+
+        SessionSubmittedEvent decoded = BinaryEventFormat.INSTANCE.decode(
+                BinaryEventFormat.INSTANCE.encode(submitted), SessionSubmittedEvent.class);
+        AbstractSubmittedEvent decodedAbstract = BinaryEventFormat.INSTANCE.decode(
+                BinaryEventFormat.INSTANCE.encode(abstractSubmitted), AbstractSubmittedEvent.class);
+
+        assertEquals(ConferenceSession.SessionType.WORKSHOP, decoded.getSessionType());
+        assertEquals(ConferenceSession.SessionLevel.ADVANCED, decoded.getSessionLevel());
+        assertEquals(120, decoded.getDurationMinutes());
+        assertEquals(submitted.getTimestamp(), decoded.getTimestamp());
+        assertEquals(abstractSubmitted.getEmail(), decodedAbstract.getEmail());
+    }
+
+    @Test
+    void testTruncatedBinaryIsRejected() {
+        byte[] binary = BinaryEventFormat.INSTANCE.encode(new AttendeeRegistered(1L, "Ann", "ann@example.com", null, "S", null, null));
+
+        assertThrows(IllegalArgumentException.class, () ->
+                BinaryEventFormat.INSTANCE.decode(Arrays.copyOf(binary, binary.length - 3), AttendeeRegistered.class));
+    }
+
+    @Test
+    void testDeserializerFollowsFormatHeaders() {
+        AttendeeRegistered event = new AttendeeRegistered(7L, "Ben", "ben@example.com", null, "M", "Halal", null);
+        AttendeeRegisteredDeserializer deserializer = new AttendeeRegisteredDeserializer();
+
+        Headers binary = EventFormatHeaders.of(BinaryEventFormat.NAME, 1);
+        assertEquals("Halal", deserializer.deserialize("attendee-registered", binary,
+                BinaryEventFormat.INSTANCE.encode(event)).getDietaryPreference());
+
+        Headers json = EventFormatHeaders.of(JsonEventFormat.NAME, 1);
+        assertEquals("Halal", deserializer.deserialize("attendee-registered", json,
+                JsonEventFormat.INSTANCE.encode(event)).getDietaryPreference());
+
+        Headers future = EventFormatHeaders.of(BinaryEventFormat.NAME, 2);
+        assertThrows(SerializationException.class, () -> deserializer.deserialize("attendee-registered", future,
+                BinaryEventFormat.INSTANCE.encode(event)));
+    }
+}
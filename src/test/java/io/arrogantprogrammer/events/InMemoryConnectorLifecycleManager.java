@@ -11,10 +11,8 @@ public class InMemoryConnectorLifecycleManager implements QuarkusTestResourceLif
     @Override
     public Map<String, String> start() {
         Map<String, String> env = new HashMap<>();
-        Map<String, String> props1 = InMemoryConnector.switchIncomingChannelsToInMemory("attendee-registrations-incoming");
-        Map<String, String> props2 = InMemoryConnector.switchOutgoingChannelsToInMemory("attendee-registrations-outgoing");
-        env.putAll(props1);
-        env.putAll(props2);
+        Map<String, String> props = InMemoryConnector.switchOutgoingChannelsToInMemory("attendee-registrations-outgoing");
+        env.putAll(props);
         return env;
     }
 
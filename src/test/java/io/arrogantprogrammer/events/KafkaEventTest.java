@@ -28,7 +28,7 @@ public class KafkaEventTest {
         );
 
         // Publish event
-        producerService.publishEvent("attendee-registrations-outgoing", "1", event);
+        producerService.publishEvent("attendee-registered", "1", event);
 
         // Wait for message to be received
         await().atMost(Duration.ofSeconds(5)).until(() -> {
@@ -0,0 +1,145 @@
+package io.arrogantprogrammer.events;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.reactive.messaging.kafka.api.OutgoingKafkaRecordMetadata;
+import io.smallrye.reactive.messaging.memory.InMemoryConnector;
+import io.smallrye.reactive.messaging.memory.InMemorySink;
+import jakarta.inject.Inject;
+import org.apache.kafka.common.header.Headers;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.spi.Connector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+@QuarkusTestResource(InMemoryConnectorLifecycleManager.class)
+class OutboxRelayTest {
+
+    @Inject
+    KafkaProducerService producerService;
+
+    @Inject
+    OutboxRelay outboxRelay;
+
+    @Inject
+    OutboxRepository outboxRepository;
+
+    @Inject
+    @Connector("smallrye-in-memory")
+    InMemoryConnector connector;
+
+    InMemorySink<byte[]> sink;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay.drain();
+        sink = connector.sink("attendee-registrations-outgoing");
+        sink.clear();
+    }
+
+    @Test
+    void testPublishOnlyWritesTheOutbox() {
+        producerService.publishEvent("attendee-registered", "301", registration(301L));
+
+        assertTrue(sink.received().isEmpty());
+        assertEquals(1L, QuarkusTransaction.requiringNew().call(() -> outboxRepository.count("publishedAt IS NULL")));
+    }
+
+    @Test
+    void testRolledBackRegistrationIsNeverRelayed() {
+        QuarkusTransaction.begin();
+        producerService.publishEvent("attendee-registered", "302", registration(302L));
+        QuarkusTransaction.rollback();
+
+        assertEquals(0, outboxRelay.drain());
+        assertTrue(sink.received().isEmpty());
+    }
+
+    @Test
+    void testRelayDeliversInOrderPerKeyAndMarksPublished() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            producerService.publishEvent("attendee-registered", "303", registration(303L));
+            producerService.publishEvent("attendee-registered", "304", registration(304L));
+            producerService.publishEvent("attendee-registered", "303", registration(303L));
+        });
+
+        assertEquals(3, outboxRelay.drain());
+
+        List<String> keys = sink.received().stream().map(OutboxRelayTest::metadata).map(OutgoingKafkaRecordMetadata::getKey).toList();
+        assertEquals(List.of("303", "304", "303"), keys);
+        assertEquals("attendee-registered", metadata(sink.received().get(0)).getTopic());
+        Headers headers = metadata(sink.received().get(0)).getHeaders();
+        assertEquals(JsonEventFormat.NAME, new String(headers.lastHeader(EventFormat.FORMAT_HEADER).value(), StandardCharsets.US_ASCII));
+        assertEquals(303L, JsonEventFormat.INSTANCE.decode(sink.received().get(0).getPayload(), AttendeeRegistered.class).getAttendeeId());
+        assertEquals(0L, QuarkusTransaction.requiringNew().call(() -> outboxRepository.count("publishedAt IS NULL")));
+        assertEquals(0, outboxRelay.drain());
+    }
+
+    @Test
+    void testFailedEventHoldsBackLaterEventsOfItsKeyUntilParked() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            producerService.publishEvent("attendee-registered", "305", registration(305L));
+            producerService.publishEvent("attendee-registered", "305", registration(305L));
+            producerService.publishEvent("attendee-registered", "306", registration(306L));
+        });
+        Long failedId = QuarkusTransaction.requiringNew().call(() -> {
+            OutboxEvent first = outboxRepository.find("eventKey = ?1 ORDER BY id", "305").firstResult();
+            outboxRepository.markFailed(first.id, "broker unavailable", Instant.now().plusSeconds(60));
+            return first.id;
+        });
+
+        try {
+            assertEquals(1, outboxRelay.drain());
+            assertEquals(List.of("306"), keys());
+
+            QuarkusTransaction.requiringNew().run(() -> outboxRepository.park(failedId, "poison", Instant.now()));
+            assertEquals(1, outboxRelay.drain());
+            assertEquals(List.of("306", "305"), keys());
+            OutboxEvent parked = QuarkusTransaction.requiringNew().call(() -> outboxRepository.findById(failedId));
+            assertEquals(2, parked.attempts);
+            assertEquals("poison", parked.lastError);
+            assertNull(parked.publishedAt);
+            assertEquals(1L, QuarkusTransaction.requiringNew().call(outboxRepository::backlog).parked());
+        } finally {
+            QuarkusTransaction.requiringNew().run(() -> outboxRepository.deleteById(failedId));
+        }
+    }
+
+    @Test
+    void testNothingIsRelayedWhileAnotherInstanceHoldsTheLease() {
+        producerService.publishEvent("attendee-registered", "307", registration(307L));
+        assertTrue(QuarkusTransaction.requiringNew().call(() ->
+                outboxRepository.acquireLease("another-instance", Duration.ofMinutes(1))));
+        try {
+            assertEquals(0, outboxRelay.drain());
+            assertTrue(sink.received().isEmpty());
+        } finally {
+            QuarkusTransaction.requiringNew().run(() -> outboxRepository.releaseLease("another-instance"));
+        }
+        assertEquals(1, outboxRelay.drain());
+        assertEquals(List.of("307"), keys());
+    }
+
+    private List<String> keys() {
+        return sink.received().stream().map(OutboxRelayTest::metadata).map(OutgoingKafkaRecordMetadata::getKey).toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static OutgoingKafkaRecordMetadata<String> metadata(Message<byte[]> message) {
+        return message.getMetadata(OutgoingKafkaRecordMetadata.class).orElseThrow();
+    }
+
+    private AttendeeRegistered registration(Long attendeeId) {
+        return new AttendeeRegistered(attendeeId, "Outbox Tester", "outbox" + attendeeId + "@example.com",
+                "Acme", "M", "Vegan", "@outbox");
+    }
+}
@@ -1,6 +1,7 @@
 package io.arrogantprogrammer.locations;
 
 import io.quarkus.hibernate.orm.panache.PanacheQuery;
+import io.arrogantprogrammer.sharedkernel.http.CollectionVersions;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.WebApplicationException;
@@ -26,6 +27,9 @@ public class LocationServiceTest {
     @Mock
     LocationRepository locationRepository;
 
+    @Mock
+    CollectionVersions collectionVersions;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
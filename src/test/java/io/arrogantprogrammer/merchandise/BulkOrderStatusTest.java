@@ -0,0 +1,132 @@
+package io.arrogantprogrammer.merchandise;
+
+import io.arrogantprogrammer.events.AttendeeRegistered;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class BulkOrderStatusTest {
+
+    @Inject
+    MerchandiseService merchandiseService;
+
+    @Inject
+    InventoryService inventoryService;
+
+    @Inject
+    StatusEvents statusEvents;
+
+    @BeforeEach
+    void clearEvents() {
+        statusEvents.events.clear();
+    }
+
+    @Test
+    void testFilterUpdatesAWholeShipmentWithOneEvent() {
+        List<AttendeeRegistered> registrations = new ArrayList<>();
+        for (long attendeeId = 30_000; attendeeId < 35_000; attendeeId++) {
+            registrations.add(new AttendeeRegistered(attendeeId, "Attendee", "a" + attendeeId + "@example.com",
+                    null, "B1", null, null));
+        }
+        merchandiseService.createOrders(registrations);
+
+        BulkStatusResult result = merchandiseService.updateOrderStatuses(
+                BulkStatusRequest.forFilter("SHIPPED", MerchandiseOrder.PENDING, "B1"));
+
+        assertEquals(5000, result.updated());
+        assertTrue(result.outcomes().stream().allMatch(o -> o.result() == BulkStatusResult.Result.UPDATED));
+        assertEquals(1, statusEvents.events.size());
+        assertEquals(5000, statusEvents.events.get(0).orderIds().size());
+        assertEquals(0, merchandiseService.count("tShirtSize = ?1 AND orderStatus = ?2", "B1", MerchandiseOrder.PENDING));
+    }
+
+    @Test
+    void testFilterStopsAtTheBulkLimitAndReportsTruncation() {
+        List<AttendeeRegistered> registrations = new ArrayList<>();
+        for (long attendeeId = 50_000; attendeeId <= 60_000; attendeeId++) {
+            registrations.add(new AttendeeRegistered(attendeeId, "Attendee", "a" + attendeeId + "@example.com",
+                    null, "B5", null, null));
+        }
+        merchandiseService.createOrders(registrations);
+
+        BulkStatusResult first = merchandiseService.updateOrderStatuses(
+                BulkStatusRequest.forFilter("SHIPPED", MerchandiseOrder.PENDING, "B5"));
+        assertEquals(10_000, first.updated());
+        assertTrue(first.truncated());
+
+        BulkStatusResult rest = merchandiseService.updateOrderStatuses(
+                BulkStatusRequest.forFilter("SHIPPED", MerchandiseOrder.PENDING, "B5"));
+        assertEquals(1, rest.updated());
+        assertFalse(rest.truncated());
+        assertEquals(0, merchandiseService.count("tShirtSize = ?1 AND orderStatus = ?2", "B5", MerchandiseOrder.PENDING));
+    }
+
+    @Test
+    void testIdListReportsPerOrderOutcomesAndSettlesStock() {
+        String sku = InventoryService.tShirtSku("B2");
+        inventoryService.restock(sku, 2);
+        MerchandiseOrder first = merchandiseService.createOrder(36_001L, "B2");
+        MerchandiseOrder second = merchandiseService.createOrder(36_002L, "B2");
+        MerchandiseOrder backordered = merchandiseService.createOrder(36_003L, "B2");
+        merchandiseService.updateOrderStatus(second.getId(), "SHIPPED");
+        statusEvents.events.clear();
+
+        List<Long> ids = List.of(first.getId(), second.getId(), backordered.getId(), -1L);
+        BulkStatusResult result = merchandiseService.updateOrderStatuses(BulkStatusRequest.forIds("SHIPPED", ids));
+
+        assertEquals(2, result.updated());
+        assertEquals(List.of(BulkStatusResult.Result.UPDATED, BulkStatusResult.Result.UNCHANGED,
+                        BulkStatusResult.Result.UPDATED, BulkStatusResult.Result.NOT_FOUND),
+                result.outcomes().stream().map(BulkStatusResult.Outcome::result).toList());
+        assertEquals(MerchandiseOrder.BACKORDERED, result.outcomes().get(2).previousStatus());
+        assertEquals(List.of(first.getId(), backordered.getId()), statusEvents.events.get(0).orderIds());
+        assertEquals(new InventoryLevel(sku, 0, 0, 2), inventoryService.getLevel(sku));
+    }
+
+    @Test
+    void testBulkEndpoint() {
+        MerchandiseOrder order = merchandiseService.createOrder(37_001L, "B3");
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(Map.of("status", "SHIPPED", "orderIds", List.of(order.getId())))
+                .when().put("/api/merchandise/orders/status")
+                .then()
+                .statusCode(200)
+                .body("updated", is(1))
+                .body("outcomes[0].result", is("UPDATED"))
+                .body("outcomes[0].previousStatus", is("PENDING"));
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(Map.of("status", "SHIPPED"))
+                .when().put("/api/merchandise/orders/status")
+                .then()
+                .statusCode(400);
+    }
+
+    @ApplicationScoped
+    static class StatusEvents {
+
+        final List<OrderStatusChangedEvent> events = new CopyOnWriteArrayList<>();
+
+        void onChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) OrderStatusChangedEvent event) {
+            events.add(event);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package io.arrogantprogrammer.merchandise;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.ws.rs.WebApplicationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class InventoryServiceTest {
+
+    @Inject
+    InventoryService inventoryService;
+
+    @Inject
+    MerchandiseService merchandiseService;
+
+    @Inject
+    EntityManager entityManager;
+
+    @Test
+    void testConcurrentOrdersNeverOversell() throws Exception {
+        String sku = InventoryService.tShirtSku("5XL");
+        inventoryService.restock(sku, 50);
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        List<Future<String>> statuses = new ArrayList<>();
+        try {
+            for (int i = 0; i < 160; i++) {
+                long attendeeId = 20_000L + i;
+                statuses.add(executor.submit(() -> merchandiseService.createOrder(attendeeId, "5xl").getOrderStatus()));
+            }
+            int pending = 0;
+            for (Future<String> status : statuses) {
+                if (MerchandiseOrder.PENDING.equals(status.get())) {
+                    pending++;
+                }
+            }
+            assertEquals(50, pending);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(new InventoryLevel(sku, 0, 50, 0), inventoryService.getLevel(sku));
+    }
+
+    @Test
+    void testStatusTransitionsSettleStock() {
+        String sku = InventoryService.tShirtSku("6XL");
+        inventoryService.restock(sku, 2);
+        MerchandiseOrder fulfilled = merchandiseService.createOrder(21_001L, "6XL");
+        MerchandiseOrder cancelled = merchandiseService.createOrder(21_002L, "6XL");
+        MerchandiseOrder backordered = merchandiseService.createOrder(21_003L, "6XL");
+        assertEquals(MerchandiseOrder.BACKORDERED, backordered.getOrderStatus());
+
+        merchandiseService.updateOrderStatus(fulfilled.getId(), "FULFILLED");
+        merchandiseService.updateOrderStatus(cancelled.getId(), MerchandiseOrder.CANCELLED);
+        assertEquals(new InventoryLevel(sku, 1, 0, 1), inventoryService.getLevel(sku));
+
+        merchandiseService.updateOrderStatus(backordered.getId(), MerchandiseOrder.PENDING);
+        assertEquals(new InventoryLevel(sku, 0, 1, 1), inventoryService.getLevel(sku));
+
+        MerchandiseOrder late = merchandiseService.createOrder(21_004L, "6XL");
+        assertEquals(MerchandiseOrder.BACKORDERED, late.getOrderStatus());
+        WebApplicationException soldOut = assertThrows(WebApplicationException.class,
+                () -> merchandiseService.updateOrderStatus(late.getId(), MerchandiseOrder.PENDING));
+        assertEquals(409, soldOut.getResponse().getStatus());
+    }
+
+    @Test
+    void testOrdersPlacedBeforeStockingDoNotSettleOtherOrdersReservations() {
+        String sku = InventoryService.tShirtSku("10XL");
+        MerchandiseOrder cancelledEarly = merchandiseService.createOrder(21_101L, "10XL");
+        MerchandiseOrder fulfilledEarly = merchandiseService.createOrder(21_102L, "10XL");
+        inventoryService.restock(sku, 2);
+        MerchandiseOrder held = merchandiseService.createOrder(21_103L, "10XL");
+        assertFalse(cancelledEarly.isStockReserved());
+        assertTrue(held.isStockReserved());
+
+        merchandiseService.updateOrderStatus(cancelledEarly.getId(), MerchandiseOrder.CANCELLED);
+        merchandiseService.updateOrderStatus(fulfilledEarly.getId(), "FULFILLED");
+        assertEquals(new InventoryLevel(sku, 1, 1, 0), inventoryService.getLevel(sku));
+
+        merchandiseService.updateOrderStatus(held.getId(), "FULFILLED");
+        assertEquals(new InventoryLevel(sku, 1, 0, 1), inventoryService.getLevel(sku));
+        assertFalse(QuarkusTransaction.requiringNew().call(() ->
+                entityManager.find(MerchandiseOrder.class, held.getId()).isStockReserved()));
+    }
+
+    @Test
+    void testRolledBackOrderReturnsItsReservation() {
+        String sku = InventoryService.tShirtSku("7XL");
+        inventoryService.restock(sku, 1);
+
+        QuarkusTransaction.requiringNew().run(() -> {
+            merchandiseService.createOrder(22_001L, "7XL");
+            QuarkusTransaction.setRollbackOnly();
+        });
+
+        assertEquals(new InventoryLevel(sku, 1, 0, 0), inventoryService.getLevel(sku));
+    }
+
+    @Test
+    void testFlushWritesChangedLevelsAndStartupReloadsThem() {
+        String sku = InventoryService.tShirtSku("8XL");
+        inventoryService.restock(sku, 3);
+        merchandiseService.createOrder(23_001L, "8XL");
+
+        assertTrue(inventoryService.flush() >= 1);
+        assertEquals(0, inventoryService.flush(), "nothing changed since the last flush");
+        InventoryItem stored = QuarkusTransaction.requiringNew().call(() -> entityManager.find(InventoryItem.class, sku));
+        assertEquals(2, stored.getAvailable());
+        assertEquals(1, stored.getReserved());
+
+        inventoryService.load(null);
+        assertEquals(new InventoryLevel(sku, 2, 1, 0), inventoryService.getLevel(sku));
+    }
+
+    @Test
+    void testStartupRecoversReservationsThatWereNeverFlushed() {
+        String sku = InventoryService.tShirtSku("11XL");
+        inventoryService.restock(sku, 3);
+        merchandiseService.createOrder(23_101L, "11XL");
+        inventoryService.flush();
+        // the row as it was before the reservation, as if the process died before flushing it
+        storeLevel(new InventoryLevel(sku, 3, 0, 0));
+
+        inventoryService.load(null);
+
+        assertEquals(new InventoryLevel(sku, 2, 1, 0), inventoryService.getLevel(sku));
+        assertTrue(inventoryService.flush() >= 1);
+        InventoryItem stored = QuarkusTransaction.requiringNew().call(() -> entityManager.find(InventoryItem.class, sku));
+        assertEquals(2, stored.getAvailable());
+        assertEquals(1, stored.getReserved());
+    }
+
+    @Test
+    void testFlushAddsToTheStoredCountsInsteadOfOverwritingThem() {
+        String sku = InventoryService.tShirtSku("12XL");
+        inventoryService.restock(sku, 5);
+        // another writer sells two units behind this instance's back
+        storeLevel(new InventoryLevel(sku, 3, 0, 2));
+
+        merchandiseService.createOrder(23_201L, "12XL");
+        inventoryService.flush();
+
+        InventoryItem stored = QuarkusTransaction.requiringNew().call(() -> entityManager.find(InventoryItem.class, sku));
+        assertEquals(2, stored.getAvailable());
+        assertEquals(1, stored.getReserved());
+        assertEquals(2, stored.getSold());
+    }
+
+    @Test
+    void testUnstockedSizesAreNotTracked() {
+        MerchandiseOrder order = merchandiseService.createOrder(24_001L, "9XL");
+
+        assertEquals(MerchandiseOrder.PENDING, order.getOrderStatus());
+        assertNull(inventoryService.getLevel(InventoryService.tShirtSku("9XL")));
+    }
+
+    private void storeLevel(InventoryLevel level) {
+        QuarkusTransaction.requiringNew().run(() -> entityManager.createNativeQuery(
+                        "UPDATE merchandise_inventory SET available = ?1, reserved = ?2, sold = ?3 WHERE sku = ?4")
+                .setParameter(1, level.available())
+                .setParameter(2, level.reserved())
+                .setParameter(3, level.sold())
+                .setParameter(4, level.sku())
+                .executeUpdate());
+    }
+}
@@ -1,5 +1,6 @@
 package io.arrogantprogrammer.merchandise;
 
+import io.arrogantprogrammer.events.AttendeeRegistered;
 import io.quarkus.test.common.QuarkusTestResource;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.mockito.InjectSpy;
@@ -37,11 +38,12 @@ class MerchandiseEventConsumerTest {
     @Test
     void testEventConsumption() {
         // Setup
-        String eventJson = "{\"id\":1,\"name\":\"John Doe\",\"email\":\"john@example.com\"}";
-        InMemorySource<String> source = connector.source("attendee-registrations-merchandise");
+        AttendeeRegistered event = new AttendeeRegistered(1L, "John Doe", "john@example.com", "Acme Corp",
+                "L", "Vegetarian", "@johndoe");
+        InMemorySource<AttendeeRegistered> source = connector.source("attendee-registrations-merchandise");
 
         // Send test event
-        source.send(eventJson);
+        source.send(event);
 
         // Verify service was called
         await().atMost(Duration.ofSeconds(5)).until(() -> {
@@ -0,0 +1,104 @@
+package io.arrogantprogrammer.merchandise;
+
+import io.arrogantprogrammer.sharedkernel.pagination.PageLinks;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.response.Response;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class MerchandiseResourceTest {
+
+    @Inject
+    MerchandiseService merchandiseService;
+
+    @Test
+    void testOrdersArePagedWithCursors() {
+        for (long attendeeId = 9000; attendeeId < 9007; attendeeId++) {
+            merchandiseService.createOrder(attendeeId, "L");
+        }
+
+        List<Long> ids = new ArrayList<>();
+        String after = null;
+        int pages = 0;
+        do {
+            Response response = given()
+                    .queryParam("limit", 3)
+                    .queryParam("after", after == null ? "" : after)
+                    .when().get("/api/merchandise/orders")
+                    .then()
+                    .statusCode(200)
+                    .extract().response();
+            ids.addAll(response.jsonPath().getList("id", Long.class));
+            after = response.header(PageLinks.NEXT_CURSOR_HEADER);
+            if (after != null) {
+                assertTrue(response.header("Link").contains("after=" + after), response.header("Link"));
+                assertTrue(response.header("Link").contains("rel=\"next\""), response.header("Link"));
+            }
+            pages++;
+        } while (after != null);
+
+        assertTrue(ids.size() >= 7);
+        assertEquals(ids.size(), new HashSet<>(ids).size(), "a row was returned on two pages");
+        assertEquals((ids.size() + 2) / 3, pages);
+    }
+
+    @Test
+    void testMalformedCursorIsABadRequest() {
+        given()
+                .queryParam("after", "not-a-cursor")
+                .when().get("/api/merchandise/orders")
+                .then()
+                .statusCode(400);
+        given()
+                .queryParam("limit", 0)
+                .when().get("/api/merchandise/orders")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    void testOrdersExportAsNdjsonAndCsv() {
+        MerchandiseOrder order = merchandiseService.createOrder(9100L, "XL");
+
+        String ndjson = given()
+                .when().get("/api/merchandise/orders/export")
+                .then()
+                .statusCode(200)
+                .contentType(containsString("application/x-ndjson"))
+                .header("Content-Disposition", containsString("merchandise-orders.ndjson"))
+                .extract().asString();
+        String[] lines = ndjson.split("\n");
+        assertTrue(Arrays.stream(lines).allMatch(line -> line.startsWith("{") && line.endsWith("}")), ndjson);
+        assertTrue(ndjson.contains("\"attendeeId\":9100"), ndjson);
+
+        String csv = given()
+                .queryParam("format", "csv")
+                .when().get("/api/merchandise/orders/export")
+                .then()
+                .statusCode(200)
+                .contentType(containsString("text/csv"))
+                .extract().asString();
+        assertTrue(csv.startsWith("id,attendee_id,t_shirt_size,order_status,created_at\r\n"), csv);
+        assertTrue(csv.contains("\r\n" + order.getId() + ",9100,XL,PENDING,"), csv);
+        assertEquals(lines.length + 1, csv.split("\r\n").length);
+    }
+
+    @Test
+    void testUnknownExportFormatIsABadRequest() {
+        given()
+                .queryParam("format", "xml")
+                .when().get("/api/merchandise/orders/export")
+                .then()
+                .statusCode(400);
+    }
+}
@@ -0,0 +1,38 @@
+package io.arrogantprogrammer.sharedkernel.export;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingExportTest {
+
+    @Test
+    void testPlainCellsAreWrittenAsIs() throws IOException {
+        assertEquals("Vegetarian", cell("Vegetarian"));
+        assertEquals("", cell(""));
+    }
+
+    @Test
+    void testCellsWithSeparatorsQuotesOrLineBreaksAreQuoted() throws IOException {
+        assertEquals("\"No nuts, no dairy\"", cell("No nuts, no dairy"));
+        assertEquals("\"She said \"\"hi\"\"\"", cell("She said \"hi\""));
+        assertEquals("\"line one\nline two\"", cell("line one\nline two"));
+        assertEquals("\"carriage\rreturn\"", cell("carriage\rreturn"));
+    }
+
+    @Test
+    void testFormatNames() {
+        assertEquals(ExportFormat.NDJSON, ExportFormat.named(null));
+        assertEquals(ExportFormat.CSV, ExportFormat.named("csv"));
+        assertThrows(IllegalArgumentException.class, () -> ExportFormat.named("xml"));
+    }
+
+    private static String cell(String value) throws IOException {
+        StringWriter writer = new StringWriter();
+        StreamingExport.writeCell(writer, value);
+        return writer.toString();
+    }
+}
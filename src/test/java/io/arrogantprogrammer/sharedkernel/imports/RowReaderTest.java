@@ -0,0 +1,101 @@
+package io.arrogantprogrammer.sharedkernel.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.arrogantprogrammer.sharedkernel.export.ExportFormat;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RowReaderTest {
+
+    @Test
+    void testCsvCellsMayBeQuoted() throws IOException {
+        Rows rows = read(ExportFormat.CSV, "\uFEFFname,bio\r\n"
+                + "Jane,\"Likes commas, \"\"quotes\"\"\r\nand line breaks\"\n"
+                + "\n"
+                + "John,\n");
+
+        assertEquals(2, rows.rows.size());
+        assertEquals(1, rows.rows.get(0).number());
+        assertEquals("Jane", rows.rows.get(0).get("name"));
+        assertEquals("Likes commas, \"quotes\"\r\nand line breaks", rows.rows.get(0).get("bio"));
+        assertEquals(2, rows.rows.get(1).number());
+        assertNull(rows.rows.get(1).get("bio"));
+        assertTrue(rows.malformed.isEmpty());
+    }
+
+    @Test
+    void testCsvRowsWithTheWrongNumberOfCellsAreMalformed() throws IOException {
+        Rows rows = read(ExportFormat.CSV, "a,b\n1,2\n1,2,3\n4,5\n6,\"unterminated\n");
+
+        assertEquals(List.of(1L, 3L), rows.rows.stream().map(ImportRow::number).toList());
+        assertEquals(List.of("2: Expected 2 cells but found 3",
+                "4: Unterminated quoted cell, the rest of the file was not read"), rows.malformed);
+    }
+
+    @Test
+    void testNdjsonRowsAreReadLineByLine() throws IOException {
+        Rows rows = read(ExportFormat.NDJSON, "{\"title\": \"Reactive\", \"durationMinutes\": 45, "
+                + "\"speakerEmails\": [\"a@example.com\", \"b@example.com\"], \"bio\": null}\n"
+                + "{not json\n"
+                + "\n"
+                + "[1]\n"
+                + "{\"title\": \"Native\"}");
+
+        assertEquals(2, rows.rows.size());
+        ImportRow first = rows.rows.get(0);
+        assertEquals("Reactive", first.get("title"));
+        assertEquals("45", first.get("durationMinutes"));
+        assertEquals("a@example.com;b@example.com", first.get("speakerEmails"));
+        assertNull(first.get("bio"));
+        assertEquals(4, rows.rows.get(1).number());
+        assertEquals(2, rows.malformed.size());
+        assertTrue(rows.malformed.get(0).startsWith("2: Malformed JSON"), rows.malformed.get(0));
+        assertEquals("3: Expected a JSON object", rows.malformed.get(1));
+    }
+
+    @Test
+    void testJsonArraysAreReadElementByElement() throws IOException {
+        Rows rows = read(ExportFormat.NDJSON, "  [{\"title\": \"Reactive\"},\n {\"title\": \"Native\"}, \"x\"]");
+
+        assertEquals(List.of("Reactive", "Native"), rows.rows.stream().map(row -> row.get("title")).toList());
+        assertEquals(List.of("3: Expected a JSON object"), rows.malformed);
+    }
+
+    @Test
+    void testBrokenJsonArrayStopsReading() throws IOException {
+        Rows rows = read(ExportFormat.NDJSON, "[{\"title\": \"Reactive\"}, {\"title\": ");
+
+        assertEquals(1, rows.rows.size());
+        assertEquals(1, rows.malformed.size());
+        assertTrue(rows.malformed.get(0).startsWith("2: "), rows.malformed.get(0));
+    }
+
+    private static Rows read(ExportFormat format, String content) throws IOException {
+        Rows rows = new Rows();
+        RowReader.read(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), format, new ObjectMapper(), rows);
+        return rows;
+    }
+
+    private static final class Rows implements RowReader.RowHandler {
+
+        final List<ImportRow> rows = new ArrayList<>();
+        final List<String> malformed = new ArrayList<>();
+
+        @Override
+        public void row(ImportRow row) {
+            rows.add(row);
+        }
+
+        @Override
+        public void malformed(long number, String message) {
+            malformed.add(number + ": " + message);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.arrogantprogrammer.sharedkernel.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorTest {
+
+    @Test
+    void testEncodedCursorRoundTrips() {
+        Cursor cursor = new Cursor(Instant.parse("2025-05-14T09:30:00.123456Z"), 42L);
+        String encoded = cursor.encode();
+
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"), "cursor must be URL safe: " + encoded);
+        assertEquals(cursor, Cursor.decode(encoded));
+    }
+
+    @Test
+    void testMalformedCursorsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> Cursor.decode("not a cursor"));
+        assertThrows(IllegalArgumentException.class, () -> Cursor.decode("AAAA"));
+    }
+
+    @Test
+    void testPageKeepsLimitAndPointsAtLastKeptRow() {
+        PageRequest request = PageRequest.first(2);
+        CursorPage<Long> page = CursorPage.of(List.of(1L, 2L, 3L), request, id -> new Cursor(Instant.EPOCH, id));
+
+        assertEquals(List.of(1L, 2L), page.items());
+        assertEquals(2L, page.next().id());
+        assertFalse(CursorPage.of(List.of(1L, 2L), request, id -> new Cursor(Instant.EPOCH, id)).hasNext());
+    }
+
+    @Test
+    void testSeekDependsOnOrder() {
+        PageRequest after = new PageRequest(new Cursor(Instant.EPOCH, 7L), 10, PageRequest.Order.NEWEST_FIRST);
+
+        assertEquals("1 = 1", PageRequest.first(10).seek("p"));
+        assertEquals("(p.createdAt, p.id) < (:afterCreatedAt, :afterId)", after.seek("p"));
+        assertEquals(" ORDER BY createdAt DESC, id DESC", after.orderBy(""));
+        assertThrows(IllegalArgumentException.class, () -> PageRequest.first(PageRequest.MAX_LIMIT + 1));
+    }
+}
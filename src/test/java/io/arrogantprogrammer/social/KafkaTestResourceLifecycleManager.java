@@ -11,7 +11,7 @@ public class KafkaTestResourceLifecycleManager implements QuarkusTestResourceLif
     @Override
     public Map<String, String> start() {
         Map<String, String> env = new HashMap<>();
-        Map<String, String> props1 = InMemoryConnector.switchIncomingChannelsToInMemory("attendee-registrations-catering");
+        Map<String, String> props1 = InMemoryConnector.switchIncomingChannelsToInMemory("attendee-registrations-social");
         env.putAll(props1);
         return env;
     }
@@ -0,0 +1,139 @@
+package io.arrogantprogrammer.social;
+
+import io.arrogantprogrammer.events.AttendeeRegistered;
+import io.arrogantprogrammer.sharedkernel.pagination.CursorPage;
+import io.arrogantprogrammer.sharedkernel.pagination.PageRequest;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class SocialFeedCacheTest {
+
+    @Inject
+    SocialMediaService socialMediaService;
+
+    @Inject
+    SocialFeedCache feedCache;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Test
+    void testHomeFeedIsServedFromMemory() {
+        List<SocialPost> created = new ArrayList<>();
+        for (long attendeeId = 40_001; attendeeId <= 40_003; attendeeId++) {
+            created.add(socialMediaService.createWelcomePost(registration(attendeeId)));
+        }
+
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        CursorPage<SocialPost> page = socialMediaService.getRecentPosts(PageRequest.first(3));
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(List.of(created.get(2).getId(), created.get(1).getId(), created.get(0).getId()),
+                page.items().stream().map(SocialPost::getId).toList());
+    }
+
+    @Test
+    void testPagingPastTheTimelineFallsBackToTheDatabase() {
+        // more posts than the test profile's timeline holds
+        for (long attendeeId = 41_001; attendeeId <= 41_030; attendeeId++) {
+            socialMediaService.createWelcomePost(registration(attendeeId));
+        }
+
+        List<Long> paged = new ArrayList<>();
+        CursorPage<SocialPost> page = socialMediaService.getRecentPosts(PageRequest.first(7));
+        paged.addAll(page.items().stream().map(SocialPost::getId).toList());
+        while (page.hasNext()) {
+            PageRequest next = new PageRequest(page.next(), 7, PageRequest.Order.NEWEST_FIRST);
+            page = socialMediaService.getRecentPosts(next);
+            paged.addAll(page.items().stream().map(SocialPost::getId).toList());
+        }
+
+        List<Long> expected = QuarkusTransaction.requiringNew().call(() ->
+                SocialPost.<SocialPost>findAll(Sort.descending("createdAt", "id")).list().stream()
+                        .map(SocialPost::getId).toList());
+        assertEquals(expected, paged);
+    }
+
+    @Test
+    void testDeletedPostsLeaveTheFeed() {
+        SocialPost post = socialMediaService.createWelcomePost(registration(42_001L));
+        assertEquals(post.getId(), socialMediaService.getRecentPosts(PageRequest.first(1)).items().get(0).getId());
+
+        socialMediaService.deletePost(post.getId());
+
+        assertTrue(socialMediaService.getRecentPosts(PageRequest.first(PageRequest.MAX_LIMIT)).items().stream()
+                .noneMatch(p -> p.getId().equals(post.getId())));
+    }
+
+    @Test
+    void testAttendeePostsAreCachedAndKeptCurrent() {
+        SocialPost first = socialMediaService.createWelcomePost(registration(43_001L));
+        assertEquals(List.of(first.getId()), ids(socialMediaService.getPostsByAttendee(43_001L)));
+
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        assertEquals(List.of(first.getId()), ids(socialMediaService.getPostsByAttendee(43_001L)));
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        SocialPost second = socialMediaService.createWelcomePost(registration(43_001L));
+        assertEquals(List.of(second.getId(), first.getId()), ids(socialMediaService.getPostsByAttendee(43_001L)));
+    }
+
+    @Test
+    void testLeastRecentlyReadAttendeeIsEvictedFirst() {
+        for (long attendeeId = 45_001; attendeeId <= 45_004; attendeeId++) {
+            socialMediaService.createWelcomePost(registration(attendeeId));
+        }
+        // the test profile caches three attendees
+        socialMediaService.getPostsByAttendee(45_001L);
+        socialMediaService.getPostsByAttendee(45_002L);
+        socialMediaService.getPostsByAttendee(45_003L);
+        socialMediaService.getPostsByAttendee(45_001L);
+        socialMediaService.getPostsByAttendee(45_004L);
+
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        socialMediaService.getPostsByAttendee(45_001L);
+        assertEquals(0, statistics.getPrepareStatementCount(), "read recently, still cached");
+        socialMediaService.getPostsByAttendee(45_002L);
+        assertEquals(1, statistics.getPrepareStatementCount(), "read least recently, evicted");
+    }
+
+    @Test
+    void testBatchInsertsAddTheirPostsToTheTimeline() {
+        socialMediaService.createWelcomePosts(List.of(registration(44_001L), registration(44_002L)));
+
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        List<SocialPost> cached = socialMediaService.getRecentPosts(PageRequest.first(2)).items();
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(cached.stream().map(SocialPost::getAttendeeId).toList().containsAll(List.of(44_001L, 44_002L)),
+                cached.toString());
+
+        List<Long> stored = QuarkusTransaction.requiringNew().call(() ->
+                SocialPost.<SocialPost>find("attendeeId in ?1", Sort.descending("createdAt", "id"), List.of(44_001L, 44_002L))
+                        .list().stream().map(SocialPost::getId).toList());
+        assertEquals(stored, ids(cached));
+    }
+
+    private static List<Long> ids(List<SocialPost> posts) {
+        return posts.stream().map(SocialPost::getId).toList();
+    }
+
+    private static AttendeeRegistered registration(long attendeeId) {
+        return new AttendeeRegistered(attendeeId, "Attendee " + attendeeId, "a" + attendeeId + "@example.com",
+                null, "M", null, "@attendee" + attendeeId);
+    }
+}
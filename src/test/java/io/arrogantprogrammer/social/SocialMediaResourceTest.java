@@ -1,6 +1,7 @@
 package io.arrogantprogrammer.social;
 
 import io.arrogantprogrammer.events.AttendeeRegistered;
+import io.arrogantprogrammer.sharedkernel.pagination.CursorPage;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.mockito.InjectMock;
 import jakarta.ws.rs.core.Response;
@@ -37,8 +38,8 @@ public class SocialMediaResourceTest {
             "Twitter",
             2L
         );
-        Mockito.when(socialMediaService.getRecentPosts())
-            .thenReturn(Arrays.asList(post1, post2));
+        Mockito.when(socialMediaService.getRecentPosts(any()))
+            .thenReturn(new CursorPage<>(Arrays.asList(post1, post2), null));
         
         // When/Then
         given()
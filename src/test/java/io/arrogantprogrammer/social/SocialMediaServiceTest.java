@@ -1,6 +1,7 @@
 package io.arrogantprogrammer.social;
 
     import io.arrogantprogrammer.events.AttendeeRegistered;
+    import io.arrogantprogrammer.sharedkernel.pagination.PageRequest;
     import io.quarkus.test.junit.QuarkusTest;
     import jakarta.inject.Inject;
     import jakarta.transaction.Transactional;
@@ -38,7 +39,7 @@ package io.arrogantprogrammer.social;
             socialMediaService.createWelcomePost(event2);
 
             // When
-            List<SocialPost> posts = socialMediaService.getRecentPosts();
+            List<SocialPost> posts = socialMediaService.getRecentPosts(PageRequest.first(PageRequest.MAX_LIMIT)).items();
             posts.stream().map(post -> post.getContent()).forEach(System.out::println);
 
             // Then
@@ -114,4 +115,44 @@ package io.arrogantprogrammer.social;
             // Then
             assertNull(socialMediaService.getPost(post.getId()));
         }
+
+        @Test
+        @Order(5)
+        public void testCreateWelcomePostsForCampaign() {
+            // Given
+            List<AttendeeRegistered> events = List.of(
+                new AttendeeRegistered(501L, "Frank Green", "frank@example.com", "Acme Corp", "M", null, "@frankgreen"),
+                new AttendeeRegistered(502L, "Grace Hall", "grace@example.com", "Acme Corp", "S", null, "@gracehall")
+            );
+
+            // When
+            int created = socialMediaService.createWelcomePosts(events, "early-bird");
+
+            // Then
+            assertEquals(2, created);
+            assertEquals("Early bird Frank Green, see you soon @frankgreen",
+                    socialMediaService.getPostsByAttendee(501L).get(0).getContent());
+            assertEquals("Early bird Grace Hall, see you soon @gracehall",
+                    socialMediaService.getPostsByAttendee(502L).get(0).getContent());
+        }
+
+        @Test
+        @Order(6)
+        public void testBatchedAndSinglePostsShareTheIdSequence() {
+            // Given
+            socialMediaService.createWelcomePosts(List.of(
+                new AttendeeRegistered(601L, "Hank Ives", "hank@example.com", "Acme Corp", "L", null, "@hankives"),
+                new AttendeeRegistered(602L, "Iris Jones", "iris@example.com", "Acme Corp", "M", null, "@irisjones")
+            ));
+
+            // When
+            SocialPost single = socialMediaService.createWelcomePost(new AttendeeRegistered(
+                603L, "Jack King", "jack@example.com", "Acme Corp", "S", null, "@jackking"));
+
+            // Then
+            Long batched = socialMediaService.getPostsByAttendee(602L).get(0).getId();
+            assertNotNull(batched);
+            assertTrue(single.getId() > batched);
+            assertEquals(single.getContent(), socialMediaService.getPost(single.getId()).getContent());
+        }
     }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package io.arrogantprogrammer.social;
+
+import io.arrogantprogrammer.events.AttendeeRegistered;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WelcomeTemplateTest {
+
+    private final AttendeeRegistered event = new AttendeeRegistered(1L, "Jane Doe", "jane@example.com",
+            "Acme Corp", "M", "Vegan", "@janedoe");
+
+    @Test
+    void testDefaultTemplateMatchesTheFormattedText() {
+        String expected = String.format(
+                "Welcome %s to our conference! We're excited to have you join us. " +
+                "Don't forget to follow us for updates and connect with other attendees at %s",
+                event.getName(), event.getSocialMedia());
+
+        assertEquals(expected, WelcomeTemplate.compile(WelcomeTemplates.DEFAULT_TEMPLATE).render(event));
+    }
+
+    @Test
+    void testPlaceholdersAtTheEdgesAndMissingValues() {
+        WelcomeTemplate template = WelcomeTemplate.compile("{name} from {company}{socialMedia}");
+
+        assertEquals("Jane Doe from Acme Corp@janedoe", template.render(event));
+        assertEquals("Sam from ", template.render(new AttendeeRegistered(2L, "Sam", null, null, null, null, null)));
+        assertEquals("no placeholders", WelcomeTemplate.compile("no placeholders").render(event));
+    }
+
+    @Test
+    void testRenderingIntoAReusedBuffer() {
+        WelcomeTemplate template = WelcomeTemplate.compile("Hi {name} <{email}>");
+        StringBuilder buffer = new StringBuilder();
+
+        template.renderTo(buffer, event);
+        buffer.setLength(0);
+        template.renderTo(buffer, new AttendeeRegistered(2L, "Sam", "sam@example.com", null, null, null, null));
+
+        assertEquals("Hi Sam <sam@example.com>", buffer.toString());
+    }
+
+    @Test
+    void testInvalidTemplatesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> WelcomeTemplate.compile("Hi {nickname}"));
+        assertThrows(IllegalArgumentException.class, () -> WelcomeTemplate.compile("Hi {name"));
+    }
+}
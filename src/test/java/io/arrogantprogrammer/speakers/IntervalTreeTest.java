@@ -0,0 +1,78 @@
+package io.arrogantprogrammer.speakers;
+
+import io.arrogantprogrammer.sessions.IntervalTree;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntervalTreeTest {
+
+    @Test
+    void testHalfOpenIntervalsDoNotOverlapAtBoundaries() {
+        IntervalTree<Integer, Long> tree = new IntervalTree<>();
+        tree.insert(9, 10, 1L);
+        tree.insert(10, 11, 2L);
+
+        assertEquals(List.of(1L), tree.findOverlaps(9, 10));
+        assertEquals(List.of(1L, 2L), tree.findOverlaps(9, 11));
+        assertTrue(tree.findOverlaps(11, 12).isEmpty());
+    }
+
+    @Test
+    void testRemove() {
+        IntervalTree<Integer, Long> tree = new IntervalTree<>();
+        tree.insert(1, 5, 1L);
+        tree.insert(1, 5, 2L);
+
+        assertTrue(tree.remove(1, 1L));
+        assertFalse(tree.remove(1, 1L));
+        assertEquals(List.of(2L), tree.findOverlaps(0, 10));
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    void testRejectsEmptyInterval() {
+        IntervalTree<Integer, Long> tree = new IntervalTree<>();
+        assertThrows(IllegalArgumentException.class, () -> tree.insert(5, 5, 1L));
+    }
+
+    @Test
+    void testMatchesBruteForceUnderRandomOperations() {
+        Random random = new Random(42);
+        IntervalTree<Integer, Long> tree = new IntervalTree<>();
+        Map<Long, int[]> live = new HashMap<>();
+        long nextId = 0;
+
+        for (int i = 0; i < 20_000; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || live.isEmpty()) {
+                int start = random.nextInt(1000);
+                int end = start + 1 + random.nextInt(50);
+                tree.insert(start, end, nextId);
+                live.put(nextId++, new int[]{start, end});
+            } else if (operation == 1) {
+                Long id = new ArrayList<>(live.keySet()).get(random.nextInt(live.size()));
+                assertTrue(tree.remove(live.remove(id)[0], id));
+            } else {
+                int start = random.nextInt(1000);
+                int end = start + 1 + random.nextInt(60);
+                Set<Long> expected = new HashSet<>();
+                live.forEach((id, interval) -> {
+                    if (interval[0] < end && start < interval[1]) {
+                        expected.add(id);
+                    }
+                });
+                assertEquals(expected, new HashSet<>(tree.findOverlaps(start, end)));
+            }
+            assertEquals(live.size(), tree.size());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package io.arrogantprogrammer.speakers;
+
+import io.arrogantprogrammer.sessions.Session;
+import io.arrogantprogrammer.sessions.SessionDTO;
+import io.arrogantprogrammer.sessions.SessionRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class SessionReadModelTest {
+
+    @Inject
+    SessionRepository sessionRepository;
+
+    @Inject
+    SpeakerRepository speakerRepository;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Test
+    void testStatementCountDoesNotGrowWithSessions() {
+        createSessions(3);
+        long fewSessions = countStatementsForListing();
+
+        createSessions(20);
+        long manySessions = countStatementsForListing();
+
+        assertTrue(fewSessions <= 2, "listing took " + fewSessions + " statements");
+        assertEquals(fewSessions, manySessions);
+    }
+
+    @Test
+    void testSpeakersAndSocialMediaAreProjected() {
+        Long sessionId = createSessions(1).get(0);
+
+        SessionDTO session = QuarkusTransaction.requiringNew().call(() -> sessionRepository.listAllWithSpeakers()).stream()
+                .filter(dto -> dto.id.equals(sessionId))
+                .findFirst()
+                .orElseThrow();
+
+        assertEquals(2, session.speakers.size());
+        assertEquals("Read Model Speaker 0", session.speakers.get(0).name);
+        assertEquals(1, session.speakers.get(0).socialMedia.size());
+        assertEquals("@speaker0", session.speakers.get(0).socialMedia.get(0).handle);
+    }
+
+    private long countStatementsForListing() {
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        QuarkusTransaction.requiringNew().run(() -> sessionRepository.listAllWithSpeakers());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<Long> createSessions(int count) {
+        return QuarkusTransaction.requiringNew().call(() -> {
+            Speaker first = createSpeaker(0);
+            Speaker second = createSpeaker(1);
+            return IntStream.range(0, count)
+                    .mapToObj(i -> {
+                        Session session = new Session();
+                        session.title = "Read Model Session " + i;
+                        session.startTime = LocalDateTime.of(2025, 5, 14, 9, 0).plusMinutes(i);
+                        session.endTime = session.startTime.plusMinutes(45);
+                        session.room = "Room " + (i % 3);
+                        session.speakerEntities.add(first);
+                        session.speakerEntities.add(second);
+                        sessionRepository.persist(session);
+                        return session.id;
+                    })
+                    .toList();
+        });
+    }
+
+    private Speaker createSpeaker(int index) {
+        Speaker speaker = new Speaker();
+        speaker.name = "Read Model Speaker " + index;
+        SocialMedia socialMedia = new SocialMedia();
+        socialMedia.platform = "twitter";
+        socialMedia.handle = "@speaker" + index;
+        socialMedia.speaker = speaker;
+        speaker.socialMedia.add(socialMedia);
+        speakerRepository.persist(speaker);
+        return speaker;
+    }
+}
@@ -178,4 +178,115 @@ class SessionResourceTest {
             .then()
             .statusCode(404);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testDoubleBookedRoomIsRejected() {
+        Map<String, Object> session = new HashMap<>();
+        session.put("title", "Workshop");
+        session.put("room", "Conflict Room");
+        session.put("startTime", "2025-06-01T10:00:00");
+        session.put("endTime", "2025-06-01T11:00:00");
+        Long id = ((Number) given()
+            .contentType(ContentType.JSON)
+            .body(session)
+            .when()
+            .post("/api/sessions")
+            .then()
+            .statusCode(201)
+            .extract()
+            .path("id")).longValue();
+
+        session.put("title", "Overlapping Workshop");
+        session.put("startTime", "2025-06-01T10:30:00");
+        session.put("endTime", "2025-06-01T11:30:00");
+        given()
+            .contentType(ContentType.JSON)
+            .body(session)
+            .when()
+            .post("/api/sessions")
+            .then()
+            .statusCode(409)
+            .body("[0].type", is("ROOM"))
+            .body("[0].conflictingSessionId", is(id.intValue()));
+
+        given()
+            .queryParam("room", "Conflict Room")
+            .queryParam("start", "2025-06-01T10:45:00")
+            .queryParam("end", "2025-06-01T11:15:00")
+            .when()
+            .get("/api/sessions/conflicts")
+            .then()
+            .statusCode(200)
+            .body("$", hasSize(1));
+
+        given()
+            .queryParam("room", "Conflict Room")
+            .queryParam("start", "2025-06-01T11:00:00")
+            .queryParam("end", "2025-06-01T12:00:00")
+            .when()
+            .get("/api/sessions/conflicts")
+            .then()
+            .statusCode(200)
+            .body("$", hasSize(0));
+    }
+
+    @Test
+    void testDeletedSpeakerLeavesNoConflicts() {
+        Map<String, Object> speaker = new HashMap<>();
+        speaker.put("name", "Carol");
+        Long speakerId = ((Number) given()
+            .contentType(ContentType.JSON)
+            .body(speaker)
+            .when()
+            .post("/api/speakers")
+            .then()
+            .statusCode(201)
+            .extract()
+            .path("id")).longValue();
+
+        Map<String, Object> session = new HashMap<>();
+        session.put("title", "Speaker Deletion Talk");
+        session.put("startTime", "2025-06-02T10:00:00");
+        session.put("endTime", "2025-06-02T11:00:00");
+        Long id = ((Number) given()
+            .contentType(ContentType.JSON)
+            .body(session)
+            .when()
+            .post("/api/sessions")
+            .then()
+            .statusCode(201)
+            .extract()
+            .path("id")).longValue();
+        given()
+            .when()
+            .post("/api/sessions/" + id + "/speakers/" + speakerId)
+            .then()
+            .statusCode(200);
+
+        given()
+            .queryParam("speakerId", speakerId)
+            .queryParam("start", "2025-06-02T10:30:00")
+            .queryParam("end", "2025-06-02T11:30:00")
+            .when()
+            .get("/api/sessions/conflicts")
+            .then()
+            .statusCode(200)
+            .body("$", hasSize(1));
+
+        given()
+            .when()
+            .delete("/api/speakers/" + speakerId)
+            .then()
+            .statusCode(204);
+
+        given()
+            .queryParam("speakerId", speakerId)
+            .queryParam("start", "2025-06-02T10:30:00")
+            .queryParam("end", "2025-06-02T11:30:00")
+            .when()
+            .get("/api/sessions/conflicts")
+            .then()
+            .statusCode(200)
+            .body("$", hasSize(0));
+    }
+}
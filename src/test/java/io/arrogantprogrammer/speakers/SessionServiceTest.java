@@ -1,8 +1,13 @@
 package io.arrogantprogrammer.speakers;
 
+import io.arrogantprogrammer.sessions.ScheduleConflict;
+import io.arrogantprogrammer.sessions.ScheduleConflictException;
+import io.arrogantprogrammer.sessions.ScheduleIndex;
 import io.arrogantprogrammer.sessions.Session;
+import io.arrogantprogrammer.sessions.SessionChangedEvent;
 import io.arrogantprogrammer.sessions.SessionRepository;
 import io.arrogantprogrammer.sessions.SessionService;
+import jakarta.enterprise.event.Event;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -23,6 +28,10 @@ class SessionServiceTest {
     SessionRepository sessionRepository;
     @Mock
     SpeakerRepository speakerRepository;
+    @Mock
+    Event<SessionChangedEvent> sessionChanged;
+    @Mock
+    ScheduleIndex scheduleIndex;
     @InjectMocks
     SessionService sessionService;
 
@@ -67,6 +76,20 @@ class SessionServiceTest {
         assertEquals("Updated", updated.get().title);
     }
 
+    @Test
+    void testUpdateSessionRejectsScheduleConflict() {
+        when(sessionRepository.findByIdOptional(10L)).thenReturn(Optional.of(session));
+        doThrow(new ScheduleConflictException(List.of(new ScheduleConflict(ScheduleConflict.Type.ROOM, "Room 1", null, 10L, 11L))))
+                .when(scheduleIndex).place(session);
+        Session update = new Session();
+        update.title = "Updated";
+        update.startTime = LocalDateTime.now();
+        update.endTime = LocalDateTime.now().plusHours(1);
+        update.room = "Room 1";
+        assertThrows(ScheduleConflictException.class, () -> sessionService.updateSession(10L, update));
+        verify(sessionChanged, never()).fire(any());
+    }
+
     @Test
     void testDeleteSession() {
         when(sessionRepository.deleteById(10L)).thenReturn(true);
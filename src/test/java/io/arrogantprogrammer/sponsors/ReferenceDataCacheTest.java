@@ -0,0 +1,114 @@
+package io.arrogantprogrammer.sponsors;
+
+import io.arrogantprogrammer.locations.Location;
+import io.arrogantprogrammer.locations.LocationService;
+import io.arrogantprogrammer.speakers.Speaker;
+import io.arrogantprogrammer.speakers.SpeakerService;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.WebApplicationException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sponsors, locations and speakers are second-level cached: once loaded, reads in new sessions are
+ * answered without SQL until the entity is written again.
+ */
+@QuarkusTest
+class ReferenceDataCacheTest {
+
+    @Inject
+    SponsorService sponsorService;
+
+    @Inject
+    LocationService locationService;
+
+    @Inject
+    SpeakerService speakerService;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Test
+    void testRepeatedSponsorReadsDoNotHitTheDatabase() {
+        Sponsor sponsor = new Sponsor();
+        sponsor.name = "Cached Corp";
+        sponsor.tier = Sponsor.SponsorTier.GOLD;
+        Long id = sponsorService.createSponsor(sponsor).id;
+        read(() -> sponsorService.getSponsorById(id));
+        read(sponsorService::getAllSponsors);
+
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        for (int i = 0; i < 3; i++) {
+            assertEquals("Cached Corp", read(() -> sponsorService.getSponsorById(id)).name);
+            assertTrue(read(sponsorService::getAllSponsors).stream().anyMatch(s -> s.id.equals(id)));
+        }
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(3, statistics.getQueryCacheHitCount());
+        assertTrue(statistics.getSecondLevelCacheHitCount() >= 3);
+
+        Sponsor update = new Sponsor();
+        update.name = "Renamed Corp";
+        update.tier = Sponsor.SponsorTier.SILVER;
+        sponsorService.updateSponsor(id, update);
+        assertEquals("Renamed Corp", read(() -> sponsorService.getSponsorById(id)).name);
+        assertTrue(read(sponsorService::getAllSponsors).stream().anyMatch(s -> "Renamed Corp".equals(s.name)));
+
+        sponsorService.deleteSponsor(id);
+        assertThrows(WebApplicationException.class, () -> read(() -> sponsorService.getSponsorById(id)));
+        assertTrue(read(sponsorService::getAllSponsors).stream().noneMatch(s -> s.id.equals(id)));
+    }
+
+    @Test
+    void testRepeatedLocationReadsDoNotHitTheDatabase() {
+        Location location = new Location();
+        location.name = "Hall C";
+        location.type = Location.LocationType.VENUE;
+        location.address = "1 Main Street";
+        Long id = locationService.createLocation(location).id;
+        read(() -> locationService.getLocationById(id));
+
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        for (int i = 0; i < 3; i++) {
+            assertEquals("Hall C", read(() -> locationService.getLocationById(id)).name);
+        }
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(3, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    void testRepeatedSpeakerReadsDoNotHitTheDatabase() {
+        Long id = speakerService.createSpeaker(new Speaker("Cached Speaker", "cached@example.com", "Engineer",
+                "Acme Corp", "Bio", null, new ArrayList<>())).id;
+        read(() -> speakerService.getSpeaker(id));
+
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        for (int i = 0; i < 3; i++) {
+            assertEquals("Cached Speaker", read(() -> speakerService.getSpeaker(id)).orElseThrow().name);
+        }
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        Speaker update = new Speaker("Renamed Speaker", null, "Engineer", "Acme Corp", "Bio", null, List.of());
+        speakerService.updateSpeaker(id, update);
+        assertEquals("Renamed Speaker", read(() -> speakerService.getSpeaker(id)).orElseThrow().name);
+    }
+
+    /**
+     * Every read runs in its own transaction, and therefore its own session, so nothing is served
+     * from the first-level cache.
+     */
+    private static <T> T read(Supplier<T> query) {
+        return QuarkusTransaction.requiringNew().call(query::get);
+    }
+}
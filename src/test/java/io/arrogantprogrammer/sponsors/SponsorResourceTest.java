@@ -0,0 +1,64 @@
+package io.arrogantprogrammer.sponsors;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+@QuarkusTest
+class SponsorResourceTest {
+
+    @Test
+    void testListingCarriesETagAndCacheControl() {
+        given()
+            .when()
+            .get("/api/sponsors")
+            .then()
+            .statusCode(200)
+            .header("ETag", startsWith("\"sponsors-"))
+            .header("Cache-Control", containsString("must-revalidate"));
+    }
+
+    @Test
+    void testMatchingIfNoneMatchReturnsNotModified() {
+        String etag = given().when().get("/api/sponsors").then().statusCode(200).extract().header("ETag");
+
+        given()
+            .header("If-None-Match", etag)
+            .when()
+            .get("/api/sponsors")
+            .then()
+            .statusCode(304)
+            .header("ETag", is(etag))
+            .body(emptyOrNullString());
+    }
+
+    @Test
+    void testWriteChangesETag() {
+        String etag = given().when().get("/api/sponsors").then().statusCode(200).extract().header("ETag");
+
+        given()
+            .contentType(ContentType.JSON)
+            .body(Map.of("name", "Conditional Co", "tier", "GOLD"))
+            .when()
+            .post("/api/sponsors")
+            .then()
+            .statusCode(201);
+
+        String next = given()
+            .header("If-None-Match", etag)
+            .when()
+            .get("/api/sponsors")
+            .then()
+            .statusCode(200)
+            .body("name", hasItem("Conditional Co"))
+            .extract()
+            .header("ETag");
+        assertNotEquals(etag, next);
+    }
+}
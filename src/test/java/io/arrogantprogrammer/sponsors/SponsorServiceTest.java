@@ -1,5 +1,6 @@
 package io.arrogantprogrammer.sponsors;
 
+import io.arrogantprogrammer.sharedkernel.http.CollectionVersions;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.ws.rs.WebApplicationException;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +25,9 @@ public class SponsorServiceTest {
     @Mock
     SponsorRepository sponsorRepository;
 
+    @Mock
+    CollectionVersions collectionVersions;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);